@@ -0,0 +1,41 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.benchmarks;
+
+import de.caluga.morphium.annotations.Entity;
+import de.caluga.morphium.annotations.Id;
+import de.caluga.morphium.annotations.Property;
+
+/**
+ * Account document moved between by {@link TransferService} in the transaction load test.
+ */
+@Entity(collectionName = "bench_accounts")
+public class Account {
+
+    @Id
+    private String id;
+
+    @Property(fieldName = "balance")
+    private long balance;
+
+    // --- accessors ---
+
+    public String getId()                  { return id; }
+    public void   setId(String id)         { this.id = id; }
+
+    public long   getBalance()                 { return balance; }
+    public void   setBalance(long balance)     { this.balance = balance; }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.benchmarks;
+
+import de.caluga.morphium.annotations.Entity;
+import de.caluga.morphium.annotations.Id;
+import de.caluga.morphium.annotations.Index;
+import de.caluga.morphium.annotations.Property;
+
+/**
+ * Flat entity queried by the repository benchmarks.
+ */
+@Entity(collectionName = "bench_items")
+@Index({"category,seq"})
+public class BenchItem {
+
+    @Id
+    private String id;
+
+    @Property(fieldName = "name")
+    private String name;
+
+    @Property(fieldName = "category")
+    private String category;
+
+    @Property(fieldName = "seq")
+    private int seq;
+
+    @Property(fieldName = "price")
+    private double price;
+
+    // --- accessors ---
+
+    public String getId()             { return id; }
+    public void   setId(String id)    { this.id = id; }
+
+    public String getName()              { return name; }
+    public void   setName(String name)   { this.name = name; }
+
+    public String getCategory()                  { return category; }
+    public void   setCategory(String category)   { this.category = category; }
+
+    public int    getSeq()            { return seq; }
+    public void   setSeq(int seq)     { this.seq = seq; }
+
+    public double getPrice()               { return price; }
+    public void   setPrice(double price)   { this.price = price; }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.benchmarks;
+
+import jakarta.data.page.CursoredPage;
+import jakarta.data.page.Page;
+import jakarta.data.page.PageRequest;
+import jakarta.data.repository.BasicRepository;
+import jakarta.data.repository.By;
+import jakarta.data.repository.Find;
+import jakarta.data.repository.OrderBy;
+import jakarta.data.repository.Param;
+import jakarta.data.repository.Query;
+import jakarta.data.repository.Repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * One method per repository flavour, all selecting the same documents so that each can be
+ * compared with the equivalent hand-written query in {@link RepositoryBenchmark}.
+ */
+@Repository
+public interface BenchItemRepository extends BasicRepository<BenchItem, String> {
+
+    List<BenchItem> findByCategory(String category);
+
+    @Find
+    List<BenchItem> findInCategory(@By("category") String category);
+
+    @Query("WHERE category = :category")
+    List<BenchItem> queryByCategory(@Param("category") String category);
+
+    Page<BenchItem> findByCategoryOrderBySeq(String category, PageRequest pageRequest);
+
+    @Find
+    @OrderBy("seq")
+    @OrderBy("id")
+    CursoredPage<BenchItem> cursorByCategory(@By("category") String category, PageRequest pageRequest);
+
+    @Find
+    Stream<BenchItem> streamByCategory(@By("category") String category);
+}
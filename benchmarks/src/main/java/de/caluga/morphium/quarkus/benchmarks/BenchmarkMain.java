@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.benchmarks;
+
+import io.quarkus.runtime.QuarkusApplication;
+import io.quarkus.runtime.annotations.QuarkusMain;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+
+/**
+ * Entry point of the benchmark application.
+ *
+ * <p>Starts Quarkus (which produces the {@code Morphium} bean and the generated Jakarta Data
+ * repositories) and then runs JMH <em>in process</em>: a forked JMH JVM would only see the
+ * plain class path, without the build-time generated repository implementations. Standard JMH
+ * command line options are accepted, e.g. {@code java -jar quarkus-run.jar Repository -wi 3}.
+ * The GC profiler is enabled unless other profilers are requested with {@code -prof}.
+ *
+ * <p>{@code java -jar quarkus-run.jar load [options]} runs the {@link TransactionLoadTest}
+ * instead of JMH.
+ */
+@QuarkusMain
+public class BenchmarkMain implements QuarkusApplication {
+
+    @Override
+    public int run(String... args) throws Exception {
+        if (args.length > 0 && "load".equals(args[0])) {
+            return new TransactionLoadTest().run(Arrays.copyOfRange(args, 1, args.length));
+        }
+        CommandLineOptions cli = new CommandLineOptions(args);
+        if (cli.shouldHelp()) {
+            cli.showHelp();
+            return 0;
+        }
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(cli).forks(0);
+        if (cli.getProfilers().isEmpty()) {
+            // Allocation rate per operation (gc.alloc.rate.norm) is the number we compare most
+            options.addProfiler(GCProfiler.class);
+        }
+        Runner runner = new Runner(options.build());
+        if (cli.shouldList()) {
+            runner.list();
+        } else {
+            runner.run();
+        }
+        return 0;
+    }
+}
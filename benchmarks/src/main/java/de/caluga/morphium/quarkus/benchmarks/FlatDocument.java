@@ -0,0 +1,79 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.benchmarks;
+
+import de.caluga.morphium.annotations.Entity;
+import de.caluga.morphium.annotations.Id;
+import de.caluga.morphium.annotations.Property;
+
+import java.util.Date;
+
+/**
+ * Flat entity with scalar fields only — the mapping baseline in {@link MappingBenchmark}.
+ */
+@Entity(collectionName = "bench_flat")
+public class FlatDocument {
+
+    @Id
+    private String id;
+
+    @Property(fieldName = "name")
+    private String name;
+
+    @Property(fieldName = "description")
+    private String description;
+
+    @Property(fieldName = "quantity")
+    private int quantity;
+
+    @Property(fieldName = "serial")
+    private long serial;
+
+    @Property(fieldName = "price")
+    private double price;
+
+    @Property(fieldName = "active")
+    private boolean active;
+
+    @Property(fieldName = "created")
+    private Date created;
+
+    // --- accessors ---
+
+    public String  getId()                 { return id; }
+    public void    setId(String id)        { this.id = id; }
+
+    public String  getName()               { return name; }
+    public void    setName(String name)    { this.name = name; }
+
+    public String  getDescription()                     { return description; }
+    public void    setDescription(String description)   { this.description = description; }
+
+    public int     getQuantity()                  { return quantity; }
+    public void    setQuantity(int quantity)      { this.quantity = quantity; }
+
+    public long    getSerial()                { return serial; }
+    public void    setSerial(long serial)     { this.serial = serial; }
+
+    public double  getPrice()                 { return price; }
+    public void    setPrice(double price)     { this.price = price; }
+
+    public boolean isActive()                   { return active; }
+    public void    setActive(boolean active)    { this.active = active; }
+
+    public Date    getCreated()                 { return created; }
+    public void    setCreated(Date created)     { this.created = created; }
+}
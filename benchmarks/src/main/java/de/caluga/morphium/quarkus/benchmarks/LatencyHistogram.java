@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.benchmarks;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free latency histogram with logarithmic buckets (about 5 % relative precision) from
+ * 1 µs to roughly one hour — enough for percentiles without per-sample allocation.
+ */
+final class LatencyHistogram {
+
+    private static final double GROWTH = 1.05;
+    private static final int BUCKETS = 460;
+    private static final double LOG_GROWTH = Math.log(GROWTH);
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    void record(long nanos) {
+        long micros = Math.max(1, nanos / 1_000);
+        int bucket = (int) Math.min(BUCKETS - 1, Math.log(micros) / LOG_GROWTH);
+        counts.incrementAndGet(bucket);
+    }
+
+    long count() {
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += counts.get(i);
+        }
+        return total;
+    }
+
+    /** Upper bound of the bucket containing the given percentile, in milliseconds. */
+    double percentileMs(double percentile) {
+        long total = count();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(percentile / 100.0 * total);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.pow(GROWTH, i + 1) / 1_000.0;
+            }
+        }
+        return Math.pow(GROWTH, BUCKETS) / 1_000.0;
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.benchmarks;
+
+import de.caluga.morphium.annotations.Embedded;
+import de.caluga.morphium.annotations.Property;
+
+/**
+ * Embedded list element of {@link ListDocument}.
+ */
+@Embedded
+public class LineItem {
+
+    @Property(fieldName = "sku")
+    private String sku;
+
+    @Property(fieldName = "quantity")
+    private int quantity;
+
+    @Property(fieldName = "price")
+    private double price;
+
+    // --- accessors ---
+
+    public String getSku()                 { return sku; }
+    public void   setSku(String sku)       { this.sku = sku; }
+
+    public int    getQuantity()                { return quantity; }
+    public void   setQuantity(int quantity)    { this.quantity = quantity; }
+
+    public double getPrice()               { return price; }
+    public void   setPrice(double price)   { this.price = price; }
+}
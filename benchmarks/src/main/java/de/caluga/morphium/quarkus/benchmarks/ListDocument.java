@@ -0,0 +1,49 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.benchmarks;
+
+import de.caluga.morphium.annotations.Entity;
+import de.caluga.morphium.annotations.Id;
+import de.caluga.morphium.annotations.Property;
+
+import java.util.List;
+
+/**
+ * Entity dominated by large lists: plain strings and embedded {@link LineItem}s.
+ */
+@Entity(collectionName = "bench_lists")
+public class ListDocument {
+
+    @Id
+    private String id;
+
+    @Property(fieldName = "tags")
+    private List<String> tags;
+
+    @Property(fieldName = "lines")
+    private List<LineItem> lines;
+
+    // --- accessors ---
+
+    public String         getId()                   { return id; }
+    public void           setId(String id)          { this.id = id; }
+
+    public List<String>   getTags()                     { return tags; }
+    public void           setTags(List<String> tags)    { this.tags = tags; }
+
+    public List<LineItem> getLines()                        { return lines; }
+    public void           setLines(List<LineItem> lines)    { this.lines = lines; }
+}
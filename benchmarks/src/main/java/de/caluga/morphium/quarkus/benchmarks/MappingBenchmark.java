@@ -0,0 +1,223 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.benchmarks;
+
+import de.caluga.morphium.Morphium;
+import de.caluga.morphium.MorphiumObjectMapper;
+import de.caluga.morphium.objectmapping.LocalDateTimeMapper;
+import de.caluga.morphium.quarkus.MorphiumRuntimeConfig;
+import io.quarkus.arc.Arc;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity serialisation and deserialisation through the mapper of the produced {@link Morphium}
+ * bean — i.e. with the custom mappers {@code MorphiumProducer} registers.
+ *
+ * <p>Covers a flat entity, a deeply embedded one, large lists and {@link LocalDateTime} in
+ * both {@code use-bson-date} modes. The mode is switched per trial by registering the
+ * corresponding {@link LocalDateTimeMapper}, exactly as the producer does, and restored to the
+ * configured one afterwards.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MappingBenchmark {
+
+    static final int NESTING_DEPTH = 8;
+    static final int TIMESTAMP_HISTORY = 20;
+
+    static MorphiumObjectMapper mapper() {
+        return Arc.container().instance(Morphium.class).get().getMapper();
+    }
+
+    @State(Scope.Benchmark)
+    public static class Documents {
+
+        MorphiumObjectMapper mapper;
+        FlatDocument flat;
+        Map<String, Object> flatBson;
+        NestedDocument nested;
+        Map<String, Object> nestedBson;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            mapper = mapper();
+            flat = new FlatDocument();
+            flat.setId("flat-1");
+            flat.setName("flat document");
+            flat.setDescription("a flat document with scalar fields only");
+            flat.setQuantity(42);
+            flat.setSerial(1_234_567_890L);
+            flat.setPrice(19.99);
+            flat.setActive(true);
+            flat.setCreated(new Date());
+            flatBson = mapper.serialize(flat);
+
+            NestedNode root = null;
+            for (int level = NESTING_DEPTH; level > 0; level--) {
+                NestedNode node = node(level);
+                node.setLeaf(node(level));
+                node.setChild(root);
+                root = node;
+            }
+            nested = new NestedDocument();
+            nested.setId("nested-1");
+            nested.setRoot(root);
+            nestedBson = mapper.serialize(nested);
+        }
+
+        private static NestedNode node(int level) {
+            NestedNode node = new NestedNode();
+            node.setName("level-" + level);
+            node.setLevel(level);
+            node.setWeight(level * 1.5);
+            return node;
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Lists {
+
+        @Param({"100", "1000"})
+        int size;
+
+        MorphiumObjectMapper mapper;
+        ListDocument document;
+        Map<String, Object> bson;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            mapper = mapper();
+            List<String> tags = new ArrayList<>(size);
+            List<LineItem> lines = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                tags.add("tag-" + i);
+                LineItem line = new LineItem();
+                line.setSku("sku-" + i);
+                line.setQuantity(i % 10 + 1);
+                line.setPrice(i * 0.25);
+                lines.add(line);
+            }
+            document = new ListDocument();
+            document.setId("lists-1");
+            document.setTags(tags);
+            document.setLines(lines);
+            bson = mapper.serialize(document);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Timestamps {
+
+        @Param({"true", "false"})
+        boolean useBsonDate;
+
+        MorphiumObjectMapper mapper;
+        TimestampDocument document;
+        Map<String, Object> bson;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            mapper = mapper();
+            mapper.registerCustomMapperFor(LocalDateTime.class, new LocalDateTimeMapper(useBsonDate));
+            LocalDateTime now = LocalDateTime.now();
+            List<LocalDateTime> history = new ArrayList<>(TIMESTAMP_HISTORY);
+            for (int i = 0; i < TIMESTAMP_HISTORY; i++) {
+                history.add(now.minusHours(i));
+            }
+            document = new TimestampDocument();
+            document.setId("timestamps-1");
+            document.setCreated(now.minusDays(1));
+            document.setUpdated(now);
+            document.setHistory(history);
+            bson = mapper.serialize(document);
+        }
+
+        @TearDown(Level.Trial)
+        public void restoreConfiguredMapper() {
+            boolean configured = Arc.container().instance(MorphiumRuntimeConfig.class).get()
+                    .localDateTime().useBsonDate();
+            mapper.registerCustomMapperFor(LocalDateTime.class, new LocalDateTimeMapper(configured));
+        }
+    }
+
+    // --- flat ---
+
+    @Benchmark
+    public Map<String, Object> serializeFlat(Documents d) {
+        return d.mapper.serialize(d.flat);
+    }
+
+    @Benchmark
+    public FlatDocument deserializeFlat(Documents d) {
+        return d.mapper.deserialize(FlatDocument.class, d.flatBson);
+    }
+
+    // --- deeply embedded ---
+
+    @Benchmark
+    public Map<String, Object> serializeNested(Documents d) {
+        return d.mapper.serialize(d.nested);
+    }
+
+    @Benchmark
+    public NestedDocument deserializeNested(Documents d) {
+        return d.mapper.deserialize(NestedDocument.class, d.nestedBson);
+    }
+
+    // --- large lists ---
+
+    @Benchmark
+    public Map<String, Object> serializeLists(Lists l) {
+        return l.mapper.serialize(l.document);
+    }
+
+    @Benchmark
+    public ListDocument deserializeLists(Lists l) {
+        return l.mapper.deserialize(ListDocument.class, l.bson);
+    }
+
+    // --- LocalDateTime ---
+
+    @Benchmark
+    public Map<String, Object> serializeTimestamps(Timestamps t) {
+        return t.mapper.serialize(t.document);
+    }
+
+    @Benchmark
+    public TimestampDocument deserializeTimestamps(Timestamps t) {
+        return t.mapper.deserialize(TimestampDocument.class, t.bson);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.benchmarks;
+
+import de.caluga.morphium.annotations.Embedded;
+import de.caluga.morphium.annotations.Property;
+
+/**
+ * One level of a {@link NestedDocument}: a few scalars, a sibling leaf and the next level.
+ */
+@Embedded
+public class NestedNode {
+
+    @Property(fieldName = "name")
+    private String name;
+
+    @Property(fieldName = "level")
+    private int level;
+
+    @Property(fieldName = "weight")
+    private double weight;
+
+    @Property(fieldName = "leaf")
+    private NestedNode leaf;
+
+    @Property(fieldName = "child")
+    private NestedNode child;
+
+    // --- accessors ---
+
+    public String     getName()                { return name; }
+    public void       setName(String name)     { this.name = name; }
+
+    public int        getLevel()               { return level; }
+    public void       setLevel(int level)      { this.level = level; }
+
+    public double     getWeight()                 { return weight; }
+    public void       setWeight(double weight)    { this.weight = weight; }
+
+    public NestedNode getLeaf()                   { return leaf; }
+    public void       setLeaf(NestedNode leaf)    { this.leaf = leaf; }
+
+    public NestedNode getChild()                    { return child; }
+    public void       setChild(NestedNode child)    { this.child = child; }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.benchmarks;
+
+import de.caluga.morphium.Morphium;
+import io.quarkus.arc.Arc;
+import jakarta.data.page.CursoredPage;
+import jakarta.data.page.Page;
+import jakarta.data.page.PageRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generated repository methods versus the equivalent hand-written Morphium queries.
+ *
+ * <p>Every {@code repo*} benchmark has a {@code raw*} counterpart issuing the same query
+ * through {@code morphium.createQueryFor}; the difference is the cost of the repository layer
+ * (method-name parsing, JDQL translation, parameter binding, page assembly) per call. Each
+ * query selects one category, i.e. {@code documents / 10} documents.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RepositoryBenchmark {
+
+    static final int CATEGORIES = 10;
+    static final int PAGE_SIZE = 20;
+    static final String CATEGORY = "cat-3";
+
+    @Param({"1000"})
+    int documents;
+
+    Morphium morphium;
+    BenchItemRepository repository;
+    String sampleId;
+    PageRequest nextCursor;
+    int lastSeqOfFirstPage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        morphium = Arc.container().instance(Morphium.class).get();
+        repository = Arc.container().instance(BenchItemRepository.class).get();
+
+        morphium.dropCollection(BenchItem.class);
+        List<BenchItem> items = new ArrayList<>(documents);
+        for (int i = 0; i < documents; i++) {
+            BenchItem item = new BenchItem();
+            item.setName("item-" + i);
+            item.setCategory("cat-" + (i % CATEGORIES));
+            item.setSeq(i);
+            item.setPrice(i * 0.5);
+            items.add(item);
+        }
+        morphium.storeList(items);
+        sampleId = items.get(documents / 2).getId();
+
+        CursoredPage<BenchItem> first = repository.cursorByCategory(CATEGORY,
+                PageRequest.ofSize(PAGE_SIZE).withoutTotal());
+        nextCursor = first.nextPageRequest();
+        lastSeqOfFirstPage = first.content().get(first.numberOfElements() - 1).getSeq();
+    }
+
+    // --- list queries ---
+
+    @Benchmark
+    public List<BenchItem> repoDerivedList() {
+        return repository.findByCategory(CATEGORY);
+    }
+
+    @Benchmark
+    public List<BenchItem> repoFindList() {
+        return repository.findInCategory(CATEGORY);
+    }
+
+    @Benchmark
+    public List<BenchItem> repoJdqlList() {
+        return repository.queryByCategory(CATEGORY);
+    }
+
+    @Benchmark
+    public List<BenchItem> rawList() {
+        return morphium.createQueryFor(BenchItem.class).f("category").eq(CATEGORY).asList();
+    }
+
+    // --- by id ---
+
+    @Benchmark
+    public Optional<BenchItem> repoFindById() {
+        return repository.findById(sampleId);
+    }
+
+    @Benchmark
+    public BenchItem rawFindById() {
+        return morphium.findById(BenchItem.class, sampleId);
+    }
+
+    // --- offset pagination (second page, with total) ---
+
+    @Benchmark
+    public Page<BenchItem> repoOffsetPage() {
+        return repository.findByCategoryOrderBySeq(CATEGORY, PageRequest.ofPage(2).size(PAGE_SIZE));
+    }
+
+    @Benchmark
+    public void rawOffsetPage(Blackhole bh) {
+        bh.consume(morphium.createQueryFor(BenchItem.class).f("category").eq(CATEGORY)
+                .sort("seq").skip(PAGE_SIZE).limit(PAGE_SIZE).asList());
+        bh.consume(morphium.createQueryFor(BenchItem.class).f("category").eq(CATEGORY).countAll());
+    }
+
+    // --- keyset pagination (second page, without total) ---
+
+    @Benchmark
+    public CursoredPage<BenchItem> repoCursoredPage() {
+        return repository.cursorByCategory(CATEGORY, nextCursor);
+    }
+
+    @Benchmark
+    public List<BenchItem> rawCursoredPage() {
+        // One extra document tells whether a further page exists, as the repository does
+        return morphium.createQueryFor(BenchItem.class).f("category").eq(CATEGORY)
+                .f("seq").gt(lastSeqOfFirstPage).sort("seq", "_id").limit(PAGE_SIZE + 1).asList();
+    }
+
+    // --- streaming ---
+
+    @Benchmark
+    public void repoStream(Blackhole bh) {
+        repository.streamByCategory(CATEGORY).forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void rawIterable(Blackhole bh) {
+        for (BenchItem item : morphium.createQueryFor(BenchItem.class).f("category").eq(CATEGORY).asIterable()) {
+            bh.consume(item);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.benchmarks;
+
+import de.caluga.morphium.annotations.Entity;
+import de.caluga.morphium.annotations.Id;
+import de.caluga.morphium.annotations.Property;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Entity with {@link LocalDateTime} fields, mapped in both
+ * {@code quarkus.morphium.local-date-time.use-bson-date} modes.
+ */
+@Entity(collectionName = "bench_timestamps")
+public class TimestampDocument {
+
+    @Id
+    private String id;
+
+    @Property(fieldName = "created")
+    private LocalDateTime created;
+
+    @Property(fieldName = "updated")
+    private LocalDateTime updated;
+
+    @Property(fieldName = "history")
+    private List<LocalDateTime> history;
+
+    // --- accessors ---
+
+    public String              getId()                    { return id; }
+    public void                setId(String id)           { this.id = id; }
+
+    public LocalDateTime       getCreated()                         { return created; }
+    public void                setCreated(LocalDateTime created)    { this.created = created; }
+
+    public LocalDateTime       getUpdated()                         { return updated; }
+    public void                setUpdated(LocalDateTime updated)    { this.updated = updated; }
+
+    public List<LocalDateTime> getHistory()                               { return history; }
+    public void                setHistory(List<LocalDateTime> history)    { this.history = history; }
+}
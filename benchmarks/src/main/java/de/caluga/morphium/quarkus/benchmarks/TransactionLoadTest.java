@@ -0,0 +1,229 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.benchmarks;
+
+import de.caluga.morphium.Morphium;
+import de.caluga.morphium.driver.MorphiumDriver.DriverStatsKey;
+import io.quarkus.arc.Arc;
+import io.quarkus.runtime.LaunchMode;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrency load test for {@code @MorphiumTransactional} and the connection pool.
+ *
+ * <p>For each concurrency level, that many virtual threads call
+ * {@link TransferService#transfer} in a loop — each call is one transaction with two repository
+ * reads and two writes. After a warm-up, the test measures for a fixed duration and reports
+ * throughput, latency percentiles, the connection-pool wait and the transaction abort rate.
+ *
+ * <p>Pool wait is derived from the driver statistics: the number of threads waiting for a
+ * connection is sampled every 50 ms, and by Little's law the mean wait per checkout is the
+ * mean number of waiting threads divided by the checkout rate ({@code CONNECTIONS_BORROWED}).
+ *
+ * <p>Transactions need a replica set — see CONTRIBUTING.md for the {@code load} profile. The
+ * test does not run in dev mode, where the Dev UI query profiler observes every command.
+ */
+final class TransactionLoadTest {
+
+    private static final Duration SAMPLE_INTERVAL = Duration.ofMillis(50);
+    private static final long INITIAL_BALANCE = 1_000_000;
+
+    private record Level(int threads, double opsPerSecond, double p50, double p95, double p99, double max,
+                         long commits, long rollbacks, long failed, double avgWaiting, long maxWaiting,
+                         double poolWaitMs, String topFailure) {
+    }
+
+    private List<Integer> concurrency = List.of(16, 64, 256, 1024, 4096);
+    private Duration warmup = Duration.ofSeconds(5);
+    private Duration duration = Duration.ofSeconds(20);
+    private int accountCount = 1000;
+
+    private final Morphium morphium = Arc.container().instance(Morphium.class).get();
+    private final TransferService service = Arc.container().instance(TransferService.class).get();
+
+    int run(String... args) throws InterruptedException {
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--concurrency" -> concurrency = Arrays.stream(args[++i].split(",")).map(String::trim)
+                        .map(Integer::parseInt).toList();
+                case "--warmup" -> warmup = Duration.ofSeconds(Long.parseLong(args[++i]));
+                case "--duration" -> duration = Duration.ofSeconds(Long.parseLong(args[++i]));
+                case "--accounts" -> accountCount = Integer.parseInt(args[++i]);
+                default -> {
+                    System.err.println("Unknown option " + args[i]
+                            + " — supported: --concurrency 16,64,256 --warmup S --duration S --accounts N");
+                    return 2;
+                }
+            }
+        }
+        if (accountCount < 2) {
+            System.err.println("--accounts must be at least 2");
+            return 2;
+        }
+        if (LaunchMode.current() == LaunchMode.DEVELOPMENT) {
+            System.err.println("The load test does not run in dev mode — the Dev UI query profiler would skew "
+                    + "the results. Run the packaged jar with -Dquarkus.profile=load (see CONTRIBUTING.md)");
+            return 2;
+        }
+        if (!morphium.getDriver().isReplicaSet()) {
+            System.err.println("WARNING: not connected to a replica set ("
+                    + morphium.getDriver().getClass().getSimpleName() + ") — transactions may fail or be no-ops");
+        }
+        seedAccounts();
+        System.out.printf("Transaction load test: %d accounts, warm-up %ds, measurement %ds per level%n",
+                accountCount, warmup.toSeconds(), duration.toSeconds());
+
+        List<Level> levels = new ArrayList<>();
+        for (int threads : concurrency) {
+            Level level = runLevel(threads);
+            System.out.printf("%5d threads: %8.0f ops/s, p50 %.1f ms, p99 %.1f ms, abort rate %.1f %%, pool wait %s%n",
+                    threads, level.opsPerSecond(), level.p50(), level.p99(),
+                    abortRate(level), level.poolWaitMs() < 0 ? "n/a" : "%.2f ms".formatted(level.poolWaitMs()));
+            levels.add(level);
+        }
+        print(levels);
+        return 0;
+    }
+
+    private void seedAccounts() {
+        morphium.dropCollection(Account.class);
+        List<Account> accounts = new ArrayList<>(accountCount);
+        for (int i = 0; i < accountCount; i++) {
+            Account account = new Account();
+            account.setId("acc-" + i);
+            account.setBalance(INITIAL_BALANCE);
+            accounts.add(account);
+        }
+        morphium.storeList(accounts);
+    }
+
+    private Level runLevel(int threads) throws InterruptedException {
+        LatencyHistogram latencies = new LatencyHistogram();
+        LongAdder failed = new LongAdder();
+        Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+        LongAdder waitingSum = new LongAdder();
+        LongAdder waitingSamples = new LongAdder();
+        long[] maxWaiting = new long[1];
+        var state = new Object() {
+            volatile boolean running = true;
+            volatile boolean measuring;
+        };
+
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(() -> {
+            if (state.measuring) {
+                long waiting = stat(DriverStatsKey.THREADS_WAITING_FOR_CONNECTION);
+                waitingSum.add(waiting);
+                waitingSamples.increment();
+                maxWaiting[0] = Math.max(maxWaiting[0], waiting);
+            }
+        }, 0, SAMPLE_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+
+        ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+        for (int t = 0; t < threads; t++) {
+            workers.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (state.running) {
+                    int from = random.nextInt(accountCount);
+                    int to = (from + 1 + random.nextInt(accountCount - 1)) % accountCount;
+                    long start = System.nanoTime();
+                    try {
+                        service.transfer("acc-" + from, "acc-" + to, 1 + random.nextInt(100));
+                        if (state.measuring) {
+                            latencies.record(System.nanoTime() - start);
+                        }
+                    } catch (Exception e) {
+                        if (state.measuring) {
+                            failed.increment();
+                            failures.computeIfAbsent(e.getClass().getSimpleName(), k -> new LongAdder()).increment();
+                        }
+                    }
+                }
+            });
+        }
+
+        Thread.sleep(warmup.toMillis());
+        long commitsBefore = service.commits.sum();
+        long rollbacksBefore = service.rollbacks.sum();
+        long borrowedBefore = stat(DriverStatsKey.CONNECTIONS_BORROWED);
+        long measureStart = System.nanoTime();
+        state.measuring = true;
+        Thread.sleep(duration.toMillis());
+        state.measuring = false;
+        double seconds = (System.nanoTime() - measureStart) / 1e9;
+        long commits = service.commits.sum() - commitsBefore;
+        long rollbacks = service.rollbacks.sum() - rollbacksBefore;
+        long borrowed = stat(DriverStatsKey.CONNECTIONS_BORROWED) - borrowedBefore;
+
+        state.running = false;
+        workers.shutdown();
+        workers.awaitTermination(1, TimeUnit.MINUTES);
+        sampler.shutdownNow();
+
+        double avgWaiting = waitingSamples.sum() == 0 ? 0 : (double) waitingSum.sum() / waitingSamples.sum();
+        // Little's law: mean wait = mean queue length / arrival (checkout) rate
+        double poolWaitMs = borrowed > 0 ? avgWaiting / (borrowed / seconds) * 1000 : -1;
+        String topFailure = failures.entrySet().stream()
+                .max(Comparator.comparingLong(e -> e.getValue().sum()))
+                .map(e -> e.getKey() + " (" + e.getValue().sum() + ")")
+                .orElse("–");
+        return new Level(threads, latencies.count() / seconds, latencies.percentileMs(50), latencies.percentileMs(95),
+                latencies.percentileMs(99), latencies.percentileMs(100), commits, rollbacks, failed.sum(),
+                avgWaiting, maxWaiting[0], poolWaitMs, topFailure);
+    }
+
+    private long stat(DriverStatsKey key) {
+        try {
+            Double value = morphium.getDriver().getDriverStats().get(key);
+            return value != null ? value.longValue() : 0;
+        } catch (Exception e) {
+            return 0;
+        }
+    }
+
+    private static double abortRate(Level level) {
+        long total = level.commits() + level.rollbacks();
+        return total == 0 ? 0 : 100.0 * level.rollbacks() / total;
+    }
+
+    private static void print(List<Level> levels) {
+        StringBuilder table = new StringBuilder("""
+
+                | threads | ops/s | p50 ms | p95 ms | p99 ms | max ms | commits | rollbacks | abort rate | failed calls | waiting threads (avg/max) | pool wait ms | top failure |
+                |---:|---:|---:|---:|---:|---:|---:|---:|---:|---:|---:|---:|---|
+                """);
+        for (Level l : levels) {
+            table.append("| %d | %.0f | %.1f | %.1f | %.1f | %.1f | %d | %d | %.1f %% | %d | %.1f / %d | %s | %s |%n".formatted(
+                    l.threads(), l.opsPerSecond(), l.p50(), l.p95(), l.p99(), l.max(), l.commits(), l.rollbacks(),
+                    abortRate(l), l.failed(), l.avgWaiting(), l.maxWaiting(),
+                    l.poolWaitMs() < 0 ? "–" : "%.2f".formatted(l.poolWaitMs()), l.topFailure()));
+        }
+        System.out.println(table);
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.benchmarks;
+
+import de.caluga.morphium.quarkus.transaction.MorphiumTransactionEvent;
+import de.caluga.morphium.quarkus.transaction.MorphiumTransactional;
+import de.caluga.morphium.quarkus.transaction.MorphiumTxPhase;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import static de.caluga.morphium.quarkus.transaction.MorphiumTransactionEvent.Phase.AFTER_COMMIT;
+import static de.caluga.morphium.quarkus.transaction.MorphiumTransactionEvent.Phase.AFTER_ROLLBACK;
+
+/**
+ * Transactional workload of the load test: reads two accounts through the repository and
+ * writes both back. The fewer accounts, the more transactions conflict on the same documents.
+ *
+ * <p>Counts commits and rollbacks by observing the interceptor's transaction events.
+ */
+@ApplicationScoped
+public class TransferService {
+
+    @Inject
+    AccountRepository accounts;
+
+    final LongAdder commits = new LongAdder();
+    final LongAdder rollbacks = new LongAdder();
+
+    @MorphiumTransactional
+    public void transfer(String fromId, String toId, long amount) {
+        Account from = accounts.findById(fromId).orElseThrow();
+        Account to = accounts.findById(toId).orElseThrow();
+        from.setBalance(from.getBalance() - amount);
+        to.setBalance(to.getBalance() + amount);
+        accounts.save(from);
+        accounts.save(to);
+    }
+
+    void onCommit(@Observes @MorphiumTxPhase(AFTER_COMMIT) MorphiumTransactionEvent e) {
+        commits.increment();
+    }
+
+    void onRollback(@Observes @MorphiumTxPhase(AFTER_ROLLBACK) MorphiumTransactionEvent e) {
+        rollbacks.increment();
+    }
+}
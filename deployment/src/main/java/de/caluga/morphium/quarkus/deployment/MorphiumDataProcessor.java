@@ -8,6 +8,10 @@ import de.caluga.morphium.data.QueryDescriptor;
 import de.caluga.morphium.data.QueryMethodBridge;
 import de.caluga.morphium.data.RepositoryMetadata;
 import de.caluga.morphium.quarkus.data.QuarkusMorphiumRepository;
+import de.caluga.morphium.quarkus.metrics.MorphiumMetered;
+import de.caluga.morphium.quarkus.tracing.MorphiumTraced;
+import de.caluga.morphium.quarkus.replica.InMemoryReplica;
+import de.caluga.morphium.quarkus.replica.InMemoryReplicaBridge;
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.GeneratedBeanBuildItem;
 import io.quarkus.arc.deployment.GeneratedBeanGizmoAdaptor;
@@ -100,6 +104,7 @@ public class MorphiumDataProcessor {
     private static final DotName PAGE_TYPE = DotName.createSimple("jakarta.data.page.Page");
     private static final DotName CURSORED_PAGE_TYPE = DotName.createSimple("jakarta.data.page.CursoredPage");
     private static final DotName COMPLETION_STAGE_TYPE = DotName.createSimple("java.util.concurrent.CompletionStage");
+    private static final DotName IN_MEMORY_REPLICA = DotName.createSimple(InMemoryReplica.class.getName());
 
     // Metamodel types
     private static final String STATIC_METAMODEL_ANN = "jakarta.data.metamodel.StaticMetamodel";
@@ -191,6 +196,8 @@ public class MorphiumDataProcessor {
     @BuildStep
     void generateRepositoryImpls(List<RepositoryBuildItem> repositories,
                                  CombinedIndexBuildItem combinedIndex,
+                                 Optional<MorphiumMetricsBuildItem> metrics,
+                                 Optional<MorphiumTracingBuildItem> tracing,
                                  BuildProducer<GeneratedBeanBuildItem> generatedBeans,
                                  BuildProducer<ReflectiveClassBuildItem> reflectiveClasses,
                                  BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
@@ -206,7 +213,42 @@ public class MorphiumDataProcessor {
         ClassOutput classOutput = new GeneratedBeanGizmoAdaptor(generatedBeans);
 
         for (RepositoryBuildItem repo : repositories) {
-            generateImpl(repo, index, classOutput, reflectiveClasses);
+            generateImpl(repo, index, classOutput, metrics.isPresent(), tracing.isPresent(), reflectiveClasses);
+        }
+    }
+
+    /**
+     * Cache warm-up ({@code quarkus.morphium.cache.warm-up-queries}) is runtime configuration and
+     * resolves repository methods reflectively, so the repository interfaces and their
+     * superinterfaces must be reachable by reflection in a native image.
+     */
+    @BuildStep
+    void registerRepositoriesForWarmUp(List<RepositoryBuildItem> repositories,
+                                       CombinedIndexBuildItem combinedIndex,
+                                       BuildProducer<ReflectiveClassBuildItem> reflectiveClasses) {
+        if (repositories.isEmpty()) return;
+
+        IndexView index = combinedIndex.getIndex();
+        Set<String> interfaces = new LinkedHashSet<>();
+        for (RepositoryBuildItem repo : repositories) {
+            collectInterfaces(DotName.createSimple(repo.getInterfaceName()), index, interfaces);
+        }
+        reflectiveClasses.produce(ReflectiveClassBuildItem.builder(interfaces.toArray(new String[0]))
+                .methods(true).build());
+    }
+
+    private static void collectInterfaces(DotName name, IndexView index, Set<String> result) {
+        if (!result.add(name.toString())) return;
+        ClassInfo info = index.getClassByName(name);
+        if (info != null) {
+            for (DotName parent : info.interfaceNames()) {
+                collectInterfaces(parent, index, result);
+            }
+        } else if (name.equals(CRUD_REPOSITORY)) {
+            // Jakarta Data API is usually not indexed
+            collectInterfaces(BASIC_REPOSITORY, index, result);
+        } else if (name.equals(BASIC_REPOSITORY)) {
+            collectInterfaces(DATA_REPOSITORY, index, result);
         }
     }
 
@@ -394,6 +436,8 @@ public class MorphiumDataProcessor {
     private void generateImpl(RepositoryBuildItem repo,
                               IndexView index,
                               ClassOutput classOutput,
+                              boolean metered,
+                              boolean traced,
                               BuildProducer<ReflectiveClassBuildItem> reflectiveClasses) {
 
         String implClassName = repo.getInterfaceName() + "_MorphiumImpl";
@@ -420,6 +464,14 @@ public class MorphiumDataProcessor {
                 .build()) {
 
             cc.addAnnotation("jakarta.enterprise.context.ApplicationScoped");
+            if (metered) {
+                // Micrometer timers/counters via MorphiumRepositoryMetricsInterceptor
+                cc.addAnnotation(MorphiumMetered.class);
+            }
+            if (traced) {
+                // OpenTelemetry repository spans via MorphiumRepositoryTracingInterceptor
+                cc.addAnnotation(MorphiumTraced.class);
+            }
 
             // Constructor: super(new RepositoryMetadata(Entity.class, Id.class, "idField"))
             generateConstructor(cc, entityClassName, idClassName, idFieldName);
@@ -753,6 +805,9 @@ public class MorphiumDataProcessor {
                                             String entityClassName,
                                             Set<String> entityFields,
                                             BuildProducer<ReflectiveClassBuildItem> reflectiveClasses) {
+        ClassInfo entityClass = index.getClassByName(DotName.createSimple(entityClassName));
+        boolean replicated = entityClass != null && entityClass.declaredAnnotation(IN_MEMORY_REPLICA) != null;
+
         for (MethodInfo method : repoInterface.methods()) {
             String name = method.name();
 
@@ -792,7 +847,7 @@ public class MorphiumDataProcessor {
             // Phase 2: Try to parse as query derivation method
             if (name.startsWith("findBy") || name.startsWith("countBy")
                     || name.startsWith("existsBy") || name.startsWith("deleteBy")) {
-                generateQueryMethod(cc, method, entityClassName, entityFields);
+                generateQueryMethod(cc, method, entityClassName, entityFields, replicated);
             }
         }
     }
@@ -800,7 +855,8 @@ public class MorphiumDataProcessor {
     private void generateQueryMethod(ClassCreator cc,
                                      MethodInfo method,
                                      String entityClassName,
-                                     Set<String> entityFields) {
+                                     Set<String> entityFields,
+                                     boolean replicated) {
         String methodName = method.name();
 
         // Build orderBy spec from @OrderBy annotations
@@ -869,6 +925,36 @@ public class MorphiumDataProcessor {
             ResultHandle orderBySpecHandle = mc.load(orderBySpec);
             ResultHandle thisHandle = mc.getThis();
 
+            // @InMemoryReplica: serve equality-only findBy* from the heap replica
+            List<String> replicaFields = replicated && !isAsync && orderBySpec.isEmpty()
+                    && descriptor.prefix() == QueryDescriptor.Prefix.FIND
+                    ? equalityFields(parseableName, entityFields) : null;
+            if (replicaFields != null && replicaFields.size() == method.parametersCount()) {
+                ResultHandle fieldsArray = mc.newArray(String.class, mc.load(replicaFields.size()));
+                for (int i = 0; i < replicaFields.size(); i++) {
+                    mc.writeArrayValue(fieldsArray, i, mc.load(replicaFields.get(i)));
+                }
+                ResultHandle result = mc.invokeStaticMethod(
+                        MethodDescriptor.ofMethod(
+                                InMemoryReplicaBridge.class,
+                                "find",
+                                Object.class,
+                                AbstractMorphiumRepository.class,
+                                Class.class,
+                                String[].class,
+                                String.class,
+                                Object[].class,
+                                boolean.class,
+                                boolean.class,
+                                boolean.class),
+                        thisHandle, mc.loadClassFromTCCL(entityClassName), fieldsArray, methodNameHandle,
+                        argsArray, returnsSingleHandle, returnsOptionalHandle, returnsStreamHandle);
+                log.debugf("Routing %s.%s to the in-memory replica (fields %s)",
+                        method.declaringClass().name(), methodName, replicaFields);
+                mc.returnValue(result);
+                return;
+            }
+
             String bridgeMethod = isAsync ? "executeQueryAsync" : "executeQuery";
             Class<?> bridgeReturnType = isAsync ? CompletionStage.class : Object.class;
 
@@ -1674,6 +1760,37 @@ public class MorphiumDataProcessor {
         return fields;
     }
 
+    /**
+     * Splits a derived method name of the form {@code findBy<Field>[And<Field>...]} into its
+     * Java field names. Returns {@code null} if any part is not a plain entity field — i.e. the
+     * method uses an operator ({@code GreaterThan}, {@code In}, {@code IgnoreCase}, ...),
+     * {@code Or}, {@code OrderBy} or a nested property. Field names that themselves contain
+     * {@code And} are resolved by backtracking.
+     */
+    static List<String> equalityFields(String methodName, Set<String> entityFields) {
+        if (!methodName.startsWith("findBy")) return null;
+        return matchFields(methodName.substring("findBy".length()), entityFields);
+    }
+
+    private static List<String> matchFields(String rest, Set<String> entityFields) {
+        for (String field : entityFields) {
+            String capitalized = Character.toUpperCase(field.charAt(0)) + field.substring(1);
+            if (!rest.startsWith(capitalized)) continue;
+            String remainder = rest.substring(capitalized.length());
+            if (remainder.isEmpty()) {
+                return new ArrayList<>(List.of(field));
+            }
+            if (remainder.startsWith("And") && remainder.length() > 3) {
+                List<String> tail = matchFields(remainder.substring(3), entityFields);
+                if (tail != null) {
+                    tail.add(0, field);
+                    return tail;
+                }
+            }
+        }
+        return null;
+    }
+
     // -- Return type analysis --
 
     private boolean isList(Type type) {
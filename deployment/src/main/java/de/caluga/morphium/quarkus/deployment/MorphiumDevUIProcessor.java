@@ -16,6 +16,8 @@
 package de.caluga.morphium.quarkus.deployment;
 
 import de.caluga.morphium.quarkus.MorphiumDevUIJsonRpcService;
+import de.caluga.morphium.quarkus.MorphiumQueryProfiler;
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.deployment.IsDevelopment;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
@@ -28,7 +30,8 @@ import io.quarkus.devui.spi.page.Page;
  *
  * <p>Uses a runtime {@link MorphiumDevUIJsonRpcService} to display the actual
  * MongoDB connection state (including auto-detected replica set mode) in the
- * Dev UI at {@code /q/dev-ui/}.
+ * Dev UI at {@code /q/dev-ui/}, a live query profiler fed by
+ * {@link MorphiumQueryProfiler} and a collection/index statistics page.
  */
 public class MorphiumDevUIProcessor {
 
@@ -37,6 +40,12 @@ public class MorphiumDevUIProcessor {
         return new JsonRPCProvidersBuildItem(MorphiumDevUIJsonRpcService.class);
     }
 
+    @BuildStep(onlyIf = IsDevelopment.class)
+    AdditionalBeanBuildItem registerQueryProfiler() {
+        // Collects per-shape statistics for the Query Profiler page — dev mode only
+        return AdditionalBeanBuildItem.unremovableOf(MorphiumQueryProfiler.class);
+    }
+
     @BuildStep(onlyIf = IsDevelopment.class)
     void createCard(BuildProducer<CardPageBuildItem> cardProducer) {
 
@@ -56,6 +65,18 @@ public class MorphiumDevUIProcessor {
                 .icon("font-awesome-solid:database")
                 .componentLink("qwc-morphium-connection.js"));
 
+        // --- Query Profiler page (live statistics streamed via JsonRPC) ---
+        card.addPage(Page.webComponentPageBuilder()
+                .title("Query Profiler")
+                .icon("font-awesome-solid:gauge-high")
+                .componentLink("qwc-morphium-profiler.js"));
+
+        // --- Collections page (storage and index statistics via JsonRPC) ---
+        card.addPage(Page.webComponentPageBuilder()
+                .title("Collections")
+                .icon("font-awesome-solid:database")
+                .componentLink("qwc-morphium-collections.js"));
+
         cardProducer.produce(card);
     }
 }
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.deployment;
+
+import de.caluga.morphium.annotations.Embedded;
+import de.caluga.morphium.annotations.Entity;
+import de.caluga.morphium.annotations.Id;
+import de.caluga.morphium.annotations.Property;
+import de.caluga.morphium.annotations.Transient;
+import de.caluga.morphium.annotations.caching.Cache;
+import de.caluga.morphium.quarkus.MorphiumEntityMetadata;
+import de.caluga.morphium.quarkus.replica.InMemoryReplica;
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads Morphium mapping metadata ({@code typeId}, collection name, {@code @Id} field,
+ * Java→BSON field names) from Jandex at build time, so that the runtime does not have to
+ * load the entity classes and read their annotations reflectively.
+ */
+final class MorphiumEntityScanner {
+
+    static final DotName ENTITY = DotName.createSimple(Entity.class.getName());
+    static final DotName EMBEDDED = DotName.createSimple(Embedded.class.getName());
+    static final DotName ID = DotName.createSimple(Id.class.getName());
+    static final DotName PROPERTY = DotName.createSimple(Property.class.getName());
+    static final DotName TRANSIENT = DotName.createSimple(Transient.class.getName());
+    static final DotName CACHE = DotName.createSimple(Cache.class.getName());
+    static final DotName IN_MEMORY_REPLICA = DotName.createSimple(InMemoryReplica.class.getName());
+    private static final DotName OBJECT = DotName.createSimple(Object.class.getName());
+
+    /** Morphium's marker for "not set" in {@code typeId}, {@code collectionName} and {@code fieldName}. */
+    private static final String UNSET = ".";
+
+    private MorphiumEntityScanner() {
+    }
+
+    static MorphiumEntityMetadata scan(ClassInfo classInfo, IndexView index) {
+        AnnotationInstance entity = classInfo.declaredAnnotation(ENTITY);
+        AnnotationInstance embedded = classInfo.declaredAnnotation(EMBEDDED);
+        AnnotationInstance mapping = entity != null ? entity : embedded;
+        boolean translateCamelCase = booleanValue(mapping, "translateCamelCase", true);
+
+        MorphiumEntityMetadata md = new MorphiumEntityMetadata();
+        md.setClassName(classInfo.name().toString());
+        md.setEmbedded(entity == null);
+        md.setCached(entity != null && classInfo.declaredAnnotation(CACHE) != null);
+        md.setReplicated(entity != null && classInfo.declaredAnnotation(IN_MEMORY_REPLICA) != null);
+        String typeId = stringValue(mapping, "typeId");
+        md.setTypeId(typeId == null || UNSET.equals(typeId) ? null : typeId);
+        if (entity != null) {
+            md.setCollectionName(collectionName(classInfo, entity, translateCamelCase));
+        }
+
+        Map<String, String> fieldNames = new LinkedHashMap<>();
+        for (FieldInfo field : persistentFields(classInfo, index)) {
+            if (field.hasAnnotation(ID)) {
+                if (md.getIdField() == null) {
+                    md.setIdField(field.name());
+                }
+                fieldNames.put(field.name(), "_id");
+                continue;
+            }
+            String bsonName = stringValue(field.annotation(PROPERTY), "fieldName");
+            if (bsonName == null || UNSET.equals(bsonName)) {
+                bsonName = translateCamelCase ? convertCamelCase(field.name()) : field.name();
+            }
+            fieldNames.put(field.name(), bsonName);
+        }
+        md.setFieldNames(fieldNames);
+        return md;
+    }
+
+    /**
+     * Returns the fields Morphium persists: all non-static, non-transient fields of the
+     * class and its indexed superclasses, without {@code @Transient} ones.
+     */
+    static List<FieldInfo> persistentFields(ClassInfo classInfo, IndexView index) {
+        List<FieldInfo> result = new ArrayList<>();
+        ClassInfo current = classInfo;
+        while (current != null && !OBJECT.equals(current.name())) {
+            for (FieldInfo field : current.fields()) {
+                if (Modifier.isStatic(field.flags()) || Modifier.isTransient(field.flags())) continue;
+                if (field.hasAnnotation(TRANSIENT)) continue;
+                result.add(field);
+            }
+            current = current.superName() != null ? index.getClassByName(current.superName()) : null;
+        }
+        return result;
+    }
+
+    /**
+     * Adds the typeId → class name entries Morphium expects in {@code registerTypeIds()}.
+     * A class annotated with both {@code @Entity} and {@code @Embedded} is registered under
+     * both typeIds, so documents written with either one can be read back.
+     */
+    static void addTypeIds(ClassInfo classInfo, Map<String, String> typeIds) {
+        String className = classInfo.name().toString();
+        for (DotName annotation : List.of(ENTITY, EMBEDDED)) {
+            String typeId = stringValue(classInfo.declaredAnnotation(annotation), "typeId");
+            if (typeId != null && !UNSET.equals(typeId)) {
+                typeIds.put(typeId, className);
+            }
+        }
+        typeIds.put(className, className);
+    }
+
+    private static String collectionName(ClassInfo classInfo, AnnotationInstance entity, boolean translateCamelCase) {
+        String name = stringValue(entity, "collectionName");
+        if (name != null && !UNSET.equals(name)) {
+            return name;
+        }
+        if (booleanValue(entity, "useFQN", false)) {
+            name = classInfo.name().toString().replace('.', '_');
+        } else {
+            name = classInfo.simpleName();
+        }
+        return translateCamelCase ? convertCamelCase(name) : name;
+    }
+
+    /** Same conversion as Morphium's camel-case translation: {@code customerId → customer_id}. */
+    static String convertCamelCase(String name) {
+        StringBuilder sb = new StringBuilder(name.length() + 4);
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isUpperCase(c) && i > 0) {
+                sb.append('_');
+            }
+            sb.append(Character.toLowerCase(c));
+        }
+        return sb.toString();
+    }
+
+    private static String stringValue(AnnotationInstance ann, String name) {
+        AnnotationValue value = ann != null ? ann.value(name) : null;
+        return value != null ? value.asString() : null;
+    }
+
+    private static boolean booleanValue(AnnotationInstance ann, String name, boolean defaultValue) {
+        AnnotationValue value = ann != null ? ann.value(name) : null;
+        return value != null ? value.asBoolean() : defaultValue;
+    }
+}
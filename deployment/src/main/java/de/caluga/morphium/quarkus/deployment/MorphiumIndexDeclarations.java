@@ -0,0 +1,118 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.deployment;
+
+import de.caluga.morphium.annotations.Entity;
+import de.caluga.morphium.annotations.Index;
+import de.caluga.morphium.annotations.Property;
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Collects {@code @Index} declarations of {@code @Entity} classes from Jandex at build time.
+ *
+ * <p>The result drives the startup index check: only entities that declare at least one
+ * index are checked at runtime, and a fingerprint over all declarations allows unchanged
+ * deployments to skip the check entirely.
+ */
+final class MorphiumIndexDeclarations {
+
+    static final DotName ENTITY = DotName.createSimple(Entity.class.getName());
+    static final DotName INDEX = DotName.createSimple(Index.class.getName());
+    static final DotName PROPERTY = DotName.createSimple(Property.class.getName());
+    private static final DotName OBJECT = DotName.createSimple(Object.class.getName());
+
+    private MorphiumIndexDeclarations() {
+    }
+
+    /**
+     * Returns a canonical, sorted description of every index declared on the entity
+     * (class-level and field-level, including superclasses), or an empty list if none.
+     */
+    static List<String> declaredIndexes(ClassInfo entity, IndexView index) {
+        List<String> result = new ArrayList<>();
+        String collection = collectionName(entity);
+        ClassInfo current = entity;
+        while (current != null && !OBJECT.equals(current.name())) {
+            AnnotationInstance classIndex = current.declaredAnnotation(INDEX);
+            if (classIndex != null) {
+                result.add(collection + "|type|" + join(classIndex.value()) + "|" + join(classIndex.value("options")));
+            }
+            for (FieldInfo field : current.fields()) {
+                AnnotationInstance fieldIndex = field.annotation(INDEX);
+                if (fieldIndex == null) {
+                    continue;
+                }
+                AnnotationInstance property = field.annotation(PROPERTY);
+                String name = field.name();
+                if (property != null && property.value("fieldName") != null) {
+                    name = name + "=" + property.value("fieldName").asString();
+                }
+                result.add(collection + "|field|" + name + "|" + join(fieldIndex.value())
+                        + "|" + join(fieldIndex.value("options")));
+            }
+            current = current.superName() != null ? index.getClassByName(current.superName()) : null;
+        }
+        result.sort(null);
+        return result;
+    }
+
+    /**
+     * Computes a stable SHA-256 fingerprint over the declarations of all entities.
+     *
+     * @param declarations entity class name → declared indexes (as returned by {@link #declaredIndexes})
+     */
+    static String fingerprint(Map<String, List<String>> declarations) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Map.Entry<String, List<String>> entry : new TreeMap<>(declarations).entrySet()) {
+                digest.update(entry.getKey().getBytes(StandardCharsets.UTF_8));
+                for (String declaration : entry.getValue()) {
+                    digest.update((byte) '\n');
+                    digest.update(declaration.getBytes(StandardCharsets.UTF_8));
+                }
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String collectionName(ClassInfo entity) {
+        AnnotationInstance ann = entity.declaredAnnotation(ENTITY);
+        AnnotationValue name = ann != null ? ann.value("collectionName") : null;
+        return name != null ? name.asString() : entity.name().toString();
+    }
+
+    private static String join(AnnotationValue value) {
+        return value == null ? "" : Arrays.toString(value.asStringArray());
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.deployment;
+
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Build-time configuration for Morphium Micrometer metrics.
+ *
+ * <p>Metrics are only recorded when {@code quarkus-micrometer} is present. Set to
+ * {@code false} to disable them even then:
+ * <pre>{@code
+ * quarkus.morphium.metrics.enabled=false
+ * }</pre>
+ */
+@ConfigMapping(prefix = "quarkus.morphium.metrics")
+@ConfigRoot(phase = ConfigPhase.BUILD_TIME)
+public interface MorphiumMetricsBuildTimeConfig {
+
+    /**
+     * Whether repository timers, document counters and driver/cache gauges are registered
+     * with Micrometer.
+     */
+    @WithDefault("true")
+    boolean enabled();
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.deployment;
+
+import de.caluga.morphium.quarkus.metrics.MorphiumMetered;
+import de.caluga.morphium.quarkus.metrics.MorphiumMetricsBinder;
+import de.caluga.morphium.quarkus.metrics.MorphiumRepositoryMetricsInterceptor;
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.deployment.annotations.BuildProducer;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.runtime.metrics.MetricsFactory;
+import org.jboss.logging.Logger;
+
+import java.util.Optional;
+
+/**
+ * Build-time processor for the optional Micrometer integration.
+ *
+ * <p>Active when {@code quarkus-micrometer} is present and
+ * {@code quarkus.morphium.metrics.enabled} is {@code true}: registers the repository metrics
+ * interceptor and the driver/cache meter binder, and signals the repository code generation
+ * via {@link MorphiumMetricsBuildItem}.
+ */
+public class MorphiumMetricsProcessor {
+
+    private static final Logger log = Logger.getLogger(MorphiumMetricsProcessor.class);
+
+    @BuildStep
+    void registerMetrics(MorphiumMetricsBuildTimeConfig config,
+                         Optional<MetricsCapabilityBuildItem> metricsCapability,
+                         BuildProducer<AdditionalBeanBuildItem> additionalBeans,
+                         BuildProducer<MorphiumMetricsBuildItem> metrics) {
+        if (!config.enabled() || metricsCapability.isEmpty()
+                || !metricsCapability.get().metricsSupported(MetricsFactory.MICROMETER)) {
+            return;
+        }
+        additionalBeans.produce(AdditionalBeanBuildItem.builder()
+                .addBeanClasses(
+                        MorphiumMetered.class,
+                        MorphiumRepositoryMetricsInterceptor.class,
+                        MorphiumMetricsBinder.class)
+                .setUnremovable()
+                .build());
+        metrics.produce(new MorphiumMetricsBuildItem());
+        log.debug("Morphium Micrometer metrics enabled");
+    }
+}
@@ -17,6 +17,8 @@ package de.caluga.morphium.quarkus.deployment;
 
 import de.caluga.morphium.annotations.Embedded;
 import de.caluga.morphium.annotations.Entity;
+import de.caluga.morphium.quarkus.MorphiumEntityMetadata;
+import de.caluga.morphium.quarkus.MorphiumIndexFingerprint;
 import de.caluga.morphium.quarkus.MorphiumRecorder;
 import de.caluga.morphium.quarkus.migration.MorphiumMigrationEntry;
 import de.caluga.morphium.quarkus.migration.MorphiumMigrationLock;
@@ -28,18 +30,39 @@ import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveFieldBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveMethodBuildItem;
+import io.quarkus.deployment.pkg.builditem.OutputTargetBuildItem;
+import io.quarkus.deployment.pkg.steps.NativeOrNativeSourcesBuild;
 import io.quarkus.smallrye.health.deployment.spi.HealthBuildItem;
 import de.caluga.morphium.quarkus.MorphiumBlockingCallDetector;
+import de.caluga.morphium.quarkus.MorphiumNPlusOneDetector;
 import de.caluga.morphium.quarkus.MorphiumProducer;
+import de.caluga.morphium.quarkus.MorphiumRequestQueryStats;
+import de.caluga.morphium.quarkus.MorphiumSlowQueryLog;
+import de.caluga.morphium.quarkus.cache.MorphiumCacheInvalidator;
+import de.caluga.morphium.quarkus.cache.MorphiumCacheWarmer;
+import de.caluga.morphium.quarkus.health.MorphiumHealthSampler;
+import de.caluga.morphium.quarkus.health.MorphiumReplicationLagMonitor;
+import de.caluga.morphium.quarkus.jfr.MorphiumJfrRecorder;
+import de.caluga.morphium.quarkus.replica.InMemoryReplicaManager;
 import de.caluga.morphium.quarkus.transaction.MorphiumTransactionalInterceptor;
 import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.IndexView;
 import org.jboss.logging.Logger;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
 /**
  * Quarkus build-time processor for the Morphium extension.
@@ -50,7 +73,9 @@ import java.util.Set;
  *   <li>Make the CDI producer bean available to the application.</li>
  *   <li>Register all classes annotated with {@link Entity} or {@link Embedded}
  *       for GraalVM reflection so that Morphium's ObjectMapper can serialise and
- *       deserialise them in a native image without requiring {@code reflect-config.json}.</li>
+ *       deserialise them in a native image without requiring {@code reflect-config.json}.
+ *       Only persistent fields, the no-arg constructor and lifecycle callbacks are
+ *       registered.</li>
  * </ol>
  *
  * <p>This class uses only standard Quarkus build-item APIs and Jandex for
@@ -64,6 +89,9 @@ import java.util.Set;
 public class MorphiumProcessor {
 
     private static final Logger log = Logger.getLogger(MorphiumProcessor.class);
+    private static final DotName ENTITY = DotName.createSimple(Entity.class.getName());
+    private static final DotName EMBEDDED = DotName.createSimple(Embedded.class.getName());
+    static final String REFLECTION_REPORT = "morphium-reflection-report.txt";
 
     // ------------------------------------------------------------------
     // Feature registration
@@ -88,11 +116,28 @@ public class MorphiumProcessor {
             .addBeanClasses(
                 MorphiumProducer.class,
                 MorphiumTransactionalInterceptor.class,
-                MorphiumBlockingCallDetector.class)
+                MorphiumSlowQueryLog.class,
+                MorphiumNPlusOneDetector.class,
+                MorphiumRequestQueryStats.class,
+                MorphiumCacheInvalidator.class,
+                MorphiumCacheWarmer.class,
+                MorphiumReplicationLagMonitor.class,
+                InMemoryReplicaManager.class,
+                MorphiumJfrRecorder.class)
             .setUnremovable()
             .build();
     }
 
+    @BuildStep
+    void registerBlockingCallDetector(MorphiumBlockingDetectorBuildTimeConfig config,
+                                      BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
+        if (config.enabled()) {
+            additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(MorphiumBlockingCallDetector.class));
+        } else {
+            log.debug("Morphium blocking-call detector disabled at build time");
+        }
+    }
+
     // ------------------------------------------------------------------
     // Health check registration
     // ------------------------------------------------------------------
@@ -118,62 +163,132 @@ public class MorphiumProcessor {
                 config.enabled());
     }
 
+    @BuildStep
+    void addHealthSampler(MorphiumHealthBuildTimeConfig config,
+                          BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
+        // The probes read the sampler's snapshot; without probes there is nothing to sample
+        if (config.enabled()) {
+            additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(MorphiumHealthSampler.class));
+        }
+    }
+
     // ------------------------------------------------------------------
-    // GraalVM native image: reflection registration for @Entity / @Embedded
+    // Runtime pre-registration of discovered @Entity / @Embedded classes
     // ------------------------------------------------------------------
 
     @BuildStep
     @Record(ExecutionTime.RUNTIME_INIT)
-    void registerEntitiesForReflection(BuildProducer<ReflectiveClassBuildItem> reflectiveClasses,
-                                       CombinedIndexBuildItem combinedIndex,
-                                       MorphiumRecorder recorder) {
+    void recordMappedClasses(CombinedIndexBuildItem combinedIndex,
+                             MorphiumRecorder recorder) {
         // Use a Set to avoid duplicates (a class could theoretically have both annotations)
         Set<String> allClassNames = new LinkedHashSet<>();
         IndexView index = combinedIndex.getIndex();
 
-        DotName entityDotName = DotName.createSimple(Entity.class.getName());
-        DotName embeddedDotName = DotName.createSimple(Embedded.class.getName());
+        // Index declarations per @Entity — only entities with at least one @Index are
+        // checked at startup, and the fingerprint lets unchanged deployments skip the check.
+        Map<String, List<String>> indexDeclarations = new TreeMap<>();
 
-        for (AnnotationInstance ai : index.getAnnotations(entityDotName)) {
+        for (AnnotationInstance ai : index.getAnnotations(ENTITY)) {
             if (ai.target().kind() == org.jboss.jandex.AnnotationTarget.Kind.CLASS) {
                 String className = ai.target().asClass().name().toString();
-                registerClass(className, reflectiveClasses);
                 allClassNames.add(className);
+
+                List<String> declared = MorphiumIndexDeclarations.declaredIndexes(ai.target().asClass(), index);
+                if (!declared.isEmpty()) {
+                    indexDeclarations.put(className, declared);
+                }
             }
         }
-        for (AnnotationInstance ai : index.getAnnotations(embeddedDotName)) {
+        for (AnnotationInstance ai : index.getAnnotations(EMBEDDED)) {
             if (ai.target().kind() == org.jboss.jandex.AnnotationTarget.Kind.CLASS) {
-                String className = ai.target().asClass().name().toString();
-                registerClass(className, reflectiveClasses);
                 // @Embedded classes need pre-registration for typeId mapping
-                allClassNames.add(className);
+                allClassNames.add(ai.target().asClass().name().toString());
             }
         }
 
-        // Extension-internal @Entity classes are not in the app Jandex index — register for
-        // reflection only. They are NOT added to mappedClassNames because their collections may
-        // be renamed via configuration, and ensureIndicesFor() would create indexes on the
-        // annotation-defined names instead of the configured ones.
-        registerClass(MorphiumMigrationEntry.class.getName(), reflectiveClasses);
-        registerClass(MorphiumMigrationLock.class.getName(), reflectiveClasses);
-
-        // Pass discovered @Entity/@Embedded classes to runtime for registerTypeIds() pre-registration
-        // and index creation. ensureIndicesFor() on @Embedded-only classes is a harmless no-op
-        // (Morphium skips classes without @Entity for index creation).
+        // Pass discovered @Entity/@Embedded classes to runtime (the typeId map itself is
+        // recorded at STATIC_INIT by recordEntityMetadata()).
         // Always call setMappedClassNames (even when empty) to reset state on hot reload.
         if (!allClassNames.isEmpty()) {
             log.infof("Morphium: passing %d @Entity/@Embedded classes for runtime pre-registration", allClassNames.size());
         }
         recorder.setMappedClassNames(new ArrayList<>(allClassNames));
+
+        log.debugf("Morphium: %d @Entity classes declare indexes", indexDeclarations.size());
+        recorder.setIndexedClassNames(new ArrayList<>(indexDeclarations.keySet()),
+                MorphiumIndexDeclarations.fingerprint(indexDeclarations));
+    }
+
+    // ------------------------------------------------------------------
+    // GraalVM native image: reflection registration for @Entity / @Embedded
+    // ------------------------------------------------------------------
+
+    /**
+     * Registers exactly what Morphium's ObjectMapper uses reflectively: persistent fields,
+     * the no-arg constructor and lifecycle callbacks. Methods (getters, setters, business
+     * logic) are not registered. A footprint report is written to
+     * {@code morphium-reflection-report.txt} in the build output directory.
+     */
+    @BuildStep(onlyIf = NativeOrNativeSourcesBuild.class)
+    void registerEntitiesForReflection(CombinedIndexBuildItem combinedIndex,
+                                       OutputTargetBuildItem outputTarget,
+                                       BuildProducer<ReflectiveClassBuildItem> reflectiveClasses,
+                                       BuildProducer<ReflectiveFieldBuildItem> reflectiveFields,
+                                       BuildProducer<ReflectiveMethodBuildItem> reflectiveMethods) {
+        IndexView index = combinedIndex.getIndex();
+        MorphiumReflectionRegistrar registrar = new MorphiumReflectionRegistrar(
+                index, reflectiveClasses, reflectiveFields, reflectiveMethods);
+
+        for (DotName annotation : List.of(ENTITY, EMBEDDED)) {
+            for (AnnotationInstance ai : index.getAnnotations(annotation)) {
+                if (ai.target().kind() == org.jboss.jandex.AnnotationTarget.Kind.CLASS) {
+                    String className = ai.target().asClass().name().toString();
+                    log.debugf("Morphium: registering %s for reflection (native image)", className);
+                    registrar.register(className);
+                }
+            }
+        }
+
+        // Extension-internal @Entity classes are not in the app Jandex index — register them
+        // with constructors and fields. They are NOT added to mappedClassNames because their
+        // collections may be renamed via configuration, and ensureIndicesFor() would create
+        // indexes on the annotation-defined names instead of the configured ones.
+        registrar.registerWithoutIndex(MorphiumMigrationEntry.class.getName());
+        registrar.registerWithoutIndex(MorphiumMigrationLock.class.getName());
+        registrar.registerWithoutIndex(MorphiumIndexFingerprint.class.getName());
+
+        log.infof("Morphium native reflection footprint: %s", registrar.summary());
+        Path report = outputTarget.getOutputDirectory().resolve(REFLECTION_REPORT);
+        try {
+            registrar.writeReport(report);
+        } catch (IOException e) {
+            log.warnf("Could not write Morphium reflection report to %s: %s", report, e.getMessage());
+        }
     }
 
-    private void registerClass(String className,
-                               BuildProducer<ReflectiveClassBuildItem> out) {
-        log.debugf("Morphium: registering %s for reflection (native image)", className);
-        out.produce(ReflectiveClassBuildItem.builder(className)
-            .constructors(true)
-            .methods(true)
-            .fields(true)
-            .build());
+    // ------------------------------------------------------------------
+    // Entity metadata + typeId map, recorded as bytecode at STATIC_INIT
+    // ------------------------------------------------------------------
+
+    @BuildStep
+    @Record(ExecutionTime.STATIC_INIT)
+    void recordEntityMetadata(CombinedIndexBuildItem combinedIndex, MorphiumRecorder recorder) {
+        IndexView index = combinedIndex.getIndex();
+        Map<String, MorphiumEntityMetadata> metadata = new LinkedHashMap<>();
+        Map<String, String> typeIds = new HashMap<>();
+
+        for (DotName annotation : List.of(ENTITY, EMBEDDED)) {
+            for (AnnotationInstance ai : index.getAnnotations(annotation)) {
+                if (ai.target().kind() == org.jboss.jandex.AnnotationTarget.Kind.CLASS) {
+                    ClassInfo classInfo = ai.target().asClass();
+                    // @Entity wins over @Embedded when a class carries both; typeIds of both are registered
+                    metadata.putIfAbsent(classInfo.name().toString(), MorphiumEntityScanner.scan(classInfo, index));
+                    MorphiumEntityScanner.addTypeIds(classInfo, typeIds);
+                }
+            }
+        }
+
+        log.debugf("Morphium: recording metadata for %d classes (%d typeIds)", metadata.size(), typeIds.size());
+        recorder.setEntityMetadata(new ArrayList<>(metadata.values()), typeIds);
     }
 }
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.deployment;
+
+import de.caluga.morphium.annotations.lifecycle.PostLoad;
+import de.caluga.morphium.annotations.lifecycle.PostRemove;
+import de.caluga.morphium.annotations.lifecycle.PostStore;
+import de.caluga.morphium.annotations.lifecycle.PostUpdate;
+import de.caluga.morphium.annotations.lifecycle.PreRemove;
+import de.caluga.morphium.annotations.lifecycle.PreStore;
+import de.caluga.morphium.annotations.lifecycle.PreUpdate;
+import io.quarkus.deployment.annotations.BuildProducer;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveFieldBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveMethodBuildItem;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Registers {@code @Entity}/{@code @Embedded} classes for GraalVM reflection with the
+ * smallest footprint Morphium's ObjectMapper needs: the class itself, its persistent
+ * fields, the no-arg constructor and the annotated lifecycle callbacks. No other methods
+ * are registered, which keeps them out of the native image's reflection metadata.
+ *
+ * <p>Also keeps a per-class tally that is written as a build-time footprint report.
+ */
+final class MorphiumReflectionRegistrar {
+
+    static final String REASON = MorphiumProcessor.class.getName();
+
+    /** Morphium lifecycle callback annotations, invoked reflectively by the ObjectMapper. */
+    private static final List<DotName> LIFECYCLE_ANNOTATIONS = List.of(
+            DotName.createSimple(PreStore.class.getName()),
+            DotName.createSimple(PostStore.class.getName()),
+            DotName.createSimple(PreRemove.class.getName()),
+            DotName.createSimple(PostRemove.class.getName()),
+            DotName.createSimple(PreUpdate.class.getName()),
+            DotName.createSimple(PostUpdate.class.getName()),
+            DotName.createSimple(PostLoad.class.getName()));
+
+    private static final DotName OBJECT = DotName.createSimple(Object.class.getName());
+
+    private final IndexView index;
+    private final BuildProducer<ReflectiveClassBuildItem> classes;
+    private final BuildProducer<ReflectiveFieldBuildItem> fields;
+    private final BuildProducer<ReflectiveMethodBuildItem> methods;
+
+    private final Set<String> registered = new LinkedHashSet<>();
+    private final List<String> reportLines = new ArrayList<>();
+    private int fieldCount;
+    private int constructorCount;
+    private int lifecycleCount;
+    private int fullyRegistered;
+
+    MorphiumReflectionRegistrar(IndexView index,
+                                BuildProducer<ReflectiveClassBuildItem> classes,
+                                BuildProducer<ReflectiveFieldBuildItem> fields,
+                                BuildProducer<ReflectiveMethodBuildItem> methods) {
+        this.index = index;
+        this.classes = classes;
+        this.fields = fields;
+        this.methods = methods;
+    }
+
+    /**
+     * Registers the class and its superclass chain. Superclasses that are not in the
+     * Jandex index cannot be inspected and fall back to constructor + field registration.
+     */
+    void register(String className) {
+        DotName name = DotName.createSimple(className);
+        while (name != null && !OBJECT.equals(name) && registered.add(name.toString())) {
+            ClassInfo classInfo = index.getClassByName(name);
+            if (classInfo == null) {
+                registerWithoutIndex(name.toString());
+                return;
+            }
+            registerIndexed(classInfo);
+            name = classInfo.superName();
+        }
+    }
+
+    /**
+     * Registers a class that is not in the application index (e.g. extension-internal
+     * entities) with all constructors and fields, but still without methods.
+     */
+    void registerWithoutIndex(String className) {
+        registered.add(className);
+        classes.produce(ReflectiveClassBuildItem.builder(className)
+                .reason(REASON)
+                .constructors(true)
+                .fields(true)
+                .methods(false)
+                .build());
+        fullyRegistered++;
+        reportLines.add(className + " [not indexed] constructors=all fields=all methods=none");
+    }
+
+    private void registerIndexed(ClassInfo classInfo) {
+        String className = classInfo.name().toString();
+        classes.produce(ReflectiveClassBuildItem.builder(className)
+                .reason(REASON)
+                .constructors(false)
+                .fields(false)
+                .methods(false)
+                .build());
+
+        int classFields = 0;
+        for (FieldInfo field : classInfo.fields()) {
+            if (java.lang.reflect.Modifier.isStatic(field.flags())) continue;
+            if (java.lang.reflect.Modifier.isTransient(field.flags())) continue;
+            if (field.hasAnnotation(MorphiumEntityScanner.TRANSIENT)) continue;
+            fields.produce(new ReflectiveFieldBuildItem(REASON, field));
+            classFields++;
+        }
+
+        String constructor = "none";
+        MethodInfo noArg = classInfo.method("<init>");
+        if (noArg != null) {
+            methods.produce(new ReflectiveMethodBuildItem(REASON, noArg));
+            constructor = "no-arg";
+            constructorCount++;
+        } else if (!classInfo.isAbstract()) {
+            // No no-arg constructor (e.g. records): Morphium picks a constructor reflectively
+            classes.produce(ReflectiveClassBuildItem.builder(className)
+                    .reason(REASON)
+                    .constructors(true)
+                    .build());
+            constructor = "all";
+            constructorCount += classInfo.constructors().size();
+        }
+
+        List<String> callbacks = new ArrayList<>();
+        for (MethodInfo method : classInfo.methods()) {
+            for (DotName lifecycle : LIFECYCLE_ANNOTATIONS) {
+                if (method.hasDeclaredAnnotation(lifecycle)) {
+                    methods.produce(new ReflectiveMethodBuildItem(REASON, method));
+                    callbacks.add(method.name() + "()");
+                    break;
+                }
+            }
+        }
+
+        fieldCount += classFields;
+        lifecycleCount += callbacks.size();
+        reportLines.add(className + " fields=" + classFields + " constructor=" + constructor
+                + " lifecycle=" + callbacks);
+    }
+
+    String summary() {
+        return String.format("%d classes (%d without index information), %d fields, %d constructors, "
+                        + "%d lifecycle methods, 0 other methods",
+                registered.size(), fullyRegistered, fieldCount, constructorCount, lifecycleCount);
+    }
+
+    /** Writes the per-class footprint report to the given file. */
+    void writeReport(Path file) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("# Morphium native-image reflection footprint");
+        lines.add("# " + summary());
+        lines.addAll(reportLines);
+        Files.createDirectories(file.getParent());
+        Files.write(file, lines, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.deployment;
+
+import de.caluga.morphium.quarkus.tracing.MorphiumCommandTracer;
+import de.caluga.morphium.quarkus.tracing.MorphiumRepositoryTracingInterceptor;
+import de.caluga.morphium.quarkus.tracing.MorphiumTraced;
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.deployment.Capabilities;
+import io.quarkus.deployment.Capability;
+import io.quarkus.deployment.annotations.BuildProducer;
+import io.quarkus.deployment.annotations.BuildStep;
+import org.jboss.logging.Logger;
+
+/**
+ * Build-time processor for the optional OpenTelemetry integration.
+ *
+ * <p>Active when {@code quarkus-opentelemetry} is present and
+ * {@code quarkus.morphium.tracing.enabled} is {@code true}: registers the repository span
+ * interceptor and the command tracer, and signals the repository code generation via
+ * {@link MorphiumTracingBuildItem}.
+ */
+public class MorphiumTracingProcessor {
+
+    private static final Logger log = Logger.getLogger(MorphiumTracingProcessor.class);
+
+    @BuildStep
+    void registerTracing(MorphiumTracingBuildTimeConfig config,
+                         Capabilities capabilities,
+                         BuildProducer<AdditionalBeanBuildItem> additionalBeans,
+                         BuildProducer<MorphiumTracingBuildItem> tracing) {
+        if (!config.enabled() || !capabilities.isPresent(Capability.OPENTELEMETRY_TRACER)) {
+            return;
+        }
+        additionalBeans.produce(AdditionalBeanBuildItem.builder()
+                .addBeanClasses(
+                        MorphiumTraced.class,
+                        MorphiumRepositoryTracingInterceptor.class,
+                        MorphiumCommandTracer.class)
+                .setUnremovable()
+                .build());
+        tracing.produce(new MorphiumTracingBuildItem());
+        log.debug("Morphium OpenTelemetry tracing enabled");
+    }
+}
@@ -0,0 +1,114 @@
+import { LitElement, html, css } from 'lit';
+import { JsonRpc } from 'jsonrpc';
+import { columnBodyRenderer } from '@vaadin/grid/lit.js';
+
+export class QwcMorphiumCollections extends LitElement {
+
+    jsonRpc = new JsonRpc(this);
+
+    static properties = {
+        _collections: { state: true },
+        _indexes: { state: true },
+        _loading: { state: true }
+    };
+
+    static styles = css`
+        :host {
+            display: flex;
+            flex-direction: column;
+            gap: 0.5em;
+            padding: 1em;
+        }
+        vaadin-grid {
+            width: 100%;
+        }
+        .unused, .missing, .error {
+            color: var(--lumo-error-text-color);
+            font-weight: bold;
+        }
+        .undeclared {
+            color: var(--lumo-warning-text-color, orange);
+        }
+        .key {
+            font-family: var(--lumo-font-family-monospace, monospace);
+        }
+    `;
+
+    constructor() {
+        super();
+        this._collections = [];
+        this._indexes = [];
+        this._loading = true;
+    }
+
+    connectedCallback() {
+        super.connectedCallback();
+        this._load();
+    }
+
+    _load() {
+        this._loading = true;
+        this.jsonRpc.getCollectionStats()
+            .then(response => {
+                const rows = Array.isArray(response?.result) ? response.result : [];
+                this._collections = rows;
+                this._indexes = rows.flatMap(row => (row.indexes ?? []).map(index => ({
+                    collection: row.collection,
+                    ...index
+                })));
+            })
+            .catch(error => {
+                console.error('Failed to load collection statistics', error);
+                this._collections = [];
+                this._indexes = [];
+            })
+            .finally(() => {
+                this._loading = false;
+            });
+    }
+
+    _size(bytes) {
+        if (bytes === undefined || bytes === null) {
+            return '';
+        }
+        const units = ['B', 'KiB', 'MiB', 'GiB', 'TiB'];
+        let value = bytes;
+        let unit = 0;
+        while (value >= 1024 && unit < units.length - 1) {
+            value /= 1024;
+            unit++;
+        }
+        return (unit === 0 ? value : value.toFixed(1)) + ' ' + units[unit];
+    }
+
+    render() {
+        if (this._loading) {
+            return html`<span>Loading collection statistics...</span>`;
+        }
+        return html`
+            <div>
+                <vaadin-button theme="small" @click=${() => this._load()}>Refresh</vaadin-button>
+            </div>
+            <vaadin-grid .items=${this._collections} all-rows-visible theme="compact row-stripes no-border">
+                <vaadin-grid-sort-column path="entity" header="entity" auto-width></vaadin-grid-sort-column>
+                <vaadin-grid-sort-column path="collection" header="collection" auto-width></vaadin-grid-sort-column>
+                <vaadin-grid-sort-column path="count" header="documents" auto-width></vaadin-grid-sort-column>
+                <vaadin-grid-column header="avg size" auto-width ${columnBodyRenderer(row => html`${this._size(row.avgObjSize)}`, [])}></vaadin-grid-column>
+                <vaadin-grid-column header="data size" auto-width ${columnBodyRenderer(row => html`${this._size(row.size)}`, [])}></vaadin-grid-column>
+                <vaadin-grid-column header="storage size" auto-width ${columnBodyRenderer(row => html`${this._size(row.storageSize)}`, [])}></vaadin-grid-column>
+                <vaadin-grid-column header="index size" auto-width ${columnBodyRenderer(row => html`${this._size(row.totalIndexSize)}`, [])}></vaadin-grid-column>
+                <vaadin-grid-column header="error" ${columnBodyRenderer(row => html`<span class="error">${row.error ?? ''}</span>`, [])}></vaadin-grid-column>
+            </vaadin-grid>
+            <vaadin-grid .items=${this._indexes} all-rows-visible theme="compact row-stripes no-border">
+                <vaadin-grid-sort-column path="collection" header="collection" auto-width></vaadin-grid-sort-column>
+                <vaadin-grid-sort-column path="name" header="index" auto-width></vaadin-grid-sort-column>
+                <vaadin-grid-column header="key" ${columnBodyRenderer(row => html`<span class="key">${row.key}</span>`, [])}></vaadin-grid-column>
+                <vaadin-grid-sort-column path="ops" header="ops" auto-width></vaadin-grid-sort-column>
+                <vaadin-grid-column path="since" header="since" auto-width></vaadin-grid-column>
+                <vaadin-grid-sort-column path="status" header="status" auto-width
+                    ${columnBodyRenderer(row => html`<span class="${row.status}">${row.status}</span>`, [])}></vaadin-grid-sort-column>
+            </vaadin-grid>`;
+    }
+}
+
+customElements.define('qwc-morphium-collections', QwcMorphiumCollections);
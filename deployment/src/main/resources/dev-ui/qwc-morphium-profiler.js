@@ -0,0 +1,88 @@
+import { LitElement, html, css } from 'lit';
+import { JsonRpc } from 'jsonrpc';
+import { columnBodyRenderer } from '@vaadin/grid/lit.js';
+
+export class QwcMorphiumProfiler extends LitElement {
+
+    jsonRpc = new JsonRpc(this);
+
+    static properties = {
+        _rows: { state: true }
+    };
+
+    static styles = css`
+        :host {
+            display: flex;
+            flex-direction: column;
+            gap: 0.5em;
+            padding: 1em;
+        }
+        vaadin-grid {
+            width: 100%;
+        }
+        .collscan {
+            color: var(--lumo-error-text-color);
+            font-weight: bold;
+        }
+        .shape {
+            font-family: var(--lumo-font-family-monospace, monospace);
+        }
+    `;
+
+    constructor() {
+        super();
+        this._rows = [];
+    }
+
+    connectedCallback() {
+        super.connectedCallback();
+        this.jsonRpc.getQueryProfile().then(response => {
+            this._rows = Array.isArray(response?.result) ? response.result : [];
+        });
+        this._observer = this.jsonRpc.streamQueryProfile().onNext(response => {
+            this._rows = Array.isArray(response?.result) ? response.result : [];
+        });
+    }
+
+    disconnectedCallback() {
+        if (this._observer) {
+            this._observer.cancel();
+            this._observer = null;
+        }
+        super.disconnectedCallback();
+    }
+
+    _reset() {
+        this.jsonRpc.resetQueryProfile().then(() => {
+            this._rows = [];
+        });
+    }
+
+    render() {
+        return html`
+            <div>
+                <vaadin-button theme="small" @click=${() => this._reset()}>Reset</vaadin-button>
+            </div>
+            ${this._rows.length === 0
+                ? html`<span>No queries recorded yet.</span>`
+                : html`
+                <vaadin-grid .items=${this._rows} all-rows-visible theme="compact row-stripes no-border">
+                    <vaadin-grid-sort-column path="operation" header="op" auto-width></vaadin-grid-sort-column>
+                    <vaadin-grid-sort-column path="collection" header="collection" auto-width></vaadin-grid-sort-column>
+                    <vaadin-grid-column header="shape" ${columnBodyRenderer(row => html`<span class="shape">${row.shape}</span>`, [])}></vaadin-grid-column>
+                    <vaadin-grid-sort-column path="count" header="count" auto-width></vaadin-grid-sort-column>
+                    <vaadin-grid-sort-column path="totalMs" header="total ms" auto-width></vaadin-grid-sort-column>
+                    <vaadin-grid-sort-column path="avgMs" header="avg ms" auto-width></vaadin-grid-sort-column>
+                    <vaadin-grid-sort-column path="p50Ms" header="p50 ms" auto-width></vaadin-grid-sort-column>
+                    <vaadin-grid-sort-column path="p95Ms" header="p95 ms" auto-width></vaadin-grid-sort-column>
+                    <vaadin-grid-sort-column path="maxMs" header="max ms" auto-width></vaadin-grid-sort-column>
+                    <vaadin-grid-sort-column path="documents" header="docs written" auto-width></vaadin-grid-sort-column>
+                    <vaadin-grid-column header="plan" ${columnBodyRenderer(row => row.collscan
+                        ? html`<span class="collscan">${row.plan}</span>`
+                        : html`<span>${row.plan}</span>`, [])}></vaadin-grid-column>
+                    <vaadin-grid-column path="callSite" header="call site"></vaadin-grid-column>
+                </vaadin-grid>`}`;
+    }
+}
+
+customElements.define('qwc-morphium-profiler', QwcMorphiumProfiler);
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.deployment;
+
+import de.caluga.morphium.annotations.Embedded;
+import de.caluga.morphium.annotations.Entity;
+import de.caluga.morphium.annotations.Id;
+import de.caluga.morphium.annotations.Property;
+import de.caluga.morphium.annotations.Transient;
+import de.caluga.morphium.quarkus.MorphiumEntityMetadata;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link MorphiumEntityScanner} — build-time mapping metadata and typeId
+ * registration read from Jandex.
+ */
+@DisplayName("MorphiumEntityScanner – Jandex mapping metadata and typeIds")
+class MorphiumEntityScannerTest {
+
+    @Entity(typeId = "customer")
+    static class CustomerAccount {
+        @Id
+        String id;
+
+        @Property(fieldName = "mail")
+        String emailAddress;
+
+        String displayName;
+
+        @Transient
+        String scratch;
+
+        static String constant;
+    }
+
+    @Entity(collectionName = "premium", typeId = "premium")
+    static class PremiumAccount extends CustomerAccount {
+        int level;
+    }
+
+    @Embedded(typeId = "addr")
+    static class PostalAddress {
+        String zipCode;
+    }
+
+    @Entity(typeId = "dual-entity")
+    @Embedded(typeId = "dual-embedded")
+    static class DualMapped {
+        @Id
+        String id;
+    }
+
+    private static IndexView index;
+
+    @BeforeAll
+    static void buildIndex() throws Exception {
+        index = org.jboss.jandex.Index.of(CustomerAccount.class, PremiumAccount.class,
+                PostalAddress.class, DualMapped.class);
+    }
+
+    private static ClassInfo classInfo(Class<?> cls) {
+        return index.getClassByName(DotName.createSimple(cls.getName()));
+    }
+
+    private static MorphiumEntityMetadata scan(Class<?> cls) {
+        return MorphiumEntityScanner.scan(classInfo(cls), index);
+    }
+
+    @Test
+    @DisplayName("entity metadata follows Morphium's naming rules")
+    void scansEntity() {
+        MorphiumEntityMetadata md = scan(CustomerAccount.class);
+        assertThat(md.getClassName()).isEqualTo(CustomerAccount.class.getName());
+        assertThat(md.getTypeId()).isEqualTo("customer");
+        assertThat(md.getCollectionName()).isEqualTo("customer_account");
+        assertThat(md.getIdField()).isEqualTo("id");
+        assertThat(md.isEmbedded()).isFalse();
+        assertThat(md.getFieldNames()).containsOnly(
+                Map.entry("id", "_id"),
+                Map.entry("emailAddress", "mail"),
+                Map.entry("displayName", "display_name"));
+    }
+
+    @Test
+    @DisplayName("inherited fields are included")
+    void includesInheritedFields() {
+        MorphiumEntityMetadata md = scan(PremiumAccount.class);
+        assertThat(md.getCollectionName()).isEqualTo("premium");
+        assertThat(md.getIdField()).isEqualTo("id");
+        assertThat(md.getFieldNames()).containsKeys("level", "id", "emailAddress", "displayName")
+                .doesNotContainKeys("scratch", "constant");
+    }
+
+    @Test
+    @DisplayName("embedded classes have no collection")
+    void scansEmbedded() {
+        MorphiumEntityMetadata md = scan(PostalAddress.class);
+        assertThat(md.isEmbedded()).isTrue();
+        assertThat(md.getCollectionName()).isNull();
+        assertThat(md.getTypeId()).isEqualTo("addr");
+        assertThat(md.getFieldNames()).containsOnly(Map.entry("zipCode", "zip_code"));
+    }
+
+    @Test
+    @DisplayName("class name and explicit typeId are registered")
+    void registersTypeIds() {
+        Map<String, String> typeIds = new HashMap<>();
+        MorphiumEntityScanner.addTypeIds(classInfo(CustomerAccount.class), typeIds);
+        assertThat(typeIds).containsOnly(
+                Map.entry("customer", CustomerAccount.class.getName()),
+                Map.entry(CustomerAccount.class.getName(), CustomerAccount.class.getName()));
+    }
+
+    @Test
+    @DisplayName("@Entity and @Embedded on one class register both typeIds")
+    void registersBothTypeIdsOfDualMappedClass() {
+        MorphiumEntityMetadata md = scan(DualMapped.class);
+        assertThat(md.isEmbedded()).isFalse();
+        assertThat(md.getTypeId()).isEqualTo("dual-entity");
+
+        Map<String, String> typeIds = new HashMap<>();
+        MorphiumEntityScanner.addTypeIds(classInfo(DualMapped.class), typeIds);
+        assertThat(typeIds).containsOnly(
+                Map.entry("dual-entity", DualMapped.class.getName()),
+                Map.entry("dual-embedded", DualMapped.class.getName()),
+                Map.entry(DualMapped.class.getName(), DualMapped.class.getName()));
+    }
+}
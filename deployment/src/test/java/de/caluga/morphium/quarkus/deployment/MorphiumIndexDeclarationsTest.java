@@ -0,0 +1,114 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.deployment;
+
+import de.caluga.morphium.annotations.Entity;
+import de.caluga.morphium.annotations.Id;
+import de.caluga.morphium.annotations.Index;
+import de.caluga.morphium.annotations.Property;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link MorphiumIndexDeclarations} — build-time collection of
+ * {@code @Index} declarations and the fingerprint used to skip unchanged index checks.
+ */
+@DisplayName("MorphiumIndexDeclarations – Jandex index scan and fingerprint")
+class MorphiumIndexDeclarationsTest {
+
+    @Entity(collectionName = "indexed")
+    @Index({"name,-created"})
+    static class IndexedEntity {
+        @Id
+        String id;
+
+        @Index
+        @Property(fieldName = "customer_id")
+        String customerId;
+
+        String name;
+    }
+
+    @Entity(collectionName = "indexed_sub")
+    static class IndexedSubEntity extends IndexedEntity {
+    }
+
+    @Entity(collectionName = "plain")
+    static class PlainEntity {
+        @Id
+        String id;
+    }
+
+    private static IndexView index;
+
+    @BeforeAll
+    static void buildIndex() throws Exception {
+        index = org.jboss.jandex.Index.of(IndexedEntity.class, IndexedSubEntity.class, PlainEntity.class);
+    }
+
+    private static List<String> declared(Class<?> cls) {
+        return MorphiumIndexDeclarations.declaredIndexes(
+                index.getClassByName(DotName.createSimple(cls.getName())), index);
+    }
+
+    @Test
+    @DisplayName("class-level and field-level @Index are collected")
+    void collectsClassAndFieldIndexes() {
+        assertThat(declared(IndexedEntity.class))
+                .hasSize(2)
+                .anyMatch(d -> d.startsWith("indexed|type|[name,-created]"))
+                .anyMatch(d -> d.startsWith("indexed|field|customerId=customer_id"));
+    }
+
+    @Test
+    @DisplayName("indexes declared on a superclass are inherited")
+    void inheritsSuperclassIndexes() {
+        assertThat(declared(IndexedSubEntity.class)).hasSize(2)
+                .allMatch(d -> d.startsWith("indexed_sub|"));
+    }
+
+    @Test
+    @DisplayName("entity without @Index yields no declarations")
+    void plainEntityHasNoDeclarations() {
+        assertThat(declared(PlainEntity.class)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("fingerprint is stable and independent of map order")
+    void fingerprintIsStable() {
+        String a = MorphiumIndexDeclarations.fingerprint(Map.of(
+                "a.A", List.of("x"), "b.B", List.of("y")));
+        String b = MorphiumIndexDeclarations.fingerprint(Map.of(
+                "b.B", List.of("y"), "a.A", List.of("x")));
+        assertThat(a).isEqualTo(b).hasSize(64);
+    }
+
+    @Test
+    @DisplayName("fingerprint changes when a declaration changes")
+    void fingerprintChangesWithDeclarations() {
+        String before = MorphiumIndexDeclarations.fingerprint(Map.of("a.A", List.of("x")));
+        String after = MorphiumIndexDeclarations.fingerprint(Map.of("a.A", List.of("x", "z")));
+        assertThat(before).isNotEqualTo(after);
+    }
+}
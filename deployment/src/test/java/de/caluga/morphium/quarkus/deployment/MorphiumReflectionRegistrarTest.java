@@ -0,0 +1,173 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.deployment;
+
+import de.caluga.morphium.annotations.Entity;
+import de.caluga.morphium.annotations.Id;
+import de.caluga.morphium.annotations.Transient;
+import de.caluga.morphium.annotations.lifecycle.Lifecycle;
+import de.caluga.morphium.annotations.lifecycle.PostLoad;
+import de.caluga.morphium.annotations.lifecycle.PreStore;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveFieldBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveMethodBuildItem;
+import org.jboss.jandex.IndexView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link MorphiumReflectionRegistrar} — the minimal native-image reflection
+ * registration of entity classes.
+ */
+@DisplayName("MorphiumReflectionRegistrar – minimal reflection registration")
+class MorphiumReflectionRegistrarTest {
+
+    static class BaseDocument {
+        @Id
+        String id;
+
+        @PostLoad
+        void afterLoad() {
+        }
+    }
+
+    @Entity
+    @Lifecycle
+    static class Invoice extends BaseDocument {
+        static final String COLLECTION = "invoice";
+
+        String number;
+        transient String cached;
+
+        @Transient
+        String scratch;
+
+        Invoice() {
+        }
+
+        Invoice(String number) {
+            this.number = number;
+        }
+
+        @PreStore
+        void beforeStore() {
+        }
+
+        String formatted() {
+            return number;
+        }
+    }
+
+    @Entity
+    record Tag(String id, String label) {
+    }
+
+    private static IndexView index;
+
+    private final List<ReflectiveClassBuildItem> classes = new ArrayList<>();
+    private final List<ReflectiveFieldBuildItem> fields = new ArrayList<>();
+    private final List<ReflectiveMethodBuildItem> methods = new ArrayList<>();
+    private MorphiumReflectionRegistrar registrar;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        if (index == null) {
+            index = org.jboss.jandex.Index.of(BaseDocument.class, Invoice.class, Tag.class);
+        }
+        registrar = new MorphiumReflectionRegistrar(index, classes::add, fields::add, methods::add);
+    }
+
+    private List<String> fieldNames(Class<?> declaring) {
+        return fields.stream().filter(f -> f.getDeclaringClass().equals(declaring.getName()))
+                .map(ReflectiveFieldBuildItem::getName).toList();
+    }
+
+    private List<String> methodNames(Class<?> declaring) {
+        return methods.stream().filter(m -> m.getDeclaringClass().equals(declaring.getName()))
+                .map(m -> m.getName() + "/" + m.getParams().length).toList();
+    }
+
+    @Test
+    @DisplayName("persistent fields, no-arg constructor and lifecycle methods only")
+    void registersMinimalFootprint() {
+        registrar.register(Invoice.class.getName());
+
+        assertThat(fieldNames(Invoice.class)).containsExactly("number");
+        assertThat(methodNames(Invoice.class)).containsExactlyInAnyOrder("<init>/0", "beforeStore/0");
+        assertThat(classes).allSatisfy(c -> {
+            assertThat(c.isMethods()).isFalse();
+            assertThat(c.isFields()).isFalse();
+            assertThat(c.isConstructors()).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("superclasses are registered the same way")
+    void registersSuperclassChain() {
+        registrar.register(Invoice.class.getName());
+
+        assertThat(classes).flatExtracting(ReflectiveClassBuildItem::getClassNames)
+                .containsExactly(Invoice.class.getName(), BaseDocument.class.getName());
+        assertThat(fieldNames(BaseDocument.class)).containsExactly("id");
+        assertThat(methodNames(BaseDocument.class)).containsExactlyInAnyOrder("<init>/0", "afterLoad/0");
+        assertThat(fields).hasSize(2);
+        assertThat(methods).hasSize(4);
+        assertThat(registrar.summary()).startsWith("2 classes (0 without index information), 2 fields, "
+                + "2 constructors, 2 lifecycle methods");
+    }
+
+    @Test
+    @DisplayName("classes without no-arg constructor get all constructors")
+    void registersAllConstructorsWithoutNoArg() {
+        registrar.register(Tag.class.getName());
+
+        assertThat(fieldNames(Tag.class)).containsExactlyInAnyOrder("id", "label");
+        assertThat(methods).isEmpty();
+        assertThat(classes).anySatisfy(c -> assertThat(c.isConstructors()).isTrue())
+                .allSatisfy(c -> assertThat(c.isMethods()).isFalse());
+    }
+
+    @Test
+    @DisplayName("classes missing from the index fall back to constructors and fields")
+    void registersUnindexedClass() {
+        registrar.register("com.example.NotIndexed");
+
+        assertThat(classes).singleElement().satisfies(c -> {
+            assertThat(c.getClassNames()).containsExactly("com.example.NotIndexed");
+            assertThat(c.isConstructors()).isTrue();
+            assertThat(c.isFields()).isTrue();
+            assertThat(c.isMethods()).isFalse();
+        });
+        assertThat(fields).isEmpty();
+        assertThat(methods).isEmpty();
+    }
+
+    @Test
+    @DisplayName("each class is registered once")
+    void registersOnce() {
+        registrar.register(Invoice.class.getName());
+        registrar.register(BaseDocument.class.getName());
+
+        assertThat(classes).hasSize(2);
+        assertThat(fields).hasSize(2);
+    }
+}
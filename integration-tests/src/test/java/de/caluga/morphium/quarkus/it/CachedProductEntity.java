@@ -0,0 +1,46 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.it;
+
+import de.caluga.morphium.annotations.Entity;
+import de.caluga.morphium.annotations.Id;
+import de.caluga.morphium.annotations.caching.Cache;
+
+/**
+ * Read-cached entity used by the cache backend tests.
+ */
+@Entity(collectionName = "it_cached_products")
+@Cache(timeout = 60000, clearOnWrite = false)
+public class CachedProductEntity {
+
+    @Id
+    private String id;
+
+    private String name;
+
+    private double price;
+
+    // --- accessors ---
+
+    public String getId()             { return id; }
+    public void   setId(String id)    { this.id = id; }
+
+    public String getName()              { return name; }
+    public void   setName(String name)   { this.name = name; }
+
+    public double getPrice()               { return price; }
+    public void   setPrice(double price)   { this.price = price; }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.it;
+
+import de.caluga.morphium.annotations.Entity;
+import de.caluga.morphium.annotations.Id;
+import de.caluga.morphium.quarkus.replica.InMemoryReplica;
+
+/**
+ * Reference-data entity replicated into the heap, used by the in-memory replica tests.
+ */
+@Entity(collectionName = "it_countries")
+@InMemoryReplica
+public class CountryEntity {
+
+    @Id
+    private String id;
+
+    private String code;
+
+    private String region;
+
+    private int population;
+
+    private double area;
+
+    private boolean active;
+
+    // --- accessors ---
+
+    public String getId()             { return id; }
+    public void   setId(String id)    { this.id = id; }
+
+    public String getCode()              { return code; }
+    public void   setCode(String code)   { this.code = code; }
+
+    public String getRegion()                { return region; }
+    public void   setRegion(String region)   { this.region = region; }
+
+    public int  getPopulation()                   { return population; }
+    public void setPopulation(int population)     { this.population = population; }
+
+    public double getArea()               { return area; }
+    public void   setArea(double area)    { this.area = area; }
+
+    public boolean isActive()                 { return active; }
+    public void    setActive(boolean active)  { this.active = active; }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.it;
+
+import jakarta.data.repository.CrudRepository;
+import jakarta.data.repository.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Repository for {@link CountryEntity}. The equality-only {@code findBy*} methods are served
+ * from the in-memory replica; {@code findByPopulationGreaterThan} and {@code countByRegion}
+ * still go to MongoDB.
+ */
+@Repository
+public interface CountryRepository extends CrudRepository<CountryEntity, String> {
+
+    Optional<CountryEntity> findByCode(String code);
+
+    List<CountryEntity> findByRegion(String region);
+
+    Stream<CountryEntity> findByRegionAndActive(String region, boolean active);
+
+    List<CountryEntity> findByPopulation(long population);
+
+    List<CountryEntity> findByArea(long area);
+
+    List<CountryEntity> findByPopulationGreaterThan(int population);
+
+    long countByRegion(String region);
+}
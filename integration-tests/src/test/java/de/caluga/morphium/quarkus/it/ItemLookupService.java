@@ -0,0 +1,47 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.it;
+
+import de.caluga.morphium.quarkus.MorphiumRequestQueryStats;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.control.ActivateRequestContext;
+import jakarta.inject.Inject;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test service issuing one query per name within a single request context — the classic
+ * N+1 loop — for {@link MorphiumNPlusOneTest}.
+ */
+@ApplicationScoped
+public class ItemLookupService {
+
+    @Inject
+    ItemRepository itemRepository;
+
+    @Inject
+    MorphiumRequestQueryStats requestStats;
+
+    /** Looks up every name separately and returns the per-shape counts of this request. */
+    @ActivateRequestContext
+    public Map<String, Integer> findEachByName(List<String> names) {
+        for (String name : names) {
+            itemRepository.findByName(name);
+        }
+        return requestStats.getCounts();
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.it;
+
+import de.caluga.morphium.quarkus.MorphiumBlockingCallDetector;
+import de.caluga.morphium.quarkus.testing.InMemMorphiumTestProfile;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import io.vertx.core.Vertx;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that the blocking-call detector counts Morphium reads issued on a Vert.x
+ * event-loop thread per call site, and ignores calls from other threads.
+ */
+@QuarkusTest
+@TestProfile(InMemMorphiumTestProfile.class)
+@DisplayName("Blocking-call detector")
+class MorphiumBlockingCallDetectorTest {
+
+    @Inject
+    MorphiumBlockingCallDetector detector;
+
+    @Inject
+    ItemRepository itemRepository;
+
+    @Inject
+    Vertx vertx;
+
+    @Test
+    @DisplayName("repository read on the event loop is counted for the repository method")
+    void eventLoopReadIsCounted() throws Exception {
+        long before = findCount("ItemRepository.findByName");
+
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        vertx.runOnContext(v -> {
+            try {
+                itemRepository.findByName("event-loop");
+                done.complete(null);
+            } catch (Throwable t) {
+                done.completeExceptionally(t);
+            }
+        });
+        done.get(10, TimeUnit.SECONDS);
+
+        assertThat(findCount("ItemRepository.findByName")).isEqualTo(before + 1);
+    }
+
+    @Test
+    @DisplayName("repository read on a worker thread is not counted")
+    void workerReadIsIgnored() {
+        long before = findCount("ItemRepository.findByName");
+
+        itemRepository.findByName("worker");
+
+        assertThat(findCount("ItemRepository.findByName")).isEqualTo(before);
+    }
+
+    private long findCount(String site) {
+        Map<String, Long> sites = detector.getCallSiteCounts().getOrDefault("find", Map.of());
+        return sites.getOrDefault(site, 0L);
+    }
+}
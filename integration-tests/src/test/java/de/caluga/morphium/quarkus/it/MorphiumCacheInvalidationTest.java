@@ -0,0 +1,118 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.it;
+
+import de.caluga.morphium.Morphium;
+import de.caluga.morphium.quarkus.cache.MorphiumCacheInvalidator;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies change-stream based cache invalidation
+ * ({@code quarkus.morphium.cache.invalidation=change-stream}).
+ *
+ * <p>{@link CachedProductEntity} uses {@code @Cache(clearOnWrite = false)}, so a write does not
+ * evict the local cache — only the change-stream event does, exactly as for a write on another pod.
+ */
+@QuarkusTest
+@TestProfile(MorphiumCacheInvalidationTest.ChangeStreamInvalidationProfile.class)
+@DisplayName("Cluster-wide cache invalidation via change streams")
+class MorphiumCacheInvalidationTest {
+
+    public static class ChangeStreamInvalidationProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of(
+                    "quarkus.morphium.driver-name", "InMemDriver",
+                    "quarkus.morphium.database", "invalidation-test",
+                    "quarkus.morphium.devservices.enabled", "false",
+                    "quarkus.morphium.cache.invalidation", "change-stream"
+            );
+        }
+    }
+
+    @Inject
+    Morphium morphium;
+
+    @Inject
+    MorphiumCacheInvalidator invalidator;
+
+    @Test
+    @DisplayName("write to a cached collection evicts the cached query result")
+    void writeEvictsCachedResult() throws InterruptedException {
+        CachedProductEntity p = new CachedProductEntity();
+        p.setName("invalidate-me");
+        p.setPrice(1.0);
+        long before = invalidator.getEvictionCount();
+        morphium.store(p);
+        awaitEvictionAfter(before);
+
+        // Populate the cache
+        assertThat(morphium.createQueryFor(CachedProductEntity.class)
+                .f("name").eq("invalidate-me").get().getPrice()).isEqualTo(1.0);
+
+        before = invalidator.getEvictionCount();
+        p.setPrice(2.0);
+        morphium.store(p);
+        awaitEvictionAfter(before);
+
+        assertThat(morphium.createQueryFor(CachedProductEntity.class)
+                .f("name").eq("invalidate-me").get().getPrice()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("all @Cache entities of a collection are evicted, including inherited @Cache")
+    void writeEvictsEveryEntityOfCollection() throws InterruptedException {
+        CachedProductEntity p = new CachedProductEntity();
+        p.setName("shared-collection");
+        p.setPrice(1.0);
+        long before = invalidator.getEvictionCount();
+        morphium.store(p);
+        awaitEvictionAfter(before);
+
+        // Populate the caches of both entity types mapped to the collection
+        assertThat(morphium.createQueryFor(CachedProductEntity.class)
+                .f("name").eq("shared-collection").get().getPrice()).isEqualTo(1.0);
+        assertThat(morphium.createQueryFor(CachedProductSummary.class)
+                .f("name").eq("shared-collection").get().getPrice()).isEqualTo(1.0);
+
+        before = invalidator.getEvictionCount();
+        p.setPrice(2.0);
+        morphium.store(p);
+        awaitEvictionAfter(before + 1);
+
+        assertThat(morphium.createQueryFor(CachedProductEntity.class)
+                .f("name").eq("shared-collection").get().getPrice()).isEqualTo(2.0);
+        assertThat(morphium.createQueryFor(CachedProductSummary.class)
+                .f("name").eq("shared-collection").get().getPrice()).isEqualTo(2.0);
+    }
+
+    private void awaitEvictionAfter(long before) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (invalidator.getEvictionCount() <= before && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(invalidator.getEvictionCount()).isGreaterThan(before);
+    }
+}
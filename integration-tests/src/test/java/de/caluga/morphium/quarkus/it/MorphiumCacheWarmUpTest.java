@@ -0,0 +1,97 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.it;
+
+import de.caluga.morphium.Morphium;
+import de.caluga.morphium.quarkus.cache.CaffeineMorphiumCache;
+import de.caluga.morphium.quarkus.cache.MorphiumCacheWarmer;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies the startup cache warm-up from per-entity flags and repository queries. Uses the
+ * Caffeine backend for its hit/miss counters.
+ */
+@QuarkusTest
+@TestProfile(MorphiumCacheWarmUpTest.WarmUpProfile.class)
+@DisplayName("Cache warm-up at startup")
+class MorphiumCacheWarmUpTest {
+
+    public static class WarmUpProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of(
+                    "quarkus.morphium.driver-name", "InMemDriver",
+                    "quarkus.morphium.database", "warm-up-test",
+                    "quarkus.morphium.devservices.enabled", "false",
+                    "quarkus.morphium.cache.backend", "caffeine",
+                    "quarkus.morphium.cache.\"de.caluga.morphium.quarkus.it.CachedProductEntity\".warm-up", "true",
+                    "quarkus.morphium.cache.warm-up-queries[0]", "de.caluga.morphium.quarkus.it.ItemRepository#findByName(warm)",
+                    "quarkus.morphium.cache.warm-up-queries[1]", "de.caluga.morphium.quarkus.it.ItemRepository#findByPriceGreaterThan(9.5)",
+                    "quarkus.morphium.cache.warm-up-queries[2]", "de.caluga.morphium.quarkus.it.CachedProductRepository#findByName(warm)",
+                    "quarkus.morphium.cache.warm-up-parallelism", "2"
+            );
+        }
+    }
+
+    @Inject
+    MorphiumCacheWarmer warmer;
+
+    @Inject
+    Morphium morphium;
+
+    @Inject
+    CachedProductRepository products;
+
+    @Test
+    @DisplayName("configured warm-up queries run to completion without failures")
+    void warmUpCompletes() throws InterruptedException {
+        awaitWarmUp();
+        assertThat(warmer.getFailureCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("warmed queries of @Cache entities are answered from the cache")
+    void warmedQueriesAreCached() throws InterruptedException {
+        awaitWarmUp();
+        CaffeineMorphiumCache cache = (CaffeineMorphiumCache) morphium.getCache();
+        // entity warm-up (all documents) and the repository query
+        assertThat(cache.estimatedSize(CachedProductEntity.class)).isEqualTo(2);
+
+        long misses = cache.missCount();
+        long hits = cache.hitCount();
+        products.findByName("warm");
+        morphium.createQueryFor(CachedProductEntity.class).asList();
+        assertThat(cache.missCount()).isEqualTo(misses);
+        assertThat(cache.hitCount()).isEqualTo(hits + 2);
+    }
+
+    private void awaitWarmUp() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!warmer.isDone() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(warmer.isDone()).isTrue();
+    }
+}
@@ -0,0 +1,301 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.it;
+
+import de.caluga.morphium.Morphium;
+import de.caluga.morphium.cache.CacheEntry;
+import de.caluga.morphium.cache.CacheListener;
+import de.caluga.morphium.quarkus.cache.CaffeineMorphiumCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifies the Caffeine cache backend ({@code quarkus.morphium.cache.backend=caffeine})
+ * and per-entity {@code max-entries} overrides.
+ */
+@QuarkusTest
+@TestProfile(MorphiumCaffeineCacheTest.CaffeineCacheProfile.class)
+@DisplayName("Caffeine cache backend with per-entity overrides")
+class MorphiumCaffeineCacheTest {
+
+    public static class CaffeineCacheProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of(
+                    "quarkus.morphium.driver-name", "InMemDriver",
+                    "quarkus.morphium.database", "caffeine-test",
+                    "quarkus.morphium.devservices.enabled", "false",
+                    "quarkus.morphium.cache.backend", "caffeine",
+                    "quarkus.morphium.cache.single-flight-timeout", "1000",
+                    "quarkus.morphium.cache.\"de.caluga.morphium.quarkus.it.CachedProductEntity\".max-entries", "2"
+            );
+        }
+    }
+
+    @Inject
+    Morphium morphium;
+
+    @Inject
+    MeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        morphium.dropCollection(CachedProductEntity.class);
+        morphium.getCache().resetCache();
+        for (int i = 0; i < 5; i++) {
+            CachedProductEntity p = new CachedProductEntity();
+            p.setName("product-" + i);
+            p.setPrice(i);
+            morphium.store(p);
+        }
+    }
+
+    @Test
+    @DisplayName("Morphium uses the Caffeine cache implementation")
+    void usesCaffeineCache() {
+        assertThat(morphium.getCache()).isInstanceOf(CaffeineMorphiumCache.class);
+    }
+
+    @Test
+    @DisplayName("cache hits and misses are counted in Micrometer")
+    void cacheCountersRegistered() {
+        double misses = registry.get("morphium.cache.misses").functionCounter().count();
+        morphium.createQueryFor(CachedProductEntity.class).f("name").eq("product-3").asList();
+        morphium.createQueryFor(CachedProductEntity.class).f("name").eq("product-3").asList();
+
+        assertThat(registry.get("morphium.cache.misses").functionCounter().count()).isGreaterThan(misses);
+        assertThat(registry.get("morphium.cache.hits").functionCounter().count()).isPositive();
+        assertThat(registry.find("morphium.cache.evictions").functionCounter()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("cached query returns the same result as the uncached one")
+    void cachedQueryReturnsSameResult() {
+        List<CachedProductEntity> first = morphium.createQueryFor(CachedProductEntity.class)
+                .f("name").eq("product-1").asList();
+        List<CachedProductEntity> second = morphium.createQueryFor(CachedProductEntity.class)
+                .f("name").eq("product-1").asList();
+
+        assertThat(first).hasSize(1);
+        assertThat(second).extracting(CachedProductEntity::getId)
+                .containsExactly(first.get(0).getId());
+    }
+
+    @Test
+    @DisplayName("modifying a cached result list does not change the cache")
+    void cachedResultIsCopied() {
+        morphium.createQueryFor(CachedProductEntity.class).f("name").eq("product-2").asList();
+        List<CachedProductEntity> cached = morphium.createQueryFor(CachedProductEntity.class)
+                .f("name").eq("product-2").asList();
+        cached.clear();
+
+        assertThat(morphium.createQueryFor(CachedProductEntity.class)
+                .f("name").eq("product-2").asList()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("max-entries override bounds the number of cached query results")
+    void maxEntriesBoundsCache() throws InterruptedException {
+        for (int i = 0; i < 5; i++) {
+            morphium.createQueryFor(CachedProductEntity.class).f("name").eq("product-" + i).asList();
+        }
+        CaffeineMorphiumCache cache = (CaffeineMorphiumCache) morphium.getCache();
+
+        // Caffeine evicts asynchronously after the write that exceeded the bound
+        long deadline = System.currentTimeMillis() + 2000;
+        while (cache.estimatedSize(CachedProductEntity.class) > 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(cache.estimatedSize(CachedProductEntity.class)).isBetween(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("concurrent misses for the same key wait for the first loader (single-flight)")
+    void concurrentMissesShareOneLoad() throws Exception {
+        CaffeineMorphiumCache cache = (CaffeineMorphiumCache) morphium.getCache();
+        String key = "single-flight-key";
+
+        // This thread misses first and becomes the loader
+        assertThat(cache.isCached(CachedProductEntity.class, key)).isFalse();
+
+        CompletableFuture<Boolean> waiter = CompletableFuture.supplyAsync(
+                () -> cache.isCached(CachedProductEntity.class, key));
+        Thread.sleep(100);
+        assertThat(waiter).isNotDone();
+
+        cache.addToCache(key, CachedProductEntity.class, List.of(new CachedProductEntity()));
+
+        assertThat(waiter.get(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(cache.getFromCache(CachedProductEntity.class, key)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("the claim of a loader that fails expires after the single-flight timeout")
+    void failedLoaderClaimExpires() throws Exception {
+        CaffeineMorphiumCache cache = (CaffeineMorphiumCache) morphium.getCache();
+        String key = "failing-loader-key";
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            // The loader's query throws, so it never calls addToCache; its thread stays alive in the pool
+            Future<?> loader = pool.submit(() -> {
+                assertThat(cache.isCached(CachedProductEntity.class, key)).isFalse();
+                throw new IllegalStateException("query failed");
+            });
+            assertThatThrownBy(loader::get).isInstanceOf(ExecutionException.class);
+
+            long start = System.nanoTime();
+            assertThat(cache.isCached(CachedProductEntity.class, key)).isFalse();
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isBetween(700L, 3000L);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("a pooled loader thread that claims the same key again is still the loader")
+    void loaderThreadReclaims() throws Exception {
+        CaffeineMorphiumCache cache = (CaffeineMorphiumCache) morphium.getCache();
+        String key = "reclaimed-key";
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            assertThat(pool.submit(() -> cache.isCached(CachedProductEntity.class, key)).get()).isFalse();
+
+            long start = System.nanoTime();
+            assertThat(pool.submit(() -> cache.isCached(CachedProductEntity.class, key)).get()).isFalse();
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(500);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("after a failed load one waiter takes over, the others wait for its result")
+    void oneWaiterTakesOverExpiredClaim() throws Exception {
+        CaffeineMorphiumCache cache = (CaffeineMorphiumCache) morphium.getCache();
+        String key = "failing-while-waiting-key";
+        ExecutorService pool = Executors.newFixedThreadPool(3);
+        try {
+            // The loader claims the key and fails without storing a result
+            assertThat(pool.submit(() -> cache.isCached(CachedProductEntity.class, key)).get()).isFalse();
+            Thread.sleep(500);
+
+            Future<Boolean> first = pool.submit(() -> cache.isCached(CachedProductEntity.class, key));
+            Future<Boolean> second = pool.submit(() -> cache.isCached(CachedProductEntity.class, key));
+            Thread.sleep(100);
+            assertThat(first).isNotDone();
+            assertThat(second).isNotDone();
+
+            // Once the claim has expired, exactly one waiter becomes the loader
+            long deadline = System.currentTimeMillis() + 2000;
+            while (!first.isDone() && !second.isDone() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            Future<Boolean> takeOver = first.isDone() ? first : second;
+            Future<Boolean> waiter = takeOver == first ? second : first;
+            assertThat(takeOver.get()).isFalse();
+            assertThat(waiter).isNotDone();
+
+            cache.addToCache(key, CachedProductEntity.class, List.of(new CachedProductEntity()));
+            assertThat(waiter.get(2, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("a result seen by isCached is returned even if evicted before getFromCache")
+    void cachedResultSurvivesEviction() {
+        CaffeineMorphiumCache cache = (CaffeineMorphiumCache) morphium.getCache();
+        String key = "pinned-key";
+        cache.addToCache(key, CachedProductEntity.class, List.of(new CachedProductEntity()));
+
+        assertThat(cache.isCached(CachedProductEntity.class, key)).isTrue();
+        cache.clearCachefor(CachedProductEntity.class);
+
+        assertThat(cache.getFromCache(CachedProductEntity.class, key)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("cache listeners are notified and can veto adding, clearing and removing")
+    void listenersCanVeto() {
+        CaffeineMorphiumCache cache = (CaffeineMorphiumCache) morphium.getCache();
+        VetoListener listener = new VetoListener();
+        cache.addCacheListener(listener);
+        try {
+            cache.addToCache("vetoed-key", CachedProductEntity.class, List.of(new CachedProductEntity()));
+            assertThat(listener.added).isEqualTo(1);
+            assertThat(cache.getFromCache(CachedProductEntity.class, "vetoed-key")).isNull();
+
+            listener.veto = false;
+            cache.addToCache("listened-key", CachedProductEntity.class, List.of(new CachedProductEntity()));
+            assertThat(cache.getFromCache(CachedProductEntity.class, "listened-key")).hasSize(1);
+
+            listener.veto = true;
+            cache.clearCachefor(CachedProductEntity.class);
+            cache.removeEntryFromCache(CachedProductEntity.class, "some-id");
+            cache.resetCache();
+            assertThat(listener.cleared).isEqualTo(2);
+            assertThat(listener.removed).isEqualTo(1);
+            assertThat(cache.getFromCache(CachedProductEntity.class, "listened-key")).hasSize(1);
+        } finally {
+            cache.removeCacheListener(listener);
+        }
+    }
+
+    /** Counts notifications and vetoes all of them while {@link #veto} is set. */
+    static class VetoListener implements CacheListener {
+        volatile boolean veto = true;
+        int added;
+        int cleared;
+        int removed;
+
+        @Override
+        public <T> CacheEntry<T> wouldAddToCache(Object k, CacheEntry<T> toCache, boolean updated) {
+            added++;
+            return veto ? null : toCache;
+        }
+
+        @Override
+        public <T> boolean wouldClearCache(Class<T> affectedEntityType) {
+            cleared++;
+            return !veto;
+        }
+
+        @Override
+        public <T> boolean wouldRemoveEntryFromCache(Object key, CacheEntry<T> toRemove, boolean expired) {
+            removed++;
+            return !veto;
+        }
+    }
+}
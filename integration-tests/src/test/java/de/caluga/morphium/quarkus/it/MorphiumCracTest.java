@@ -0,0 +1,137 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.it;
+
+import de.caluga.morphium.Morphium;
+import de.caluga.morphium.quarkus.MorphiumCheckpointEvent;
+import de.caluga.morphium.quarkus.MorphiumCracResource;
+import de.caluga.morphium.quarkus.MorphiumRuntimeConfig;
+import de.caluga.morphium.quarkus.replica.InMemoryReplicaManager;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the CRaC checkpoint/restore cycle of {@link MorphiumCracResource} against a real
+ * {@code PooledDriver}: the driver is closed and the same instance reconnects.
+ *
+ * <p>A JVM without CRaC cannot trigger the global context, so the resource is invoked directly.
+ * Uses Dev Services with a single-node replica set (Testcontainers).
+ */
+@QuarkusTest
+@TestProfile(MorphiumCracTest.CracProfile.class)
+@DisplayName("CRaC – driver close and reconnect around a checkpoint")
+class MorphiumCracTest {
+
+    public static class CracProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of(
+                    "quarkus.morphium.database", "crac-test",
+                    "quarkus.morphium.driver-name", "PooledDriver",
+                    "quarkus.morphium.devservices.enabled", "true",
+                    "quarkus.morphium.devservices.replica-set", "true",
+                    "quarkus.morphium.health.sample-interval", "100ms",
+                    // Starts the replication lag monitor on the single-node replica set
+                    "quarkus.morphium.health.max-replication-lag", "10s"
+            );
+        }
+    }
+
+    private static final String HEALTH_SAMPLER = "morphium-health-sampler";
+    private static final String LAG_MONITOR = "morphium-replication-lag";
+
+    @Inject
+    Morphium morphium;
+
+    @Inject
+    MorphiumRuntimeConfig config;
+
+    @Inject
+    Event<MorphiumCheckpointEvent> checkpointEvents;
+
+    @Inject
+    InMemoryReplicaManager replicas;
+
+    @Test
+    @DisplayName("same driver reconnects and background work is stopped and restarted")
+    void closeAndReconnect() throws Exception {
+        ItemEntity before = new ItemEntity();
+        before.setName("crac-before");
+        morphium.store(before);
+        awaitThread(HEALTH_SAMPLER, true);
+        awaitThread(LAG_MONITOR, true);
+
+        var driver = morphium.getDriver();
+        var resource = new MorphiumCracResource(morphium, config.replicaSetName(), true, checkpointEvents);
+
+        resource.beforeCheckpoint(null);
+        awaitThread(HEALTH_SAMPLER, false);
+        awaitThread(LAG_MONITOR, false);
+
+        resource.afterRestore(null);
+        assertThat(morphium.getDriver()).isSameAs(driver);
+        assertThat(driver.isConnected()).isTrue();
+        assertThat(driver.isReplicaSet()).isTrue();
+        awaitThread(HEALTH_SAMPLER, true);
+        awaitThread(LAG_MONITOR, true);
+
+        assertThat(morphium.createQueryFor(ItemEntity.class).f("name").eq("crac-before").get())
+                .isNotNull();
+        ItemEntity after = new ItemEntity();
+        after.setName("crac-after");
+        morphium.store(after);
+        assertThat(morphium.createQueryFor(ItemEntity.class).f("name").eq("crac-after").countAll())
+                .isEqualTo(1);
+
+        // The replica change stream was reopened
+        int countries = replicas.getSize(CountryEntity.class);
+        CountryEntity country = new CountryEntity();
+        country.setCode("crac");
+        morphium.store(country);
+        await(() -> replicas.getSize(CountryEntity.class) == countries + 1);
+    }
+
+    private static void awaitThread(String name, boolean alive) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (threadAlive(name) != alive && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(threadAlive(name)).as("thread %s alive", name).isEqualTo(alive);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    private static boolean threadAlive(String name) {
+        return Thread.getAllStackTraces().keySet().stream()
+                .anyMatch(t -> t.isAlive() && name.equals(t.getName()));
+    }
+}
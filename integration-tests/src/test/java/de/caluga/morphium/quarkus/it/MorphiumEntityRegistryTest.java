@@ -17,6 +17,8 @@ package de.caluga.morphium.quarkus.it;
 
 import de.caluga.morphium.AnnotationAndReflectionHelper;
 import de.caluga.morphium.Morphium;
+import de.caluga.morphium.quarkus.MorphiumEntityMetadata;
+import de.caluga.morphium.quarkus.MorphiumRecorder;
 import io.quarkus.test.junit.QuarkusTest;
 import jakarta.inject.Inject;
 import org.junit.jupiter.api.DisplayName;
@@ -77,4 +79,48 @@ class MorphiumEntityRegistryTest {
         Class<?> resolved = arh.getClassForTypeId(OrderEntity.class.getName());
         assertThat(resolved).isEqualTo(OrderEntity.class);
     }
+
+    @Test
+    @DisplayName("Build-time metadata records collection, id field and BSON field names")
+    void buildTimeMetadata_matchesMapper() {
+        MorphiumEntityMetadata md = MorphiumRecorder.getEntityMetadata().stream()
+                .filter(m -> m.getClassName().equals(OrderEntity.class.getName()))
+                .findFirst().orElseThrow();
+        assertThat(md.isEmbedded()).isFalse();
+        assertThat(md.getCollectionName())
+                .isEqualTo(morphium.getMapper().getCollectionName(OrderEntity.class));
+        assertThat(md.getIdField()).isEqualTo("id");
+        assertThat(md.getFieldNames())
+                .containsEntry("id", "_id")
+                .containsEntry("customerId", "customer_id")
+                .containsEntry("createdAt", "created_at");
+    }
+
+    @Test
+    @DisplayName("Build-time metadata marks @Embedded classes without a collection")
+    void buildTimeMetadata_embedded() {
+        MorphiumEntityMetadata md = MorphiumRecorder.getEntityMetadata().stream()
+                .filter(m -> m.getClassName().equals(AddressEmbedded.class.getName()))
+                .findFirst().orElseThrow();
+        assertThat(md.isEmbedded()).isTrue();
+        assertThat(md.getCollectionName()).isNull();
+    }
+
+    @Test
+    @DisplayName("Build-time metadata flags @Cache entities")
+    void buildTimeMetadata_cached() {
+        assertThat(MorphiumRecorder.getEntityMetadata())
+                .filteredOn(MorphiumEntityMetadata::isCached)
+                .extracting(MorphiumEntityMetadata::getClassName)
+                .containsExactly(CachedProductEntity.class.getName());
+    }
+
+    @Test
+    @DisplayName("Build-time metadata flags @InMemoryReplica entities")
+    void buildTimeMetadata_replicated() {
+        assertThat(MorphiumRecorder.getEntityMetadata())
+                .filteredOn(MorphiumEntityMetadata::isReplicated)
+                .extracting(MorphiumEntityMetadata::getClassName)
+                .containsExactly(CountryEntity.class.getName());
+    }
 }
@@ -84,4 +84,15 @@ class MorphiumHealthCheckTest {
                 .body("checks.find { it.name == 'Morphium readiness check' }.data.database", is("inmem-test"))
                 .body("checks.find { it.name == 'Morphium startup check' }.data.database", is("inmem-test"));
     }
+
+    @Test
+    @DisplayName("GET /q/health/ready -> readiness data comes from the background sample")
+    void readinessUsesSampledSnapshot() {
+        given()
+            .when().get("/q/health/ready")
+            .then()
+                .statusCode(200)
+                .body("checks.find { it.name == 'Morphium readiness check' }.data.sampleAgeMs", notNullValue())
+                .body("checks.find { it.name == 'Morphium readiness check' }.data.threadsWaiting", is(0));
+    }
 }
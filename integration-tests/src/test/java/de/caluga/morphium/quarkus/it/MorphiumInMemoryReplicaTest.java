@@ -0,0 +1,118 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.it;
+
+import de.caluga.morphium.Morphium;
+import de.caluga.morphium.quarkus.replica.InMemoryReplicaManager;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that {@code @InMemoryReplica} entities are served from the heap replica and that
+ * the replica follows writes through the change stream.
+ */
+@QuarkusTest
+@TestProfile(MorphiumInMemoryReplicaTest.InMemoryReplicaProfile.class)
+@DisplayName("In-memory replicas of reference collections")
+class MorphiumInMemoryReplicaTest {
+
+    public static class InMemoryReplicaProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of(
+                    "quarkus.morphium.driver-name", "InMemDriver",
+                    "quarkus.morphium.database", "replica-test",
+                    "quarkus.morphium.devservices.enabled", "false"
+            );
+        }
+    }
+
+    @Inject
+    Morphium morphium;
+
+    @Inject
+    CountryRepository countries;
+
+    @Inject
+    InMemoryReplicaManager replicas;
+
+    @Test
+    @DisplayName("equality findBy* queries are answered from the replica and follow writes")
+    void servesFromReplicaAndFollowsWrites() throws InterruptedException {
+        assertThat(replicas.isReady(CountryEntity.class)).isTrue();
+
+        CountryEntity de = country("DE", "EU", 83_000_000, 357_588.5, true);
+        CountryEntity fr = country("FR", "EU", 68_000_000, 551_695.0, true);
+        CountryEntity ch = country("CH", "EU", 9_000_000, 41_285.0, false);
+        morphium.store(de);
+        morphium.store(fr);
+        morphium.store(ch);
+        await(() -> replicas.getSize(CountryEntity.class) == 3);
+
+        long served = replicas.getServedCount(CountryEntity.class);
+        assertThat(countries.findByCode("DE")).get().extracting(CountryEntity::getRegion).isEqualTo("EU");
+        assertThat(countries.findByCode("XX")).isEmpty();
+        assertThat(countries.findByRegion("EU")).hasSize(3);
+        assertThat(countries.findByRegionAndActive("EU", true)).extracting(CountryEntity::getCode)
+                .containsExactlyInAnyOrder("DE", "FR");
+        // int field queried with a long argument — numbers compare by value, as in MongoDB
+        assertThat(countries.findByPopulation(9_000_000L)).extracting(CountryEntity::getCode)
+                .containsExactly("CH");
+        // double field queried with a long argument
+        assertThat(countries.findByArea(41_285L)).extracting(CountryEntity::getCode)
+                .containsExactly("CH");
+        assertThat(replicas.getServedCount(CountryEntity.class)).isEqualTo(served + 6);
+
+        // Operators and count queries are not replica-eligible
+        assertThat(countries.findByPopulationGreaterThan(50_000_000)).hasSize(2);
+        assertThat(countries.countByRegion("EU")).isEqualTo(3);
+        assertThat(replicas.getServedCount(CountryEntity.class)).isEqualTo(served + 6);
+
+        fr.setRegion("WEU");
+        morphium.store(fr);
+        await(() -> countries.findByRegion("WEU").size() == 1);
+        assertThat(countries.findByRegion("EU")).extracting(CountryEntity::getCode)
+                .containsExactlyInAnyOrder("DE", "CH");
+    }
+
+    private static CountryEntity country(String code, String region, int population, double area,
+                                         boolean active) {
+        CountryEntity c = new CountryEntity();
+        c.setCode(code);
+        c.setRegion(region);
+        c.setPopulation(population);
+        c.setArea(area);
+        c.setActive(active);
+        return c;
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.it;
+
+import de.caluga.morphium.quarkus.testing.InMemMorphiumTestProfile;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that Morphium operations and transactions show up as JFR events.
+ */
+@QuarkusTest
+@TestProfile(InMemMorphiumTestProfile.class)
+@DisplayName("JFR events")
+class MorphiumJfrTest {
+
+    @Inject
+    ItemRepository itemRepository;
+
+    @Inject
+    TransactionalService transactionalService;
+
+    @Test
+    @DisplayName("reads, writes and transactions are recorded")
+    void operationsAreRecorded() throws Exception {
+        Path file = Files.createTempFile("morphium-jfr", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("de.caluga.morphium.Command");
+            recording.enable("de.caluga.morphium.Transaction");
+            recording.start();
+
+            ItemEntity item = new ItemEntity();
+            item.setName("jfr");
+            transactionalService.storeSuccessfully(item);
+            itemRepository.findByName("jfr");
+
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            assertThat(events).anySatisfy(e -> {
+                assertThat(e.getEventType().getName()).isEqualTo("de.caluga.morphium.Command");
+                assertThat(e.getString("operation")).isEqualTo("find");
+                assertThat(e.getString("queryShape")).isEqualTo("{\"name\":?}");
+            });
+            assertThat(events).anySatisfy(e -> {
+                assertThat(e.getEventType().getName()).isEqualTo("de.caluga.morphium.Transaction");
+                assertThat(e.getString("outcome")).isEqualTo("commit");
+                assertThat(e.getString("method")).isEqualTo("TransactionalService.storeSuccessfully");
+            });
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.it;
+
+import de.caluga.morphium.Morphium;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies the Micrometer integration: repository timers, document counters and driver gauges.
+ */
+@QuarkusTest
+@DisplayName("Micrometer metrics")
+class MorphiumMetricsTest {
+
+    @Inject
+    ItemRepository repository;
+
+    @Inject
+    Morphium morphium;
+
+    @Inject
+    MeterRegistry registry;
+
+    @BeforeEach
+    void cleanCollection() {
+        morphium.clearCollection(ItemEntity.class);
+    }
+
+    @Test
+    @DisplayName("derived query is timed and its returned documents counted")
+    void derivedQuery_isTimedAndCounted() {
+        ItemEntity a = item("metered", 1.0);
+        ItemEntity b = item("metered", 2.0);
+        repository.saveAll(List.of(a, b));
+
+        double returnedBefore = counter("morphium.repository.documents.returned", "findByName");
+        long callsBefore = calls("findByName", "derived");
+
+        assertThat(repository.findByName("metered")).hasSize(2);
+
+        assertThat(calls("findByName", "derived")).isEqualTo(callsBefore + 1);
+        assertThat(counter("morphium.repository.documents.returned", "findByName"))
+                .isEqualTo(returnedBefore + 2);
+        assertThat(counter("morphium.repository.documents.written", "saveAll")).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("CRUD and annotated methods carry their kind tag")
+    void kindTags() {
+        repository.save(item("crud", 3.0));
+        assertThat(repository.searchByTag("none")).isEmpty();
+
+        assertThat(calls("save", "crud")).isPositive();
+        assertThat(calls("searchByTag", "annotated")).isPositive();
+    }
+
+    @Test
+    @DisplayName("driver statistics are exposed as gauges")
+    void driverGauges() {
+        assertThat(registry.find("morphium.driver.stats").gauges()).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("cache hit/miss counters are not registered with Morphium's built-in cache")
+    void noCacheCountersWithoutCaffeine() {
+        assertThat(registry.find("morphium.cache.hits").functionCounter()).isNull();
+        assertThat(registry.find("morphium.cache.misses").functionCounter()).isNull();
+        assertThat(registry.find("morphium.cache.evictions").functionCounter()).isNull();
+    }
+
+    /** Successful calls recorded for a method; 0 before its first call (meters are created lazily). */
+    private long calls(String method, String kind) {
+        Timer timer = registry.find("morphium.repository.calls")
+                .tag("repository", "ItemRepository")
+                .tag("method", method)
+                .tag("kind", kind)
+                .tag("outcome", "success")
+                .timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private double counter(String name, String method) {
+        var counter = registry.find(name).tag("repository", "ItemRepository").tag("method", method).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private static ItemEntity item(String name, double price) {
+        ItemEntity item = new ItemEntity();
+        item.setName(name);
+        item.setPrice(price);
+        return item;
+    }
+}
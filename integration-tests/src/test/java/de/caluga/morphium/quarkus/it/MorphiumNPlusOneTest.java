@@ -0,0 +1,78 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.it;
+
+import de.caluga.morphium.quarkus.MorphiumNPlusOneDetector;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies per-request query counting and N+1 detection.
+ */
+@QuarkusTest
+@TestProfile(MorphiumNPlusOneTest.NPlusOneProfile.class)
+@DisplayName("N+1 query detector")
+class MorphiumNPlusOneTest {
+
+    public static class NPlusOneProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of(
+                    "quarkus.morphium.driver-name", "InMemDriver",
+                    "quarkus.morphium.database", "n-plus-one-test",
+                    "quarkus.morphium.devservices.enabled", "false",
+                    "quarkus.morphium.n-plus-one.threshold", "3"
+            );
+        }
+    }
+
+    @Inject
+    ItemLookupService lookupService;
+
+    @Inject
+    MorphiumNPlusOneDetector detector;
+
+    @Test
+    @DisplayName("queries with the same shape are grouped within a request")
+    void countsAreGroupedByShape() {
+        Map<String, Integer> counts = lookupService.findEachByName(List.of("a", "b"));
+
+        assertThat(counts).hasSize(1);
+        assertThat(counts.values()).containsExactly(2);
+        assertThat(counts.keySet().iterator().next()).isEqualTo("find it_items {\"name\":?}");
+    }
+
+    @Test
+    @DisplayName("a shape above the threshold is reported once per request")
+    void loopAboveThresholdIsReported() {
+        long before = detector.getViolationCount();
+
+        lookupService.findEachByName(List.of("a", "b", "c"));
+        assertThat(detector.getViolationCount()).isEqualTo(before);
+
+        lookupService.findEachByName(List.of("a", "b", "c", "d", "e"));
+        assertThat(detector.getViolationCount()).isEqualTo(before + 1);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.it;
+
+import de.caluga.morphium.quarkus.MorphiumSlowQueryLog;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import org.jboss.logmanager.ExtLogRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that the slow-query log observes Morphium operations once a threshold is set.
+ */
+@QuarkusTest
+@TestProfile(MorphiumSlowQueryLogTest.SlowQueryProfile.class)
+@DisplayName("Slow-query log")
+class MorphiumSlowQueryLogTest {
+
+    public static class SlowQueryProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of(
+                    "quarkus.morphium.driver-name", "InMemDriver",
+                    "quarkus.morphium.database", "slow-query-test",
+                    "quarkus.morphium.devservices.enabled", "false",
+                    // Every operation is "slow"
+                    "quarkus.morphium.slow-query.threshold", "0ms",
+                    "quarkus.morphium.slow-query.log-interval", "0ms",
+                    "quarkus.morphium.slow-query.explain", "true"
+            );
+        }
+    }
+
+    @Inject
+    MorphiumSlowQueryLog slowQueryLog;
+
+    @Inject
+    ItemRepository itemRepository;
+
+    @Test
+    @DisplayName("repository reads above the threshold are counted")
+    void readsAreObserved() {
+        long before = slowQueryLog.getSlowOperationCount();
+
+        itemRepository.findByName("slow");
+        itemRepository.findByName("slower");
+
+        assertThat(slowQueryLog.getSlowOperationCount()).isGreaterThanOrEqualTo(before + 2);
+    }
+
+    @Test
+    @DisplayName("log entries name the repository method and mask filter values")
+    void logContent() {
+        List<String> messages = new CopyOnWriteArrayList<>();
+        Handler capture = new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                messages.add(record instanceof ExtLogRecord ext ? ext.getFormattedMessage() : record.getMessage());
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        Logger logger = Logger.getLogger(MorphiumSlowQueryLog.class.getName());
+        logger.addHandler(capture);
+        try {
+            itemRepository.findByName("secret-name");
+        } finally {
+            logger.removeHandler(capture);
+        }
+
+        assertThat(messages).anySatisfy(m -> assertThat(m)
+                .startsWith("[Morphium] Slow find on it_items took ")
+                .contains("from ItemRepository.findByName")
+                .contains("filter={\"name\":?}")
+                .contains("limit=none"));
+        assertThat(messages).noneMatch(m -> m.contains("secret-name"));
+    }
+}
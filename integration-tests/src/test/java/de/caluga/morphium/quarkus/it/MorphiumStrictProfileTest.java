@@ -0,0 +1,115 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.it;
+
+import de.caluga.morphium.Morphium;
+import de.caluga.morphium.quarkus.testing.StrictMorphiumTestProfile;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import io.vertx.core.Vertx;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifies that {@link StrictMorphiumTestProfile} turns Morphium's runtime diagnostics into
+ * failures.
+ */
+@QuarkusTest
+@TestProfile(StrictMorphiumTestProfile.class)
+@DisplayName("Strict test profile")
+class MorphiumStrictProfileTest {
+
+    @Inject
+    Morphium morphium;
+
+    @Inject
+    ItemRepository itemRepository;
+
+    @Inject
+    Vertx vertx;
+
+    @Inject
+    ItemLookupService lookupService;
+
+    @Test
+    @DisplayName("a write on the event loop fails before it is sent")
+    void eventLoopWriteFails() {
+        ItemEntity item = new ItemEntity();
+        item.setName("strict-event-loop");
+
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        vertx.runOnContext(v -> {
+            try {
+                itemRepository.save(item);
+                done.complete(null);
+            } catch (Throwable t) {
+                done.completeExceptionally(t);
+            }
+        });
+
+        assertThatThrownBy(() -> done.get(10, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .rootCause()
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageStartingWith("Blocking Morphium ")
+                .hasMessageContaining(" from ItemRepository.save ")
+                .hasMessageContaining("blocking-detector.strict=true");
+        assertThat(morphium.createQueryFor(ItemEntity.class).f("name").eq("strict-event-loop").countAll())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("the same write on a worker thread succeeds")
+    void workerWriteSucceeds() {
+        ItemEntity item = new ItemEntity();
+        item.setName("strict-worker");
+
+        itemRepository.save(item);
+
+        assertThat(morphium.createQueryFor(ItemEntity.class).f("name").eq("strict-worker").countAll())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("a request running one query shape up to the threshold passes")
+    void loopAtThresholdPasses() {
+        assertThat(lookupService.findEachByName(Collections.nCopies(10, "strict")))
+                .containsValue(10);
+    }
+
+    @Test
+    @DisplayName("a request running one query shape more often than the threshold fails")
+    void nPlusOneLoopFails() {
+        List<String> names = Collections.nCopies(11, "strict");
+
+        assertThatThrownBy(() -> lookupService.findEachByName(names))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Possible N+1 query")
+                .hasMessageContaining("{\"name\":?}")
+                .hasMessageContaining("more than 10 times")
+                .hasMessageContaining("from ItemRepository.findByName");
+    }
+}
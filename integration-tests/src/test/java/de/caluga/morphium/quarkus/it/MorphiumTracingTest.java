@@ -0,0 +1,114 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.it;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies the OpenTelemetry spans: an {@code INTERNAL} span per repository method and a
+ * {@code CLIENT} span per Morphium command as its child.
+ */
+@QuarkusTest
+@TestProfile(MorphiumTracingTest.TracingProfile.class)
+@DisplayName("OpenTelemetry repository and command spans")
+class MorphiumTracingTest {
+
+    public static class TracingProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of(
+                    "quarkus.morphium.driver-name", "InMemDriver",
+                    "quarkus.morphium.database", "tracing-test",
+                    "quarkus.morphium.devservices.enabled", "false",
+                    // Export every span as it ends
+                    "quarkus.otel.simple", "true"
+            );
+        }
+    }
+
+    @Inject
+    InMemorySpanExporter exporter;
+
+    @Inject
+    ItemRepository items;
+
+    @BeforeEach
+    void reset() {
+        exporter.reset();
+    }
+
+    @Test
+    @DisplayName("a repository read creates a CLIENT find span inside the repository span")
+    void readSpans() {
+        items.findByName("traced");
+
+        SpanData repo = span("ItemRepository.findByName");
+        assertThat(repo.getKind()).isEqualTo(SpanKind.INTERNAL);
+        assertThat(repo.getAttributes().get(AttributeKey.stringKey("code.namespace")))
+                .isEqualTo(ItemRepository.class.getName());
+        assertThat(repo.getAttributes().get(AttributeKey.longKey("db.response.returned_rows"))).isZero();
+
+        SpanData find = span("find it_items");
+        assertThat(find.getKind()).isEqualTo(SpanKind.CLIENT);
+        assertThat(find.getTraceId()).isEqualTo(repo.getTraceId());
+        assertThat(find.getParentSpanId()).isEqualTo(repo.getSpanId());
+        assertThat(find.getAttributes().get(AttributeKey.stringKey("db.system"))).isEqualTo("mongodb");
+        assertThat(find.getAttributes().get(AttributeKey.stringKey("db.namespace"))).isEqualTo("tracing-test");
+        assertThat(find.getAttributes().get(AttributeKey.stringKey("db.collection.name"))).isEqualTo("it_items");
+        assertThat(find.getAttributes().get(AttributeKey.stringKey("db.query.summary")))
+                .isEqualTo("{\"name\":?}")
+                .doesNotContain("traced");
+    }
+
+    @Test
+    @DisplayName("a repository write creates a CLIENT write span inside the repository span")
+    void writeSpans() {
+        ItemEntity item = new ItemEntity();
+        item.setName("traced-write");
+        items.save(item);
+
+        SpanData repo = span("ItemRepository.save");
+        List<SpanData> writes = exporter.getFinishedSpanItems().stream()
+                .filter(s -> s.getKind() == SpanKind.CLIENT && repo.getSpanId().equals(s.getParentSpanId()))
+                .toList();
+        assertThat(writes).isNotEmpty();
+        assertThat(writes).allSatisfy(s -> assertThat(s.getAttributes()
+                .get(AttributeKey.stringKey("db.collection.name"))).isEqualTo("it_items"));
+    }
+
+    private SpanData span(String name) {
+        List<SpanData> spans = exporter.getFinishedSpanItems().stream()
+                .filter(s -> s.getName().equals(name))
+                .toList();
+        assertThat(spans).as("spans named %s", name).hasSize(1);
+        return spans.get(0);
+    }
+}
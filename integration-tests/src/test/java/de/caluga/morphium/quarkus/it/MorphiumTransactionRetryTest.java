@@ -0,0 +1,151 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.it;
+
+import de.caluga.morphium.Morphium;
+import de.caluga.morphium.driver.MorphiumDriverException;
+import de.caluga.morphium.quarkus.transaction.MorphiumTransactionEvent;
+import de.caluga.morphium.quarkus.transaction.MorphiumTransactionEvent.Phase;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import io.quarkus.test.junit.mockito.InjectSpy;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Integration tests for the retries of {@code @MorphiumTransactional} that depend on how the
+ * commit or the start of a transaction fails. The {@code Morphium} bean is a spy, so single
+ * commits and starts can fail while the rest runs against the Dev Services replica set.
+ */
+@QuarkusTest
+@TestProfile(MorphiumTransactionalTest.ReplicaSetProfile.class)
+@DisplayName("@MorphiumTransactional – commit-only retries and event pairing")
+class MorphiumTransactionRetryTest {
+
+    private static final String TRANSIENT = "WriteConflict error [TransientTransactionError]";
+    private static final String UNKNOWN_COMMIT = "MaxTimeMSExpired [UnknownTransactionCommitResult]";
+
+    @InjectSpy
+    Morphium morphium;
+
+    @Inject
+    TransactionalService service;
+
+    @Inject
+    TransactionEventCollector eventCollector;
+
+    @BeforeEach
+    void clearEvents() {
+        eventCollector.clear();
+        service.resetAttempts();
+    }
+
+    @Test
+    @DisplayName("UnknownTransactionCommitResult repeats only the commit – the body runs once")
+    void commitRetry_onUnknownResult() throws Exception {
+        doThrow(new MorphiumDriverException(UNKNOWN_COMMIT)).doCallRealMethod().when(morphium).commitTransaction();
+
+        service.storeFailingFirst("tx-commit-retry", 0, "");
+
+        assertThat(service.attempts()).isEqualTo(1);
+        verify(morphium, times(2)).commitTransaction();
+        assertThat(morphium.createQueryFor(ItemEntity.class).f("name").eq("tx-commit-retry").countAll())
+                .isEqualTo(1);
+        assertThat(eventCollector.getEvents())
+                .extracting(MorphiumTransactionEvent::getPhase)
+                .containsExactly(Phase.BEFORE_COMMIT, Phase.AFTER_COMMIT);
+    }
+
+    @Test
+    @DisplayName("an IOException in the cause chain of a failed commit repeats only the commit")
+    void commitRetry_onIoException() throws Exception {
+        doThrow(new MorphiumDriverException("commit failed", new IOException("Connection reset")))
+                .doCallRealMethod().when(morphium).commitTransaction();
+
+        service.storeFailingFirst("tx-commit-retry-io", 0, "");
+
+        assertThat(service.attempts()).isEqualTo(1);
+        verify(morphium, times(2)).commitTransaction();
+        assertThat(morphium.createQueryFor(ItemEntity.class).f("name").eq("tx-commit-retry-io").countAll())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("commit retries exhausted – rolled back once, body still ran once")
+    void commitRetry_exhausted() throws Exception {
+        doThrow(new MorphiumDriverException(UNKNOWN_COMMIT)).when(morphium).commitTransaction();
+
+        assertThatThrownBy(() -> service.storeFailingFirst("tx-commit-exhausted", 0, ""))
+                .hasMessageContaining("UnknownTransactionCommitResult");
+
+        assertThat(service.attempts()).isEqualTo(1);
+        verify(morphium, times(4)).commitTransaction();
+        assertThat(morphium.createQueryFor(ItemEntity.class).f("name").eq("tx-commit-exhausted").countAll())
+                .isZero();
+        assertThat(eventCollector.getEvents())
+                .extracting(MorphiumTransactionEvent::getPhase, MorphiumTransactionEvent::isRetried)
+                .containsExactly(tuple(Phase.BEFORE_COMMIT, false), tuple(Phase.AFTER_ROLLBACK, false));
+    }
+
+    @Test
+    @DisplayName("a transient commit failure pairs its BEFORE_COMMIT with a retried AFTER_ROLLBACK")
+    void transientCommit_pairsEvents() throws Exception {
+        doThrow(new MorphiumDriverException(TRANSIENT)).doCallRealMethod().when(morphium).commitTransaction();
+
+        service.storeFailingFirst("tx-commit-transient", 0, "");
+
+        assertThat(service.attempts()).isEqualTo(2);
+        assertThat(morphium.createQueryFor(ItemEntity.class).f("name").eq("tx-commit-transient").countAll())
+                .isEqualTo(1);
+        assertThat(eventCollector.getEvents())
+                .extracting(MorphiumTransactionEvent::getPhase, MorphiumTransactionEvent::isRetried)
+                .containsExactly(
+                        tuple(Phase.BEFORE_COMMIT, false),
+                        tuple(Phase.AFTER_ROLLBACK, true),
+                        tuple(Phase.BEFORE_COMMIT, false),
+                        tuple(Phase.AFTER_COMMIT, false));
+    }
+
+    @Test
+    @DisplayName("a retry whose transaction cannot start re-throws the original failure")
+    void retryStartFails() {
+        UnsupportedOperationException startFailure = new UnsupportedOperationException("Cannot start a transaction");
+        doCallRealMethod().doThrow(startFailure).when(morphium).startTransaction();
+
+        assertThatThrownBy(() -> service.storeFailingFirst("tx-restart-fails", 1, TRANSIENT))
+                .hasMessage(TRANSIENT)
+                .satisfies(e -> assertThat(e.getSuppressed()).containsExactly(startFailure));
+
+        assertThat(service.attempts()).isEqualTo(1);
+        assertThat(morphium.createQueryFor(ItemEntity.class).f("name").eq("tx-restart-fails").countAll())
+                .isZero();
+        assertThat(eventCollector.getEvents())
+                .extracting(MorphiumTransactionEvent::getPhase, MorphiumTransactionEvent::isRetried)
+                .containsExactly(tuple(Phase.AFTER_ROLLBACK, true), tuple(Phase.AFTER_ROLLBACK, false));
+    }
+}
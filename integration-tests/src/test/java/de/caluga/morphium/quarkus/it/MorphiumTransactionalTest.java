@@ -28,6 +28,7 @@ import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 /**
  * Integration tests for {@code @MorphiumTransactional} interceptor and
@@ -64,9 +65,12 @@ class MorphiumTransactionalTest {
     @Inject
     TransactionEventCollector eventCollector;
 
+    private static final String TRANSIENT = "WriteConflict error [TransientTransactionError]";
+
     @BeforeEach
     void clearEvents() {
         eventCollector.clear();
+        service.resetAttempts();
     }
 
     @Test
@@ -139,4 +143,53 @@ class MorphiumTransactionalTest {
                 .isInstanceOf(RuntimeException.class)
                 .hasMessage("forced rollback");
     }
+
+    @Test
+    @Order(5)
+    @DisplayName("transient error is retried – method re-runs, one commit, a retried rollback event per aborted attempt")
+    void retry_onTransientError() {
+        service.storeFailingFirst("tx-retry", 2, TRANSIENT);
+
+        assertThat(service.attempts()).isEqualTo(3);
+        assertThat(morphium.createQueryFor(ItemEntity.class).f("name").eq("tx-retry").countAll())
+                .isEqualTo(1);
+        assertThat(eventCollector.getEvents())
+                .extracting(MorphiumTransactionEvent::getPhase, MorphiumTransactionEvent::isRetried)
+                .containsExactly(
+                        tuple(Phase.AFTER_ROLLBACK, true),
+                        tuple(Phase.AFTER_ROLLBACK, true),
+                        tuple(Phase.BEFORE_COMMIT, false),
+                        tuple(Phase.AFTER_COMMIT, false));
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("retries exhausted – exception re-thrown after maxRetries, nothing persisted")
+    void retry_exhausted() {
+        assertThatThrownBy(() -> service.storeFailingFirst("tx-retry-exhausted", 10, TRANSIENT))
+                .hasMessage(TRANSIENT);
+
+        assertThat(service.attempts()).isEqualTo(4);
+        assertThat(morphium.createQueryFor(ItemEntity.class).f("name").eq("tx-retry-exhausted").countAll())
+                .isZero();
+        assertThat(eventCollector.getEvents())
+                .extracting(MorphiumTransactionEvent::getPhase, MorphiumTransactionEvent::isRetried)
+                .containsExactly(
+                        tuple(Phase.AFTER_ROLLBACK, true),
+                        tuple(Phase.AFTER_ROLLBACK, true),
+                        tuple(Phase.AFTER_ROLLBACK, true),
+                        tuple(Phase.AFTER_ROLLBACK, false));
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("non-transient error is not retried")
+    void noRetry_onOtherErrors() {
+        assertThatThrownBy(() -> service.storeFailingFirst("tx-no-retry", 1, "forced rollback"))
+                .hasMessage("forced rollback");
+
+        assertThat(service.attempts()).isEqualTo(1);
+        assertThat(morphium.createQueryFor(ItemEntity.class).f("name").eq("tx-no-retry").countAll())
+                .isZero();
+    }
 }
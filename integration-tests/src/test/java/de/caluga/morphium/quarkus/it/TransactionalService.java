@@ -20,6 +20,8 @@ import de.caluga.morphium.quarkus.transaction.MorphiumTransactional;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * Test service exercising {@link MorphiumTransactional} for integration tests.
  */
@@ -39,4 +41,28 @@ public class TransactionalService {
         morphium.store(item);
         throw new RuntimeException("forced rollback");
     }
+
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    /**
+     * Stores an item, but throws {@code message} on the first {@code failures} attempts.
+     * The entity is created per attempt — a retry re-runs the whole method body.
+     */
+    @MorphiumTransactional(maxRetries = 3, backoff = 1)
+    public void storeFailingFirst(String name, int failures, String message) {
+        var item = new ItemEntity();
+        item.setName(name);
+        morphium.store(item);
+        if (attempts.incrementAndGet() <= failures) {
+            throw new RuntimeException(message);
+        }
+    }
+
+    public int attempts() {
+        return attempts.get();
+    }
+
+    public void resetAttempts() {
+        attempts.set(0);
+    }
 }
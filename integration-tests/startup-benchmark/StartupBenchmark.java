@@ -0,0 +1,489 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Startup-time benchmark harness for JVM and native builds.
+ *
+ * <p>Generates synthetic Quarkus applications with N {@code @Entity} classes and M Jakarta Data
+ * repositories, builds them against the locally installed extension, starts them with
+ * {@code InMemDriver} and measures:
+ * <ul>
+ *   <li>build time ({@code mvn package}),</li>
+ *   <li>time to first request — process start until {@code GET /ping} (which queries a
+ *       repository) answers 200,</li>
+ *   <li>resident set size after the first request,</li>
+ *   <li>the extension's own startup phases from its log: {@code buildMorphium} total,
+ *       type-id registration, connect, index check, and the migration runner.</li>
+ * </ul>
+ *
+ * <p>Requires JDK 21 and Maven; run {@code mvn install -DskipTests} in the repository root
+ * first. Native mode additionally needs GraalVM/Mandrel (or a container runtime for
+ * {@code -Dquarkus.native.container-build=true}, passed through via {@code --maven-args}).
+ *
+ * <pre>{@code
+ * java integration-tests/startup-benchmark/StartupBenchmark.java                     # 10, 100, 500 — JVM
+ * java integration-tests/startup-benchmark/StartupBenchmark.java --scales 100x20 --native --runs 5
+ * }</pre>
+ *
+ * A scale is {@code N} (N entities, N repositories) or {@code NxM}. Results are printed as a
+ * Markdown table and written to {@code integration-tests/target/startup-benchmark/results.csv}.
+ */
+public class StartupBenchmark {
+
+    private static final Pattern READY = Pattern.compile(
+            "Morphium ready in (\\d+)ms \\(type-id registration (\\d+)ms, connect (\\d+)ms, index check (\\d+)ms\\)");
+    private static final Pattern MIGRATIONS = Pattern.compile("Migrations finished in (\\d+)ms");
+    private static final Pattern QUARKUS_STARTED = Pattern.compile("started in ([0-9.]+)s");
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    record Scale(int entities, int repositories) {
+
+        static Scale parse(String s) {
+            String[] parts = s.toLowerCase(Locale.ROOT).split("x");
+            int n = Integer.parseInt(parts[0].trim());
+            return new Scale(n, parts.length > 1 ? Integer.parseInt(parts[1].trim()) : n);
+        }
+
+        @Override
+        public String toString() {
+            return entities + "x" + repositories;
+        }
+    }
+
+    record Run(long firstRequestMs, long rssKb, Map<String, Long> phases) {
+    }
+
+    record Result(Scale scale, String mode, long buildMs, List<Run> runs) {
+
+        long median(java.util.function.ToLongFunction<Run> metric) {
+            long[] values = runs.stream().mapToLong(metric).sorted().toArray();
+            return values.length == 0 ? -1 : values[values.length / 2];
+        }
+
+        long medianPhase(String phase) {
+            return median(r -> r.phases().getOrDefault(phase, -1L));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<Scale> scales = List.of(new Scale(10, 10), new Scale(100, 100), new Scale(500, 500));
+        List<String> modes = new ArrayList<>(List.of("jvm"));
+        int runs = 3;
+        int port = 18080;
+        List<String> mavenArgs = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--scales" -> scales = Arrays.stream(args[++i].split(",")).map(Scale::parse).toList();
+                case "--native" -> modes.add("native");
+                case "--native-only" -> modes = new ArrayList<>(List.of("native"));
+                case "--runs" -> runs = Integer.parseInt(args[++i]);
+                case "--port" -> port = Integer.parseInt(args[++i]);
+                case "--maven-args" -> mavenArgs.addAll(Arrays.asList(args[++i].trim().split("\\s+")));
+                default -> {
+                    System.err.println("Unknown option " + args[i]
+                            + " — supported: --scales 10,100x20 --native --native-only --runs N --port P --maven-args \"...\"");
+                    System.exit(2);
+                }
+            }
+        }
+
+        Path root = findRepositoryRoot();
+        String pom = Files.readString(root.resolve("pom.xml"));
+        String extensionVersion = extract(pom, "<artifactId>quarkus-morphium-parent</artifactId>\\s*<version>([^<]+)</version>");
+        String quarkusVersion = extract(pom, "<quarkus.version>([^<]+)</quarkus.version>");
+        Path workDir = root.resolve("integration-tests/target/startup-benchmark");
+        Files.createDirectories(workDir);
+
+        List<Result> results = new ArrayList<>();
+        for (Scale scale : scales) {
+            Path app = workDir.resolve("app-" + scale);
+            generateApplication(app, scale, extensionVersion, quarkusVersion, port);
+            for (String mode : modes) {
+                System.out.printf("%n== %s entities / %s repositories — %s ==%n", scale.entities(), scale.repositories(), mode);
+                long buildMs = build(app, mode, mavenArgs);
+                List<Run> measured = new ArrayList<>();
+                for (int r = 1; r <= runs; r++) {
+                    Run run = start(app, mode, port, workDir.resolve("app-" + scale + "-" + mode + "-" + r + ".log"));
+                    System.out.printf("run %d: first request %d ms, RSS %d MiB, phases %s%n",
+                            r, run.firstRequestMs(), run.rssKb() / 1024, run.phases());
+                    measured.add(run);
+                }
+                results.add(new Result(scale, mode, buildMs, measured));
+            }
+        }
+        report(results, workDir.resolve("results.csv"));
+    }
+
+    // ------------------------------------------------------------------
+    // Application generation
+    // ------------------------------------------------------------------
+
+    static void generateApplication(Path app, Scale scale, String extensionVersion, String quarkusVersion, int port)
+            throws IOException {
+        Path src = app.resolve("src/main/java/bench");
+        if (Files.exists(src)) {
+            try (var files = Files.walk(src)) {
+                files.sorted(java.util.Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+            }
+        }
+        Files.createDirectories(src);
+        Files.createDirectories(app.resolve("src/main/resources"));
+
+        Files.writeString(app.resolve("pom.xml"), """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <project xmlns="http://maven.apache.org/POM/4.0.0"
+                         xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance"
+                         xsi:schemaLocation="http://maven.apache.org/POM/4.0.0 https://maven.apache.org/xsd/maven-4.0.0.xsd">
+                  <modelVersion>4.0.0</modelVersion>
+                  <groupId>bench</groupId>
+                  <artifactId>startup-%1$s</artifactId>
+                  <version>1.0</version>
+                  <properties>
+                    <maven.compiler.release>21</maven.compiler.release>
+                    <project.build.sourceEncoding>UTF-8</project.build.sourceEncoding>
+                  </properties>
+                  <dependencyManagement>
+                    <dependencies>
+                      <dependency>
+                        <groupId>io.quarkus.platform</groupId>
+                        <artifactId>quarkus-bom</artifactId>
+                        <version>%3$s</version>
+                        <type>pom</type>
+                        <scope>import</scope>
+                      </dependency>
+                    </dependencies>
+                  </dependencyManagement>
+                  <dependencies>
+                    <dependency>
+                      <groupId>io.quarkiverse.morphium</groupId>
+                      <artifactId>quarkus-morphium</artifactId>
+                      <version>%2$s</version>
+                    </dependency>
+                    <dependency>
+                      <groupId>io.quarkus</groupId>
+                      <artifactId>quarkus-rest</artifactId>
+                    </dependency>
+                  </dependencies>
+                  <build>
+                    <plugins>
+                      <plugin>
+                        <groupId>io.quarkus</groupId>
+                        <artifactId>quarkus-maven-plugin</artifactId>
+                        <version>%3$s</version>
+                        <extensions>true</extensions>
+                        <executions>
+                          <execution>
+                            <goals>
+                              <goal>build</goal>
+                            </goals>
+                          </execution>
+                        </executions>
+                      </plugin>
+                    </plugins>
+                  </build>
+                </project>
+                """.formatted(scale, extensionVersion, quarkusVersion));
+
+        Files.writeString(app.resolve("src/main/resources/application.properties"), """
+                quarkus.morphium.database=startup-bench
+                quarkus.morphium.driver-name=InMemDriver
+                quarkus.morphium.devservices.enabled=false
+                quarkus.http.port=%d
+                quarkus.banner.enabled=false
+                """.formatted(port));
+
+        for (int i = 0; i < scale.entities(); i++) {
+            Files.writeString(src.resolve("Entity" + i + ".java"), """
+                    package bench;
+
+                    import de.caluga.morphium.annotations.Entity;
+                    import de.caluga.morphium.annotations.Id;
+                    import de.caluga.morphium.annotations.Index;
+                    import de.caluga.morphium.annotations.Property;
+                    import java.util.Date;
+
+                    @Entity(collectionName = "entity_%1$d")
+                    @Index({"name", "value,-created"})
+                    public class Entity%1$d {
+                        @Id private String id;
+                        @Property(fieldName = "name") private String name;
+                        @Property(fieldName = "value") private int value;
+                        @Property(fieldName = "created") private Date created;
+
+                        public String getId() { return id; }
+                        public void setId(String id) { this.id = id; }
+                        public String getName() { return name; }
+                        public void setName(String name) { this.name = name; }
+                        public int getValue() { return value; }
+                        public void setValue(int value) { this.value = value; }
+                        public Date getCreated() { return created; }
+                        public void setCreated(Date created) { this.created = created; }
+                    }
+                    """.formatted(i));
+        }
+        for (int j = 0; j < scale.repositories(); j++) {
+            int entity = j % scale.entities();
+            Files.writeString(src.resolve("Repository" + j + ".java"), """
+                    package bench;
+
+                    import jakarta.data.repository.BasicRepository;
+                    import jakarta.data.repository.By;
+                    import jakarta.data.repository.Find;
+                    import jakarta.data.repository.Param;
+                    import jakarta.data.repository.Query;
+                    import jakarta.data.repository.Repository;
+                    import java.util.List;
+
+                    @Repository
+                    public interface Repository%1$d extends BasicRepository<Entity%2$d, String> {
+                        List<Entity%2$d> findByName(String name);
+                        long countByValueGreaterThan(int value);
+                        @Find List<Entity%2$d> byValue(@By("value") int value);
+                        @Query("WHERE name = :name ORDER BY created DESC")
+                        List<Entity%2$d> latestByName(@Param("name") String name);
+                    }
+                    """.formatted(j, entity));
+        }
+        Files.writeString(src.resolve("PingResource.java"), """
+                package bench;
+
+                import jakarta.inject.Inject;
+                import jakarta.ws.rs.GET;
+                import jakarta.ws.rs.Path;
+
+                @Path("/ping")
+                public class PingResource {
+                    @Inject Repository0 repository;
+
+                    @GET
+                    public String ping() {
+                        return "ok " + repository.findByName("benchmark").size();
+                    }
+                }
+                """);
+        Files.writeString(src.resolve("InitMigration.java"), """
+                package bench;
+
+                import de.caluga.morphium.Morphium;
+                import de.caluga.morphium.quarkus.migration.Execution;
+                import de.caluga.morphium.quarkus.migration.MorphiumChangeUnit;
+                import de.caluga.morphium.quarkus.migration.RollbackExecution;
+
+                @MorphiumChangeUnit(id = "001-init", order = "001", author = "benchmark")
+                public class InitMigration {
+                    @Execution
+                    public void execute(Morphium morphium) {
+                        Entity0 e = new Entity0();
+                        e.setName("benchmark");
+                        e.setCreated(new java.util.Date());
+                        morphium.store(e);
+                    }
+
+                    @RollbackExecution
+                    public void rollback(Morphium morphium) {
+                        morphium.dropCollection(Entity0.class);
+                    }
+                }
+                """);
+    }
+
+    // ------------------------------------------------------------------
+    // Build and measure
+    // ------------------------------------------------------------------
+
+    static long build(Path app, String mode, List<String> mavenArgs) throws IOException, InterruptedException {
+        List<String> cmd = new ArrayList<>(List.of(maven(), "-B", "-q", "clean", "package", "-DskipTests"));
+        if ("native".equals(mode)) {
+            cmd.add("-Dquarkus.native.enabled=true");
+        }
+        cmd.addAll(mavenArgs);
+        long start = System.nanoTime();
+        Process p = new ProcessBuilder(cmd).directory(app.toFile()).inheritIO().start();
+        if (p.waitFor() != 0) {
+            throw new IllegalStateException("Build failed in " + app + ": " + String.join(" ", cmd));
+        }
+        long ms = (System.nanoTime() - start) / 1_000_000;
+        System.out.printf("build: %d ms%n", ms);
+        return ms;
+    }
+
+    static Run start(Path app, String mode, int port, Path log) throws IOException, InterruptedException {
+        List<String> cmd = "native".equals(mode)
+                ? List.of(findNativeRunner(app).toString())
+                : List.of(Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                        "-jar", app.resolve("target/quarkus-app/quarkus-run.jar").toString());
+        HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+        HttpRequest ping = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/ping"))
+                .timeout(Duration.ofSeconds(10)).build();
+
+        long start = System.nanoTime();
+        Process p = new ProcessBuilder(cmd).directory(app.toFile())
+                .redirectErrorStream(true).redirectOutput(log.toFile()).start();
+        try {
+            long deadline = start + STARTUP_TIMEOUT.toNanos();
+            while (true) {
+                if (!p.isAlive()) {
+                    throw new IllegalStateException("Application exited with " + p.exitValue() + " — see " + log);
+                }
+                if (System.nanoTime() > deadline) {
+                    throw new IllegalStateException("No successful /ping within " + STARTUP_TIMEOUT + " — see " + log);
+                }
+                try {
+                    if (http.send(ping, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        break;
+                    }
+                } catch (IOException notYetListening) {
+                    // keep polling
+                }
+                Thread.sleep(5);
+            }
+            long firstRequestMs = (System.nanoTime() - start) / 1_000_000;
+            long rssKb = rssKb(p.pid());
+            return new Run(firstRequestMs, rssKb, phases(Files.readString(log)));
+        } finally {
+            p.destroy();
+            p.waitFor();
+        }
+    }
+
+    static Map<String, Long> phases(String log) {
+        Map<String, Long> phases = new LinkedHashMap<>();
+        Matcher ready = READY.matcher(log);
+        if (ready.find()) {
+            phases.put("buildMorphium", Long.parseLong(ready.group(1)));
+            phases.put("typeIds", Long.parseLong(ready.group(2)));
+            phases.put("connect", Long.parseLong(ready.group(3)));
+            phases.put("ensureIndices", Long.parseLong(ready.group(4)));
+        }
+        Matcher migrations = MIGRATIONS.matcher(log);
+        if (migrations.find()) {
+            phases.put("migrations", Long.parseLong(migrations.group(1)));
+        }
+        Matcher started = QUARKUS_STARTED.matcher(log);
+        if (started.find()) {
+            phases.put("quarkusStarted", Math.round(Double.parseDouble(started.group(1)) * 1000));
+        }
+        return phases;
+    }
+
+    static long rssKb(long pid) {
+        try {
+            Path status = Path.of("/proc", Long.toString(pid), "status");
+            if (Files.exists(status)) {
+                for (String line : Files.readAllLines(status)) {
+                    if (line.startsWith("VmRSS:")) {
+                        return Long.parseLong(line.replaceAll("\\D", ""));
+                    }
+                }
+            }
+            // macOS and other platforms without procfs
+            Process ps = new ProcessBuilder("ps", "-o", "rss=", "-p", Long.toString(pid)).start();
+            String out = new String(ps.getInputStream().readAllBytes()).trim();
+            ps.waitFor();
+            return out.isEmpty() ? -1 : Long.parseLong(out);
+        } catch (IOException | InterruptedException | NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    // ------------------------------------------------------------------
+    // Reporting
+    // ------------------------------------------------------------------
+
+    static void report(List<Result> results, Path csv) throws IOException {
+        String[] phases = {"buildMorphium", "typeIds", "connect", "ensureIndices", "migrations", "quarkusStarted"};
+        StringBuilder table = new StringBuilder("""
+
+                | entities | repositories | mode | build ms | first request ms | RSS MiB | buildMorphium ms | type-ids ms | connect ms | ensureIndices ms | migrations ms | Quarkus started ms |
+                |---:|---:|---|---:|---:|---:|---:|---:|---:|---:|---:|---:|
+                """);
+        StringBuilder lines = new StringBuilder(
+                "entities,repositories,mode,buildMs,firstRequestMs,rssKb," + String.join(",", phases) + "\n");
+        for (Result r : results) {
+            long rss = r.median(Run::rssKb);
+            table.append("| %d | %d | %s | %d | %d | %s |".formatted(r.scale().entities(), r.scale().repositories(),
+                    r.mode(), r.buildMs(), r.median(Run::firstRequestMs), rss < 0 ? "?" : Long.toString(rss / 1024)));
+            lines.append("%d,%d,%s,%d,%d,%d".formatted(r.scale().entities(), r.scale().repositories(),
+                    r.mode(), r.buildMs(), r.median(Run::firstRequestMs), rss));
+            for (String phase : phases) {
+                long v = r.medianPhase(phase);
+                table.append(' ').append(v < 0 ? "–" : Long.toString(v)).append(" |");
+                lines.append(',').append(v);
+            }
+            table.append('\n');
+            lines.append('\n');
+        }
+        System.out.println(table);
+        System.out.println("(medians over " + (results.isEmpty() ? 0 : results.get(0).runs().size()) + " run(s); CSV: " + csv + ")");
+        Files.writeString(csv, lines);
+    }
+
+    // ------------------------------------------------------------------
+    // Helpers
+    // ------------------------------------------------------------------
+
+    static Path findRepositoryRoot() {
+        Path dir = Path.of("").toAbsolutePath();
+        while (dir != null) {
+            if (Files.isDirectory(dir.resolve("runtime")) && Files.isDirectory(dir.resolve("integration-tests"))
+                    && Files.exists(dir.resolve("pom.xml"))) {
+                return dir;
+            }
+            dir = dir.getParent();
+        }
+        throw new IllegalStateException("Run from within the quarkus-morphium repository");
+    }
+
+    static Path findNativeRunner(Path app) {
+        try (var files = Files.list(app.resolve("target"))) {
+            return files.filter(f -> f.getFileName().toString().endsWith("-runner") && Files.isExecutable(f))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("No native runner in " + app.resolve("target")));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static String maven() {
+        return System.getProperty("os.name").toLowerCase(Locale.ROOT).contains("win") ? "mvn.cmd" : "mvn";
+    }
+
+    static String extract(String text, String regex) {
+        Matcher m = Pattern.compile(regex).matcher(text);
+        if (!m.find()) {
+            throw new IllegalStateException("Pattern not found in pom.xml: " + regex);
+        }
+        return m.group(1).trim();
+    }
+}
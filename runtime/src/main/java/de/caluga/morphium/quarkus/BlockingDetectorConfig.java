@@ -0,0 +1,36 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus;
+
+import io.smallrye.config.WithDefault;
+
+/**
+ * Blocking-call detector configuration group, nested under
+ * {@link MorphiumRuntimeConfig#blockingDetector()}.
+ *
+ * <p>The detector itself can be removed from the build with
+ * {@code quarkus.morphium.blocking-detector.enabled=false} (build time).
+ */
+public interface BlockingDetectorConfig {
+
+    /**
+     * Whether a Morphium call on a Vert.x event-loop thread fails with an
+     * {@link IllegalStateException} instead of logging a warning. Intended for dev and test,
+     * e.g. {@code %dev.quarkus.morphium.blocking-detector.strict=true}.
+     */
+    @WithDefault("false")
+    boolean strict();
+}
@@ -16,6 +16,11 @@
 package de.caluga.morphium.quarkus;
 
 import io.smallrye.config.WithDefault;
+import io.smallrye.config.WithParentName;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * Cache configuration group, nested under {@link MorphiumRuntimeConfig#cache()}.
@@ -29,4 +34,98 @@ public interface CacheConfig {
     /** Whether query-result caching is enabled. */
     @WithDefault("true")
     boolean readCacheEnabled();
+
+    /**
+     * Cache implementation used for {@code @Cache} entities.
+     *
+     * <ul>
+     *   <li>{@code morphium} – <b>(default)</b> Morphium's built-in TTL cache.</li>
+     *   <li>{@code caffeine} – size-bounded Caffeine cache with W-TinyLFU eviction.
+     *       Requires {@code com.github.ben-manes.caffeine:caffeine} (or
+     *       {@code io.quarkus:quarkus-caffeine}) on the classpath.</li>
+     * </ul>
+     */
+    @WithDefault("morphium")
+    CacheBackend backend();
+
+    /** Implementation of Morphium's read cache. */
+    enum CacheBackend {
+        /** Morphium's built-in TTL-based cache. */
+        MORPHIUM,
+        /** Size-bounded Caffeine cache (W-TinyLFU eviction). */
+        CAFFEINE
+    }
+
+    /**
+     * Whether concurrent cache misses for the same query share a single load: the first
+     * thread queries MongoDB, the others wait for its result. {@code caffeine} backend only.
+     */
+    @WithDefault("true")
+    boolean singleFlight();
+
+    /**
+     * Maximum time in milliseconds a thread waits for another thread's in-flight load
+     * before querying MongoDB itself.
+     */
+    @WithDefault("5000")
+    long singleFlightTimeout();
+
+    /**
+     * Fraction of the TTL (between 0 and 1, e.g. {@code 0.8}) after which a cached result is
+     * reloaded by the next reader while all other readers keep getting the cached result.
+     * {@code 0} disables early refresh. {@code caffeine} backend only.
+     */
+    @WithDefault("0")
+    double earlyRefresh();
+
+    /**
+     * Cluster-wide cache invalidation.
+     *
+     * <ul>
+     *   <li>{@code none} – <b>(default)</b> each instance only evicts on its own writes.</li>
+     *   <li>{@code change-stream} – every instance watches a database change stream and evicts
+     *       the cache of a {@code @Cache} entity whenever its collection changes, on any
+     *       instance. Requires a replica set.</li>
+     * </ul>
+     */
+    @WithDefault("none")
+    CacheInvalidation invalidation();
+
+    /** Strategy for evicting cache entries written by other instances. */
+    enum CacheInvalidation {
+        /** Local eviction only. */
+        NONE,
+        /** Evict on change-stream events for cached collections. */
+        CHANGE_STREAM
+    }
+
+    /**
+     * Repository queries to run at startup to fill the cache, in the form
+     * {@code <repository fqcn>#<method>(<arg>,...)}, e.g.
+     * {@code com.acme.CountryRepository#findByRegion(EU)}. Arguments are converted to the
+     * method's parameter types (strings, primitives and their wrappers, enums). Use indexed
+     * properties ({@code warm-up-queries[0]=...}) for methods with more than one argument.
+     *
+     * <p>Together with the per-entity {@code warm-up} flag, the warm-up runs after startup;
+     * the readiness check reports DOWN until it has finished or timed out.
+     */
+    Optional<List<String>> warmUpQueries();
+
+    /** Maximum number of warm-up queries running concurrently. Values below 1 are treated as 1. */
+    @WithDefault("4")
+    int warmUpParallelism();
+
+    /**
+     * Maximum time in milliseconds for the whole warm-up. Queries still running afterwards are
+     * cancelled and the instance reports ready with a partially filled cache.
+     */
+    @WithDefault("60000")
+    long warmUpTimeout();
+
+    /**
+     * Per-entity overrides, keyed by the fully qualified entity class name:
+     * {@code quarkus.morphium.cache."com.acme.Product".ttl=300000}.
+     */
+    @WithParentName
+    Map<String, EntityCacheConfig> entities();
 }
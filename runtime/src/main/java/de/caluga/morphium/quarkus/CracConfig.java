@@ -0,0 +1,40 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus;
+
+import io.smallrye.config.WithDefault;
+
+/**
+ * CRaC (Coordinated Restore at Checkpoint) configuration group, nested under
+ * {@link MorphiumRuntimeConfig#crac()}.
+ */
+public interface CracConfig {
+
+    /**
+     * Whether to register a {@code org.crac.Resource} that closes the MongoDB connections
+     * before a checkpoint and reconnects after restore. Has no effect on JVMs without CRaC.
+     */
+    @WithDefault("true")
+    boolean enabled();
+
+    /**
+     * Whether to warm up the connection pool after restore by running a {@code count}
+     * against the collection of every {@code @Entity}. Without warm-up, connections are
+     * opened on first use.
+     */
+    @WithDefault("false")
+    boolean warmUp();
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus;
+
+import io.smallrye.config.WithDefault;
+
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+/**
+ * Per-entity cache overrides, nested under {@link CacheConfig#entities()}.
+ * Unset values fall back to the entity's {@code @Cache} annotation, then to the global settings.
+ */
+public interface EntityCacheConfig {
+
+    /** Validity time of cached query results for this entity in milliseconds. */
+    OptionalLong ttl();
+
+    /**
+     * Maximum number of cached query results for this entity. Only enforced by the
+     * {@code caffeine} backend; Morphium's built-in cache uses {@code @Cache(maxEntries)}.
+     */
+    OptionalInt maxEntries();
+
+    /**
+     * Whether to fill the cache with all documents of this entity at startup, before the
+     * readiness check reports UP. See {@link CacheConfig#warmUpQueries()}.
+     */
+    @WithDefault("false")
+    boolean warmUp();
+}
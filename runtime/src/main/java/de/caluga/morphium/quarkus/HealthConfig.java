@@ -0,0 +1,71 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus;
+
+import io.smallrye.config.WithDefault;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Health probe configuration group, nested under {@link MorphiumRuntimeConfig#health()}.
+ *
+ * <p>Whether the probes are registered at all is controlled by the build-time property
+ * {@code quarkus.morphium.health.enabled}.
+ */
+public interface HealthConfig {
+
+    /**
+     * Interval at which connection state, pool statistics and ping time are refreshed in the
+     * background. The probes only read the latest sample and never call the driver themselves.
+     */
+    @WithDefault("5s")
+    Duration sampleInterval();
+
+    /**
+     * Whether each sample measures the round-trip time of a {@code hello} command against the
+     * primary. Reported as {@code pingMs} by the readiness probe.
+     */
+    @WithDefault("true")
+    boolean ping();
+
+    /**
+     * Readiness reports DOWN when more threads than this wait for a pool connection for longer
+     * than {@link #saturationPeriod()}. Pool saturation does not affect readiness when not set.
+     */
+    Optional<Integer> maxThreadsWaiting();
+
+    /**
+     * Readiness reports DOWN when the ping time (or a failed ping) stays above this value for
+     * longer than {@link #saturationPeriod()}. Latency does not affect readiness when not set.
+     */
+    Optional<Duration> maxPingTime();
+
+    /**
+     * Readiness reports DOWN when a secondary lags behind the primary by more than this for
+     * longer than {@link #saturationPeriod()}. Replication lag does not affect readiness when
+     * not set; it is only measured on replica sets.
+     */
+    Optional<Duration> maxReplicationLag();
+
+    /**
+     * How long {@link #maxThreadsWaiting()}, {@link #maxPingTime()} or {@link #maxReplicationLag()}
+     * must be exceeded continuously before readiness reports DOWN, so short bursts (e.g. bulk
+     * imports) are ignored.
+     */
+    @WithDefault("30s")
+    Duration saturationPeriod();
+}
@@ -18,8 +18,13 @@ package de.caluga.morphium.quarkus;
 import de.caluga.morphium.Morphium;
 import de.caluga.morphium.MorphiumAccessVetoException;
 import de.caluga.morphium.MorphiumStorageListener;
+import de.caluga.morphium.ProfilingListener;
+import de.caluga.morphium.ReadAccessType;
+import de.caluga.morphium.WriteAccessType;
 import de.caluga.morphium.query.Query;
+import io.quarkus.runtime.ShutdownEvent;
 import io.quarkus.runtime.StartupEvent;
+import io.vertx.core.Context;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.Observes;
 import jakarta.inject.Inject;
@@ -29,19 +34,34 @@ import org.slf4j.LoggerFactory;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
- * Detects Morphium write operations that are called from the Vert.x I/O event-loop thread.
+ * Detects Morphium operations that are called from the Vert.x I/O event-loop thread.
  *
- * <p>Morphium write operations are blocking (they communicate synchronously with MongoDB).
+ * <p>Morphium operations are blocking (they communicate synchronously with MongoDB).
  * Calling them directly from a Vert.x event-loop thread will stall the event loop, which
  * causes health-check timeouts and general request degradation.
  *
- * <p>This bean registers a {@link MorphiumStorageListener} at application startup and logs
- * a clear {@code WARN} with fix instructions whenever a write is attempted on an event-loop
- * thread. No Vert.x API dependency is required — detection is based solely on the well-known
- * thread-name prefix {@code "vert.x-eventloop-thread"}.
+ * <p>This bean registers a {@link MorphiumStorageListener} for writes (store, update, remove)
+ * and a {@link ProfilingListener} for reads (find, get, count, distinct) at application
+ * startup. Event-loop threads are recognised with {@link Context#isOnEventLoopThread()};
+ * worker and virtual threads never match. Reads are reported after their round trip — Morphium
+ * has no pre-read callback.
+ *
+ * <p>Every offending call is counted per operation and call site (repository method or
+ * {@code Class.method} of the first application frame, see {@link #getCallSiteCounts()}; exported as
+ * {@code morphium.blocking.calls} when Micrometer metrics are enabled). A {@code WARN} with fix
+ * instructions is logged for each new call site and at most every 30 seconds otherwise. With
+ * {@code quarkus.morphium.blocking-detector.strict=true} the call fails with an
+ * {@link IllegalStateException} instead.
+ *
+ * <p>The detector can be removed from the build entirely with
+ * {@code quarkus.morphium.blocking-detector.enabled=false}.
  *
  * <p><b>Fix:</b> annotate the offending JAX-RS method with
  * {@code @io.smallrye.common.annotation.RunOnVirtualThread} (preferred) or
@@ -51,23 +71,40 @@ import java.util.concurrent.atomic.AtomicLong;
 public class MorphiumBlockingCallDetector {
 
     private static final Logger log = LoggerFactory.getLogger(MorphiumBlockingCallDetector.class);
-    private static final String EVENTLOOP_THREAD_PREFIX = "vert.x-eventloop-thread";
     private static final long WARN_INTERVAL_NANOS = Duration.ofSeconds(30).toNanos();
+    // Vert.x is optional — without it there is no event loop to protect
+    private static final boolean VERTX_PRESENT = isClassPresent("io.vertx.core.Context");
     private final AtomicLong lastWarnNanos = new AtomicLong(0);
 
     @Inject
     Morphium morphium;
 
+    @Inject
+    MorphiumRuntimeConfig config;
+
+    private final Map<String, Map<String, LongAdder>> callSites = new ConcurrentHashMap<>();
+    private final List<CallObserver> observers = new CopyOnWriteArrayList<>();
+    private boolean strict;
+    private MorphiumStorageListener<Object> listener;
+    private ProfilingListener readListener;
+
+    /** Notified for every detected call, e.g. to export it as a metric. */
+    @FunctionalInterface
+    public interface CallObserver {
+        void onBlockingCall(String operation, String callSite);
+    }
+
     void onStart(@Observes StartupEvent event) {
-        morphium.addListener(new MorphiumStorageListener<Object>() {
+        strict = config.blockingDetector().strict();
+        listener = new MorphiumStorageListener<Object>() {
             @Override
             public void preStore(Morphium m, Object r, boolean isNew) throws MorphiumAccessVetoException {
-                warnIfOnEventLoop();
+                checkEventLoop("store");
             }
 
             @Override
             public void preStore(Morphium m, Map<Object, Boolean> isNew) throws MorphiumAccessVetoException {
-                warnIfOnEventLoop();
+                checkEventLoop("store");
             }
 
             @Override
@@ -78,12 +115,12 @@ public class MorphiumBlockingCallDetector {
 
             @Override
             public void preRemove(Morphium m, Query<Object> q) throws MorphiumAccessVetoException {
-                warnIfOnEventLoop();
+                checkEventLoop("remove");
             }
 
             @Override
             public void preRemove(Morphium m, Object r) throws MorphiumAccessVetoException {
-                warnIfOnEventLoop();
+                checkEventLoop("remove");
             }
 
             @Override
@@ -109,24 +146,90 @@ public class MorphiumBlockingCallDetector {
 
             @Override
             public void preUpdate(Morphium m, Class<? extends Object> cls, Enum updateType) throws MorphiumAccessVetoException {
-                warnIfOnEventLoop();
+                checkEventLoop("update");
             }
 
             @Override
             public void postUpdate(Morphium m, Class<? extends Object> cls, Enum updateType) {}
-        });
+        };
+        morphium.addListener(listener);
+
+        readListener = new ProfilingListener() {
+            @Override
+            public void readAccess(Query query, long time, ReadAccessType t) {
+                checkEventLoop(MorphiumOperations.read(t));
+            }
+
+            @Override
+            public void writeAccess(Class type, Object o, long time, boolean isNew, WriteAccessType t) {
+                // Writes are checked before they are sent, by the storage listener
+            }
+        };
+        morphium.addProfilingListener(readListener);
     }
 
-    private void warnIfOnEventLoop() {
+    void onStop(@Observes ShutdownEvent event) {
+        // The Morphium instance may outlive this bean (dev-mode connection reuse)
+        if (listener != null) {
+            morphium.removeListener(listener);
+            listener = null;
+        }
+        if (readListener != null) {
+            morphium.removeProfilingListener(readListener);
+            readListener = null;
+        }
+    }
+
+    private void checkEventLoop(String operation) {
+        if (!VERTX_PRESENT || !Context.isOnEventLoopThread()) {
+            return;
+        }
+        // Without line number: the site is a metric tag and the key of the per-site counts
+        String site = MorphiumCallSite.resolve(false);
+        boolean newSite = record(operation, site);
+        for (CallObserver observer : observers) {
+            observer.onBlockingCall(operation, site);
+        }
         String threadName = Thread.currentThread().getName();
-        if (threadName.startsWith(EVENTLOOP_THREAD_PREFIX) && shouldWarnNow()) {
+        if (strict) {
+            throw new IllegalStateException("Blocking Morphium " + operation + " from " + site
+                    + " on Vert.x I/O thread '" + threadName + "'. Add @RunOnVirtualThread or @Blocking"
+                    + " to the calling endpoint (quarkus.morphium.blocking-detector.strict=true)");
+        }
+        if (newSite || shouldWarnNow()) {
             log.warn("""
-                    [Morphium] Blocking write operation called from Vert.x I/O thread '{}'.
+                    [Morphium] Blocking {} operation called from Vert.x I/O thread '{}' ({}).
                     This blocks the event loop and can cause request timeouts and health-check failures.
                     Fix: Add @RunOnVirtualThread (recommended) or @Blocking to your JAX-RS method.
                     See: https://quarkus.io/guides/rest#blocking-non-blocking""",
-                    threadName);
+                    operation, threadName, site);
+        }
+    }
+
+    private static boolean isClassPresent(String name) {
+        try {
+            Class.forName(name, false, MorphiumBlockingCallDetector.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /** Counts the call; returns whether the call site was seen for the first time. */
+    private boolean record(String operation, String site) {
+        Map<String, LongAdder> bySite = callSites.computeIfAbsent(operation, k -> new ConcurrentHashMap<>());
+        LongAdder counter = bySite.get(site);
+        boolean newSite = false;
+        if (counter == null) {
+            LongAdder created = new LongAdder();
+            counter = bySite.putIfAbsent(site, created);
+            if (counter == null) {
+                counter = created;
+                newSite = true;
+            }
         }
+        counter.increment();
+        return newSite;
     }
 
     private boolean shouldWarnNow() {
@@ -134,4 +237,20 @@ public class MorphiumBlockingCallDetector {
         long last = lastWarnNanos.get();
         return now - last >= WARN_INTERVAL_NANOS && lastWarnNanos.compareAndSet(last, now);
     }
+
+    /** Registers an observer that is notified of every detected call. */
+    public void addObserver(CallObserver observer) {
+        observers.add(observer);
+    }
+
+    /** Detected calls since startup, keyed by {@code operation} and then call site. */
+    public Map<String, Map<String, Long>> getCallSiteCounts() {
+        Map<String, Map<String, Long>> result = new TreeMap<>();
+        callSites.forEach((operation, bySite) -> {
+            Map<String, Long> counts = new TreeMap<>();
+            bySite.forEach((site, counter) -> counts.put(site, counter.sum()));
+            result.put(operation, counts);
+        });
+        return result;
+    }
 }
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus;
+
+import java.util.List;
+
+/**
+ * Resolves the application code that issued a Morphium operation, for diagnostics.
+ *
+ * <p>Walks the current stack and returns {@code Repository.method} for the first frame of a
+ * generated {@code <Repository>_MorphiumImpl}, otherwise {@code Class.method:line} of the first
+ * frame outside Morphium, Quarkus and the JDK. Stack walking is comparatively expensive — only
+ * call it for operations that are actually reported.
+ */
+final class MorphiumCallSite {
+
+    private static final String REPOSITORY_IMPL_SUFFIX = "_MorphiumImpl";
+    private static final List<String> FRAMEWORK_PACKAGES = List.of(
+            "java.", "jdk.", "sun.", "de.caluga.morphium.", "io.quarkus.", "io.smallrye.",
+            "io.vertx.", "io.netty.", "org.jboss.", "jakarta.");
+
+    private MorphiumCallSite() {
+    }
+
+    static String resolve() {
+        return resolve(true);
+    }
+
+    /**
+     * @param withLine whether application frames include the line number; leave it out where the
+     *                 call site is used as a metric tag or aggregation key
+     */
+    static String resolve(boolean withLine) {
+        return StackWalker.getInstance().walk(frames -> {
+            String application = null;
+            for (StackWalker.StackFrame f : (Iterable<StackWalker.StackFrame>) frames::iterator) {
+                String cls = f.getClassName();
+                if (cls.endsWith(REPOSITORY_IMPL_SUFFIX)) {
+                    String repo = cls.substring(0, cls.length() - REPOSITORY_IMPL_SUFFIX.length());
+                    return repo.substring(repo.lastIndexOf('.') + 1) + "." + f.getMethodName();
+                }
+                if (application == null && FRAMEWORK_PACKAGES.stream().noneMatch(cls::startsWith)) {
+                    application = cls.substring(cls.lastIndexOf('.') + 1) + "." + f.getMethodName()
+                            + (withLine ? ":" + f.getLineNumber() : "");
+                }
+            }
+            return application != null ? application : "unknown";
+        });
+    }
+}
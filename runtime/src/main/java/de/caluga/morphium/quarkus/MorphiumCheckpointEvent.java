@@ -0,0 +1,41 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus;
+
+/**
+ * CDI event fired around a CRaC checkpoint ({@code quarkus.morphium.crac.enabled}).
+ *
+ * <p>Beans that own background threads or change streams stop them on
+ * {@link Phase#BEFORE_CHECKPOINT}, which is fired before the driver is closed, and start them
+ * again on {@link Phase#AFTER_RESTORE}, which is fired once the driver has reconnected.
+ */
+public class MorphiumCheckpointEvent {
+
+    public enum Phase {
+        BEFORE_CHECKPOINT,
+        AFTER_RESTORE
+    }
+
+    private final Phase phase;
+
+    public MorphiumCheckpointEvent(Phase phase) {
+        this.phase = phase;
+    }
+
+    public Phase getPhase() {
+        return phase;
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus;
+
+import de.caluga.morphium.IndexDescription;
+import de.caluga.morphium.Morphium;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * Collection and index statistics for the Dev UI "Collections" page.
+ *
+ * <p>For every mapped {@code @Entity} the storage statistics are read via
+ * {@code $collStats}, the index usage counters via {@code $indexStats}, and the indexes
+ * declared with {@code @Index} are compared with the ones that actually exist. Each index is
+ * reported with one of the states {@code used}, {@code unused} (no access since the counters
+ * were last reset), {@code missing} (declared, not present) or {@code undeclared} (present,
+ * not declared).
+ *
+ * <p>Failures are reported per collection — a missing collection or a driver without
+ * aggregation stage support (e.g. {@code InMemDriver}) does not hide the other rows.
+ */
+final class MorphiumCollectionStats {
+
+    private static final Logger log = LoggerFactory.getLogger(MorphiumCollectionStats.class);
+    private static final String ID_INDEX = "_id_";
+
+    private final Morphium morphium;
+
+    MorphiumCollectionStats(Morphium morphium) {
+        this.morphium = morphium;
+    }
+
+    /** One row per mapped {@code @Entity}, ordered by class name. */
+    List<Map<String, Object>> collect() {
+        Map<String, MorphiumEntityMetadata> metadata = new LinkedHashMap<>();
+        for (MorphiumEntityMetadata md : MorphiumRecorder.getEntityMetadata()) {
+            metadata.put(md.getClassName(), md);
+        }
+        ClassLoader cl = Thread.currentThread().getContextClassLoader();
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (String className : MorphiumRecorder.getMappedClassNames().stream().sorted().toList()) {
+            MorphiumEntityMetadata md = metadata.get(className);
+            if (md != null && md.isEmbedded()) {
+                continue;
+            }
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("entity", className.substring(className.lastIndexOf('.') + 1));
+            row.put("collection", md != null && md.getCollectionName() != null ? md.getCollectionName() : "");
+            try {
+                Class<?> type = Class.forName(className, false, cl);
+                storageStats(type, row);
+                row.put("indexes", indexes(type));
+            } catch (Exception e) {
+                log.debug("Dev UI: statistics for {} failed: {}", className, e.getMessage());
+                row.put("error", e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private void storageStats(Class<?> type, Map<String, Object> row) {
+        List<Map<String, Object>> result = morphium.createAggregator(type, Map.class)
+                .addOperator(Map.of("$collStats", Map.of("storageStats", Map.of())))
+                .aggregateMap();
+        Map<String, Object> storage = result.isEmpty() ? Map.of() : asMap(result.get(0).get("storageStats"));
+        row.put("count", number(storage.get("count")));
+        row.put("avgObjSize", number(storage.get("avgObjSize")));
+        row.put("size", number(storage.get("size")));
+        row.put("storageSize", number(storage.get("storageSize")));
+        row.put("totalIndexSize", number(storage.get("totalIndexSize")));
+    }
+
+    private List<Map<String, Object>> indexes(Class<?> type) {
+        // Actual indexes with their usage counters, keyed by normalized key spec
+        Map<String, Map<String, Object>> actual = new LinkedHashMap<>();
+        for (Map<String, Object> stat : morphium.createAggregator(type, Map.class)
+                .addOperator(Map.of("$indexStats", Map.of()))
+                .aggregateMap()) {
+            actual.put(keySpec(asMap(stat.get("key"))), stat);
+        }
+
+        Set<String> declared = new HashSet<>();
+        List<Map<String, Object>> rows = new ArrayList<>();
+        List<IndexDescription> declaredIndexes = morphium.getIndexesFromEntity(type);
+        if (declaredIndexes != null) {
+            for (IndexDescription idx : declaredIndexes) {
+                String spec = keySpec(idx.getKey());
+                if (!declared.add(spec)) {
+                    continue;
+                }
+                Map<String, Object> stat = actual.get(spec);
+                rows.add(stat != null ? indexRow(spec, stat, true) : missingRow(spec, idx.getName()));
+            }
+        }
+        for (Map.Entry<String, Map<String, Object>> e : actual.entrySet()) {
+            if (!declared.contains(e.getKey())) {
+                rows.add(indexRow(e.getKey(), e.getValue(), false));
+            }
+        }
+        return rows;
+    }
+
+    private static Map<String, Object> indexRow(String spec, Map<String, Object> stat, boolean declared) {
+        String name = String.valueOf(stat.get("name"));
+        Map<String, Object> accesses = asMap(stat.get("accesses"));
+        long ops = number(accesses.get("ops"));
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("name", name);
+        row.put("key", spec);
+        row.put("ops", ops);
+        row.put("since", accesses.get("since") != null ? String.valueOf(accesses.get("since")) : "");
+        if (!declared && !ID_INDEX.equals(name)) {
+            row.put("status", "undeclared");
+        } else {
+            // The _id index backs every findById — never report it as unused
+            row.put("status", ops > 0 || ID_INDEX.equals(name) ? "used" : "unused");
+        }
+        return row;
+    }
+
+    private static Map<String, Object> missingRow(String spec, String name) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("name", name != null ? name : "");
+        row.put("key", spec);
+        row.put("ops", 0L);
+        row.put("since", "");
+        row.put("status", "missing");
+        return row;
+    }
+
+    /**
+     * Order-preserving key spec with numeric directions normalized — the server returns
+     * {@code 1.0} or {@code 1L} where the entity declares {@code 1}.
+     */
+    static String keySpec(Map<String, Object> key) {
+        if (key == null) {
+            return "{}";
+        }
+        StringJoiner joiner = new StringJoiner(", ", "{", "}");
+        for (Map.Entry<String, Object> e : key.entrySet()) {
+            Object v = e.getValue();
+            joiner.add(e.getKey() + ": " + (v instanceof Number n ? String.valueOf(n.intValue()) : v));
+        }
+        return joiner.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> asMap(Object o) {
+        return o instanceof Map<?, ?> m ? (Map<String, Object>) m : Map.of();
+    }
+
+    private static long number(Object o) {
+        return o instanceof Number n ? n.longValue() : 0L;
+    }
+}
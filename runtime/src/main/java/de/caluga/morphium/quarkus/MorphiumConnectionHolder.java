@@ -0,0 +1,141 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus;
+
+import de.caluga.morphium.Morphium;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Keeps the {@link Morphium} instance (driver + connection pool) alive across dev-mode
+ * hot reloads.
+ *
+ * <p>This class is loaded by the base runtime ClassLoader, which survives a reload, so its
+ * static fields do too — the same approach {@code MorphiumDevServicesProcessor} uses for the
+ * Dev Services container. A held instance is only reused when the connection-relevant
+ * configuration is unchanged; otherwise it is closed and a new one is created.
+ *
+ * <p>The instance is closed when dev mode exits, via {@link MorphiumHotReplacementSetup#close()}.
+ */
+final class MorphiumConnectionHolder {
+
+    private static final Logger log = LoggerFactory.getLogger(MorphiumConnectionHolder.class);
+
+    private static volatile Morphium heldInstance;
+    private static volatile ConnectionSettings heldSettings;
+    private static volatile String heldIndexFingerprint;
+
+    private MorphiumConnectionHolder() {
+    }
+
+    /**
+     * Returns the held instance if it was created with the same settings, or {@code null}.
+     * A held instance with different settings is closed.
+     */
+    static synchronized Morphium reuse(ConnectionSettings settings) {
+        if (heldInstance == null) {
+            return null;
+        }
+        if (settings.equals(heldSettings) && heldInstance.getDriver().isConnected()) {
+            return heldInstance;
+        }
+        log.info("Morphium connection settings changed or connection lost — reconnecting");
+        close();
+        return null;
+    }
+
+    static synchronized void hold(Morphium morphium, ConnectionSettings settings, String indexFingerprint) {
+        heldInstance = morphium;
+        heldSettings = settings;
+        heldIndexFingerprint = indexFingerprint;
+    }
+
+    static boolean isHeld(Morphium morphium) {
+        return morphium != null && morphium == heldInstance;
+    }
+
+    /**
+     * Returns {@code true} if the {@code @Index} declarations differ from those the held
+     * instance last checked, and remembers the new fingerprint.
+     */
+    static synchronized boolean indexDeclarationsChanged(String indexFingerprint) {
+        boolean changed = !Objects.equals(indexFingerprint, heldIndexFingerprint);
+        heldIndexFingerprint = indexFingerprint;
+        return changed;
+    }
+
+    static synchronized void close() {
+        if (heldInstance != null) {
+            try {
+                heldInstance.close();
+            } catch (Exception e) {
+                log.warn("Error while closing Morphium", e);
+            }
+            heldInstance = null;
+            heldSettings = null;
+            heldIndexFingerprint = null;
+        }
+    }
+
+    /**
+     * The configuration values that determine the connection. Everything else
+     * (health, migration, index parallelism, …) can change without reconnecting.
+     */
+    record ConnectionSettings(List<String> hosts, Optional<String> atlasUrl, String database,
+                              String driverName, int maxConnections, String readPreference,
+                              Optional<String> replicaSetName, Optional<String> username,
+                              Optional<String> password, String authDatabase,
+                              MorphiumRuntimeConfig.IndexCheckMode indexCheck,
+                              long cacheGlobalValidTime, boolean readCacheEnabled,
+                              CacheConfig.CacheBackend cacheBackend, Map<String, String> entityCaches,
+                              boolean cacheSingleFlight, long cacheSingleFlightTimeout, double cacheEarlyRefresh,
+                              boolean useBsonDate, boolean sslEnabled, boolean sslInvalidHostnameAllowed,
+                              Optional<String> sslAuthMechanism, Optional<String> keystorePath,
+                              Optional<String> keystorePassword, Optional<String> truststorePath,
+                              Optional<String> truststorePassword, Optional<String> x509Username) {
+
+        static ConnectionSettings of(MorphiumRuntimeConfig config) {
+            SslConfig ssl = config.ssl();
+            return new ConnectionSettings(List.copyOf(config.hosts()), config.atlasUrl(), config.database(),
+                    config.driverName(), config.maxConnections(), config.readPreference(),
+                    config.replicaSetName(), config.username(), config.password(), config.authDatabase(),
+                    config.indexCheck(), config.cache().globalValidTime(), config.cache().readCacheEnabled(),
+                    config.cache().backend(), entityCaches(config.cache()), config.cache().singleFlight(),
+                    config.cache().singleFlightTimeout(), config.cache().earlyRefresh(),
+                    config.localDateTime().useBsonDate(), ssl.enabled(), ssl.invalidHostnameAllowed(),
+                    ssl.authMechanism(), ssl.keystorePath(), ssl.keystorePassword(), ssl.truststorePath(),
+                    ssl.truststorePassword(), ssl.x509Username());
+        }
+
+        private static Map<String, String> entityCaches(CacheConfig cache) {
+            Map<String, String> result = new TreeMap<>();
+            cache.entities().forEach((name, entity) -> result.put(name, entity.ttl() + "/" + entity.maxEntries()));
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            // Never log credentials
+            return "ConnectionSettings[hosts=" + hosts + ", database=" + database + ", driver=" + driverName + "]";
+        }
+    }
+}
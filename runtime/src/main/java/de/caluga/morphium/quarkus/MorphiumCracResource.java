@@ -0,0 +1,108 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus;
+
+import de.caluga.morphium.Morphium;
+import de.caluga.morphium.driver.MorphiumDriver;
+import de.caluga.morphium.quarkus.MorphiumCheckpointEvent.Phase;
+import jakarta.enterprise.event.Event;
+import org.crac.Context;
+import org.crac.Core;
+import org.crac.Resource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Optional;
+
+/**
+ * CRaC {@link Resource} for the Morphium connection.
+ *
+ * <p>Closes the driver (connection pool, sockets, heartbeat) before a checkpoint and
+ * reconnects the same driver after restore. The {@link Morphium} instance itself is kept, so
+ * the CDI bean, registered listeners and the warmed mapper/typeId caches survive the
+ * checkpoint unchanged. A {@link MorphiumCheckpointEvent} is fired before the driver is closed
+ * and after it has reconnected, so that beans with background threads or change streams can
+ * stop and restart them.
+ *
+ * <p>{@link Core#getGlobalContext()} only holds resources weakly — the owner must keep a
+ * strong reference to this object. Public so that the cycle can be exercised on JVMs
+ * without CRaC support.
+ */
+public final class MorphiumCracResource implements Resource {
+
+    private static final Logger log = LoggerFactory.getLogger(MorphiumCracResource.class);
+
+    private final Morphium morphium;
+    private final Optional<String> replicaSetName;
+    private final boolean warmUp;
+    private final Event<MorphiumCheckpointEvent> events;
+
+    public MorphiumCracResource(Morphium morphium, Optional<String> replicaSetName, boolean warmUp,
+                                Event<MorphiumCheckpointEvent> events) {
+        this.morphium = morphium;
+        this.replicaSetName = replicaSetName;
+        this.warmUp = warmUp;
+        this.events = events;
+    }
+
+    /** Registers this resource with the global CRaC context. */
+    MorphiumCracResource register() {
+        Core.getGlobalContext().register(this);
+        return this;
+    }
+
+    @Override
+    public void beforeCheckpoint(Context<? extends Resource> context) throws Exception {
+        events.fire(new MorphiumCheckpointEvent(Phase.BEFORE_CHECKPOINT));
+        log.info("CRaC checkpoint: closing MongoDB connections");
+        morphium.getDriver().close();
+    }
+
+    @Override
+    public void afterRestore(Context<? extends Resource> context) throws Exception {
+        long start = System.nanoTime();
+        MorphiumDriver driver = morphium.getDriver();
+        if (replicaSetName.isPresent()) {
+            driver.connect(replicaSetName.get());
+            // Same single-node replica set workaround as in MorphiumProducer
+            if (!driver.isReplicaSet()) {
+                driver.setReplicaSet(true);
+            }
+        } else {
+            driver.connect();
+        }
+        events.fire(new MorphiumCheckpointEvent(Phase.AFTER_RESTORE));
+        if (warmUp) {
+            warmUp();
+        }
+        log.info("CRaC restore: MongoDB reconnected in {} ms{}",
+                (System.nanoTime() - start) / 1_000_000, warmUp ? " (pool warmed up)" : "");
+    }
+
+    private void warmUp() {
+        ClassLoader cl = Thread.currentThread().getContextClassLoader();
+        for (MorphiumEntityMetadata md : MorphiumRecorder.getEntityMetadata()) {
+            if (md.isEmbedded()) {
+                continue;
+            }
+            try {
+                morphium.createQueryFor(Class.forName(md.getClassName(), false, cl)).countAll();
+            } catch (Exception e) {
+                log.debug("CRaC warm-up of {} failed: {}", md.getClassName(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Mapping metadata of one {@code @Entity} or {@code @Embedded} class, computed from Jandex
+ * at build time and recorded as bytecode by {@link MorphiumRecorder} at STATIC_INIT.
+ *
+ * <p>Mutable JavaBean so that the Quarkus bytecode recorder can reconstruct it without
+ * reflection. Collection and field names follow Morphium's default naming rules
+ * ({@code translateCamelCase}, {@code useFQN}, {@code @Property(fieldName)}); they reflect
+ * the annotations, not runtime overrides such as a collection name passed to {@code store()}.
+ */
+public class MorphiumEntityMetadata {
+
+    private String className;
+    private String typeId;
+    private String collectionName;
+    private String idField;
+    private boolean embedded;
+    private boolean cached;
+    private boolean replicated;
+    private Map<String, String> fieldNames = new LinkedHashMap<>();
+
+    public MorphiumEntityMetadata() {
+    }
+
+    /** Fully qualified class name. */
+    public String getClassName() { return className; }
+    public void setClassName(String className) { this.className = className; }
+
+    /** Explicit {@code typeId} from {@code @Entity}/{@code @Embedded}, or {@code null} if not set. */
+    public String getTypeId() { return typeId; }
+    public void setTypeId(String typeId) { this.typeId = typeId; }
+
+    /** Collection name for {@code @Entity} classes; {@code null} for {@code @Embedded}-only classes. */
+    public String getCollectionName() { return collectionName; }
+    public void setCollectionName(String collectionName) { this.collectionName = collectionName; }
+
+    /** Java name of the {@code @Id} field, or {@code null} if the class has none. */
+    public String getIdField() { return idField; }
+    public void setIdField(String idField) { this.idField = idField; }
+
+    /** Whether the class is annotated with {@code @Embedded} (and not {@code @Entity}). */
+    public boolean isEmbedded() { return embedded; }
+    public void setEmbedded(boolean embedded) { this.embedded = embedded; }
+
+    /** Whether the class is annotated with {@code @Cache} (read-cached entity). */
+    public boolean isCached() { return cached; }
+    public void setCached(boolean cached) { this.cached = cached; }
+
+    /** Whether the class is annotated with {@code @InMemoryReplica} (served from a heap replica). */
+    public boolean isReplicated() { return replicated; }
+    public void setReplicated(boolean replicated) { this.replicated = replicated; }
+
+    /** Persistent Java field name → BSON field name, including inherited fields. */
+    public Map<String, String> getFieldNames() { return fieldNames; }
+    public void setFieldNames(Map<String, String> fieldNames) { this.fieldNames = fieldNames; }
+}
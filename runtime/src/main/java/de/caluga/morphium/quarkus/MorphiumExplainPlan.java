@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads the winning plan and execution statistics from a MongoDB {@code explain} result.
+ */
+final class MorphiumExplainPlan {
+
+    private MorphiumExplainPlan() {
+    }
+
+    /**
+     * Stages of the winning plan, innermost first, e.g. {@code [IXSCAN(status_1), FETCH]}.
+     * Follows {@code inputStage} only — the first input of multi-input stages.
+     */
+    static List<String> stages(Map<String, Object> explain) {
+        List<String> stages = new ArrayList<>();
+        if (explain == null) {
+            return stages;
+        }
+        Object planner = explain.get("queryPlanner");
+        Object plan = planner instanceof Map<?, ?> p ? p.get("winningPlan") : null;
+        // Slot-based execution (MongoDB 7+) nests the classic plan under "queryPlan"
+        if (plan instanceof Map<?, ?> winning && winning.get("queryPlan") instanceof Map<?, ?> queryPlan) {
+            plan = queryPlan;
+        }
+        while (plan instanceof Map<?, ?> stage) {
+            Object name = stage.get("stage");
+            Object index = stage.get("indexName");
+            if (name != null) {
+                stages.add(0, index != null ? name + "(" + index + ")" : String.valueOf(name));
+            }
+            plan = stage.get("inputStage");
+        }
+        return stages;
+    }
+
+    /** Whether the winning plan scans the whole collection. */
+    static boolean isCollectionScan(Map<String, Object> explain) {
+        return stages(explain).stream().anyMatch(s -> s.startsWith("COLLSCAN"));
+    }
+
+    /** A value of {@code executionStats}, or null when the explain ran without them. */
+    static Object executionStat(Map<String, Object> explain, String key) {
+        return explain != null && explain.get("executionStats") instanceof Map<?, ?> stats ? stats.get(key) : null;
+    }
+
+    /** Condenses an explain result to {@code IXSCAN(status_1) <- FETCH, docsExamined=..., returned=...}. */
+    static String summary(Map<String, Object> explain) {
+        if (explain == null) {
+            return "n/a";
+        }
+        List<String> stages = stages(explain);
+        StringBuilder b = new StringBuilder(stages.isEmpty() ? "unknown plan" : String.join(" <- ", stages));
+        if (explain.get("executionStats") instanceof Map<?, ?>) {
+            b.append(", docsExamined=").append(executionStat(explain, "totalDocsExamined"))
+             .append(", keysExamined=").append(executionStat(explain, "totalKeysExamined"))
+             .append(", returned=").append(executionStat(explain, "nReturned"));
+        }
+        return b.toString();
+    }
+}
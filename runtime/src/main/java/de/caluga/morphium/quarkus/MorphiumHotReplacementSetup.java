@@ -0,0 +1,41 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus;
+
+import io.quarkus.dev.spi.HotReplacementContext;
+import io.quarkus.dev.spi.HotReplacementSetup;
+
+/**
+ * Dev-mode hook that closes the Morphium connection kept alive across hot reloads
+ * by {@link MorphiumConnectionHolder} when dev mode itself shuts down.
+ */
+public class MorphiumHotReplacementSetup implements HotReplacementSetup {
+
+    @Override
+    public void setupHotDeployment(HotReplacementContext context) {
+        // Nothing to do — the connection is reused lazily by MorphiumProducer.
+    }
+
+    @Override
+    public void handleFailedInitialStart() {
+        MorphiumConnectionHolder.close();
+    }
+
+    @Override
+    public void close() {
+        MorphiumConnectionHolder.close();
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus;
+
+import de.caluga.morphium.annotations.Entity;
+import de.caluga.morphium.annotations.Id;
+import de.caluga.morphium.annotations.Property;
+
+import java.util.Date;
+
+/**
+ * Stores the fingerprint of the {@code @Index} declarations that were last ensured
+ * at startup. When {@code quarkus.morphium.index-check-fingerprint=true} and the
+ * stored fingerprint matches the one computed at build time, the startup index
+ * check is skipped entirely.
+ */
+@Entity(collectionName = "morphiumIndexFingerprint")
+public class MorphiumIndexFingerprint {
+
+    @Id
+    private String id;
+
+    @Property(fieldName = "fingerprint")
+    private String fingerprint;
+
+    @Property(fieldName = "entity_count")
+    private int entityCount;
+
+    @Property(fieldName = "updated_at")
+    private Date updatedAt;
+
+    public MorphiumIndexFingerprint() {
+    }
+
+    // --- accessors ---
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getFingerprint() { return fingerprint; }
+    public void setFingerprint(String fingerprint) { this.fingerprint = fingerprint; }
+
+    public int getEntityCount() { return entityCount; }
+    public void setEntityCount(int entityCount) { this.entityCount = entityCount; }
+
+    public Date getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(Date updatedAt) { this.updatedAt = updatedAt; }
+}
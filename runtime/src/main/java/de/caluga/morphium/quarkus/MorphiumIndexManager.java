@@ -0,0 +1,175 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus;
+
+import de.caluga.morphium.Morphium;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Ensures the {@code @Index} declarations of the build-time discovered entities at startup.
+ *
+ * <p>Only entities that declare at least one index (computed from Jandex at build time)
+ * are checked. For each of them the existing indexes are listed and compared with the
+ * declared ones; {@code ensureIndicesFor()} is only issued when something is missing.
+ * The checks run concurrently on a small, bounded worker pool so that startup time does
+ * not grow linearly with the number of entities.
+ *
+ * <p>Optionally a fingerprint of all index declarations is persisted after a successful
+ * run. When the next start finds the same fingerprint, the check is skipped entirely.
+ */
+final class MorphiumIndexManager {
+
+    private static final Logger log = LoggerFactory.getLogger(MorphiumIndexManager.class);
+    static final String FINGERPRINT_ID = "index_fingerprint";
+
+    private final Morphium morphium;
+    private final int parallelism;
+    private final boolean useFingerprint;
+
+    MorphiumIndexManager(Morphium morphium, int parallelism, boolean useFingerprint) {
+        this.morphium = morphium;
+        this.parallelism = Math.max(1, parallelism);
+        this.useFingerprint = useFingerprint;
+    }
+
+    /**
+     * Checks and creates missing indexes for the given entity classes.
+     *
+     * @param classNames  entity classes that declare at least one {@code @Index}
+     * @param fingerprint build-time fingerprint of all index declarations (may be {@code null})
+     */
+    void ensureIndices(List<String> classNames, String fingerprint) {
+        if (classNames.isEmpty()) {
+            log.debug("No entity declares @Index — skipping index check");
+            return;
+        }
+        if (useFingerprint && fingerprint != null && fingerprint.equals(loadStoredFingerprint())) {
+            log.info("Index declarations unchanged (fingerprint {}) — skipping index check for {} entities",
+                    fingerprint, classNames.size());
+            return;
+        }
+
+        // Resolve classes on the caller thread — the worker threads inherit the same TCCL,
+        // but failing fast here keeps the warnings in the startup log order.
+        ClassLoader cl = Thread.currentThread().getContextClassLoader();
+        List<Class<?>> classes = new ArrayList<>(classNames.size());
+        for (String className : classNames) {
+            try {
+                classes.add(cl.loadClass(className));
+            } catch (ClassNotFoundException e) {
+                log.warn("Could not load mapped class for index creation: {}", className);
+            }
+        }
+
+        long start = System.nanoTime();
+        int threads = Math.min(parallelism, classes.size());
+        ExecutorService executor = Executors.newFixedThreadPool(threads, workerThreadFactory(cl));
+        int created = 0;
+        boolean allSucceeded = true;
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>(classes.size());
+            for (Class<?> entityClass : classes) {
+                futures.add(executor.submit(() -> ensureMissing(entityClass)));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    if (futures.get(i).get()) {
+                        created++;
+                    }
+                } catch (ExecutionException e) {
+                    allSucceeded = false;
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    log.warn("Failed to ensure indexes for mapped class {}: {}",
+                            classes.get(i).getName(), cause.getMessage(), cause);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while ensuring Morphium indexes", e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        log.info("Checked indexes for {} entities in {}ms ({} with missing indexes, parallelism {})",
+                classes.size(), (System.nanoTime() - start) / 1_000_000, created, threads);
+
+        if (useFingerprint && fingerprint != null && allSucceeded && classes.size() == classNames.size()) {
+            storeFingerprint(fingerprint, classNames.size());
+        }
+    }
+
+    /**
+     * Lists the existing indexes for one entity and creates the declared ones only when
+     * at least one is missing.
+     *
+     * @return {@code true} if indexes had to be created
+     */
+    private boolean ensureMissing(Class<?> entityClass) throws Exception {
+        var missing = morphium.getMissingIndicesFor(entityClass);
+        if (missing == null || missing.isEmpty()) {
+            log.debug("All indexes present for {}", entityClass.getName());
+            return false;
+        }
+        log.debug("Creating {} missing index(es) for {}", missing.size(), entityClass.getName());
+        morphium.ensureIndicesFor(entityClass);
+        return true;
+    }
+
+    private String loadStoredFingerprint() {
+        try {
+            MorphiumIndexFingerprint stored = morphium.findById(MorphiumIndexFingerprint.class, FINGERPRINT_ID);
+            return stored != null ? stored.getFingerprint() : null;
+        } catch (Exception e) {
+            log.debug("Could not read stored index fingerprint: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void storeFingerprint(String fingerprint, int entityCount) {
+        try {
+            MorphiumIndexFingerprint entry = new MorphiumIndexFingerprint();
+            entry.setId(FINGERPRINT_ID);
+            entry.setFingerprint(fingerprint);
+            entry.setEntityCount(entityCount);
+            entry.setUpdatedAt(new Date());
+            morphium.store(entry);
+        } catch (Exception e) {
+            log.warn("Could not store index fingerprint — the next start will check indexes again: {}",
+                    e.getMessage());
+        }
+    }
+
+    private static ThreadFactory workerThreadFactory(ClassLoader cl) {
+        AtomicInteger counter = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, "morphium-index-check-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            t.setContextClassLoader(cl);
+            return t;
+        };
+    }
+}
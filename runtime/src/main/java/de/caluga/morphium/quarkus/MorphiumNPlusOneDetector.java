@@ -0,0 +1,129 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus;
+
+import de.caluga.morphium.Morphium;
+import de.caluga.morphium.ProfilingListener;
+import de.caluga.morphium.ReadAccessType;
+import de.caluga.morphium.WriteAccessType;
+import de.caluga.morphium.query.Query;
+import io.quarkus.arc.Arc;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Detects N+1 query patterns: the same query shape executed over and over within one request.
+ *
+ * <p>When {@code quarkus.morphium.n-plus-one.threshold} is set, a {@link ProfilingListener}
+ * counts every Morphium read and write in the active CDI request context
+ * ({@link MorphiumRequestQueryStats}) — an HTTP request, or any unit of work started with
+ * {@code @ActivateRequestContext}. Reads are grouped by operation, collection and filter shape
+ * (values masked, see {@link MorphiumQueryShape}), writes by operation and collection — named
+ * like spans, JFR events and the slow-query log ({@link MorphiumOperations}). Calls outside a
+ * request context are ignored.
+ *
+ * <p>The first execution above the threshold is reported once per shape and request, with the
+ * call site of the loop (repository method or first application frame): as a {@code WARN}, or
+ * with {@code quarkus.morphium.n-plus-one.fail=true} as an {@link IllegalStateException} that
+ * fails the request — and with it the test.
+ */
+@ApplicationScoped
+public class MorphiumNPlusOneDetector {
+
+    private static final Logger log = LoggerFactory.getLogger(MorphiumNPlusOneDetector.class);
+
+    @Inject
+    Morphium morphium;
+
+    @Inject
+    MorphiumRuntimeConfig config;
+
+    @Inject
+    MorphiumRequestQueryStats requestStats;
+
+    private final AtomicLong violations = new AtomicLong();
+    private int threshold;
+    private boolean fail;
+    private ProfilingListener listener;
+
+    void onStart(@Observes StartupEvent event) {
+        NPlusOneConfig cfg = config.nPlusOne();
+        if (cfg.threshold().isEmpty()) {
+            return;
+        }
+        threshold = cfg.threshold().getAsInt();
+        fail = cfg.fail();
+        listener = new ProfilingListener() {
+            @Override
+            public void readAccess(Query query, long time, ReadAccessType t) {
+                if (isRequestActive()) {
+                    record(MorphiumOperations.read(t) + " " + query.getCollectionName() + " "
+                            + MorphiumQueryShape.of(query.toQueryObject()));
+                }
+            }
+
+            @Override
+            public void writeAccess(Class type, Object o, long time, boolean isNew, WriteAccessType t) {
+                if (isRequestActive()) {
+                    String collection = MorphiumOperations.collection(morphium, type);
+                    record(MorphiumOperations.write(t) + " " + (collection != null ? collection : "?"));
+                }
+            }
+        };
+        morphium.addProfilingListener(listener);
+        log.info("N+1 query detection enabled: threshold {} per request{}", threshold,
+                fail ? " (fail)" : "");
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        // The Morphium instance may outlive this bean (dev-mode connection reuse)
+        if (listener != null) {
+            morphium.removeProfilingListener(listener);
+            listener = null;
+        }
+    }
+
+    private static boolean isRequestActive() {
+        return Arc.container().requestContext().isActive();
+    }
+
+    private void record(String shape) {
+        int count = requestStats.increment(shape);
+        if (count != threshold + 1) {
+            return;
+        }
+        violations.incrementAndGet();
+        String message = "[Morphium] Possible N+1 query: '" + shape + "' executed more than " + threshold
+                + " times in one request, from " + MorphiumCallSite.resolve()
+                + ". Load the data with one query (e.g. an $in filter) or cache it.";
+        if (fail) {
+            throw new IllegalStateException(message);
+        }
+        log.warn(message);
+    }
+
+    /** Number of (request, shape) pairs that exceeded the threshold since startup. */
+    public long getViolationCount() {
+        return violations.get();
+    }
+}
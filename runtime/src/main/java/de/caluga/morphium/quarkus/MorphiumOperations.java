@@ -0,0 +1,108 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus;
+
+import de.caluga.morphium.Morphium;
+import de.caluga.morphium.ReadAccessType;
+import de.caluga.morphium.WriteAccessType;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Names Morphium commands the same way for every {@code ProfilingListener} of the extension —
+ * tracing, JFR, the slow-query log, the query profiler and the blocking-call detector: the
+ * MongoDB operation of a read or write, the collection of a written entity type and the number
+ * of documents a write carried.
+ */
+public final class MorphiumOperations {
+
+    private static volatile CollectionNames collectionNames;
+
+    private MorphiumOperations() {
+    }
+
+    /** {@code count}, {@code distinct} or — for all other read access types — {@code find}. */
+    public static String read(ReadAccessType type) {
+        return switch (type) {
+            case COUNT -> "count";
+            case DISTINCT -> "distinct";
+            default -> "find";
+        };
+    }
+
+    /**
+     * {@code insert}, {@code update} or {@code delete}; access types that are none of these
+     * (e.g. {@code DROP}, {@code ENSURE_INDEX}) are reported by their lower-cased name.
+     */
+    public static String write(WriteAccessType type) {
+        String name = type.name();
+        if (name.contains("INSERT")) {
+            return "insert";
+        } else if (name.contains("UPDATE")) {
+            return "update";
+        } else if (name.contains("DELETE") || name.contains("REMOVE")) {
+            return "delete";
+        }
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * The collection of an entity type: from the build-time metadata, else as Morphium's mapper
+     * names it (naming strategy, {@code @Entity(collectionName)}); {@code null} for a
+     * {@code null} type.
+     */
+    public static String collection(Morphium morphium, Class<?> type) {
+        if (type == null) {
+            return null;
+        }
+        List<MorphiumEntityMetadata> metadata = MorphiumRecorder.getEntityMetadata();
+        CollectionNames names = collectionNames;
+        if (names == null || names.source() != metadata) {
+            // First use, or the metadata was recorded again (dev-mode restart)
+            names = CollectionNames.of(metadata);
+            collectionNames = names;
+        }
+        String name = names.byClass().get(type.getName());
+        return name != null ? name : morphium.getMapper().getCollectionName(type);
+    }
+
+    /** Documents carried by a write: the size of a batch ({@code Collection} or {@code Map}), else 1. */
+    public static int documents(Object data) {
+        if (data instanceof Collection<?> batch) {
+            return batch.size();
+        } else if (data instanceof Map<?, ?> batch) {
+            return batch.size();
+        }
+        return 1;
+    }
+
+    private record CollectionNames(List<MorphiumEntityMetadata> source, Map<String, String> byClass) {
+
+        static CollectionNames of(List<MorphiumEntityMetadata> metadata) {
+            Map<String, String> names = new HashMap<>();
+            for (MorphiumEntityMetadata md : metadata) {
+                if (md.getCollectionName() != null) {
+                    names.put(md.getClassName(), md.getCollectionName());
+                }
+            }
+            return new CollectionNames(metadata, Map.copyOf(names));
+        }
+    }
+}
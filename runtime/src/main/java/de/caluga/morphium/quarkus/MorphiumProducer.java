@@ -19,16 +19,17 @@ import de.caluga.morphium.AnnotationAndReflectionHelper;
 import de.caluga.morphium.Morphium;
 import de.caluga.morphium.MorphiumConfig;
 import de.caluga.morphium.ObjectMapperImpl;
-import de.caluga.morphium.annotations.Embedded;
-import de.caluga.morphium.annotations.Entity;
+import de.caluga.morphium.cache.MorphiumCache;
 import de.caluga.morphium.config.CollectionCheckSettings;
 import de.caluga.morphium.driver.wire.SslHelper;
 import de.caluga.morphium.objectmapping.LocalDateTimeMapper;
+import de.caluga.morphium.quarkus.cache.CaffeineMorphiumCache;
 import java.time.LocalDateTime;
-import java.util.HashMap;
 import java.util.Map;
+import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.ShutdownEvent;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
 import jakarta.enterprise.event.Observes;
 import jakarta.enterprise.inject.Produces;
 import jakarta.inject.Inject;
@@ -53,9 +54,15 @@ public class MorphiumProducer {
     @Inject
     MorphiumRuntimeConfig config;
 
+    @Inject
+    Event<MorphiumCheckpointEvent> checkpointEvents;
+
     // Kept as a field so the shutdown observer can close it.
     private volatile Morphium instance;
 
+    // Strong reference: the CRaC global context only holds resources weakly.
+    private MorphiumCracResource cracResource;
+
     @Produces
     @ApplicationScoped
     public Morphium morphium() {
@@ -66,12 +73,24 @@ public class MorphiumProducer {
             if (instance != null) {
                 return instance;
             }
-            instance = buildMorphium();
+            instance = reuseOrBuildMorphium();
+            if (config.crac().enabled() && LaunchMode.current() != LaunchMode.DEVELOPMENT) {
+                cracResource = new MorphiumCracResource(instance, config.replicaSetName(),
+                        config.crac().warmUp(), checkpointEvents).register();
+            }
         }
         return instance;
     }
 
     void onStop(@Observes ShutdownEvent event) {
+        cracResource = null;
+        if (MorphiumConnectionHolder.isHeld(instance)) {
+            // Dev-mode hot reload: the connection stays open for the next application start
+            // and is closed by MorphiumHotReplacementSetup when dev mode exits.
+            log.debug("Keeping Morphium connection open across dev-mode reload");
+            instance = null;
+            return;
+        }
         if (instance != null) {
             log.info("Closing Morphium connection on application shutdown");
             try {
@@ -129,18 +148,55 @@ public class MorphiumProducer {
         });
     }
 
-    private Morphium buildMorphium() {
-        // Clear static caches and pre-register entities for the current ClassLoader.
-        // This is essential for Quarkus dev-mode hot-reload where the QuarkusClassLoader
-        // is replaced — without this, stale class references from the previous loader cause
-        // ObjectMapperImpl/AnnotationAndReflectionHelper to silently skip all @Entity classes.
-        // In production mode this is a harmless one-time init (clear of empty state + register).
+    /**
+     * In dev mode, reuses the connection kept alive by {@link MorphiumConnectionHolder}
+     * across hot reloads when the connection settings are unchanged; only the
+     * ClassLoader-dependent mapper caches are rebuilt. Otherwise builds a new instance.
+     */
+    private Morphium reuseOrBuildMorphium() {
+        if (LaunchMode.current() != LaunchMode.DEVELOPMENT || !config.devReuseConnection()) {
+            return buildMorphium();
+        }
+        MorphiumConnectionHolder.ConnectionSettings settings = MorphiumConnectionHolder.ConnectionSettings.of(config);
+        Morphium held = MorphiumConnectionHolder.reuse(settings);
+        if (held != null) {
+            log.info("Reusing Morphium connection to database '{}' after dev-mode reload", config.database());
+            resetMapperCaches();
+            // Entity instances in the read cache belong to the previous ClassLoader
+            held.getCache().resetCache();
+            if (config.indexCheck() == MorphiumRuntimeConfig.IndexCheckMode.CREATE_ON_STARTUP
+                    && MorphiumConnectionHolder.indexDeclarationsChanged(MorphiumRecorder.getIndexFingerprint())) {
+                ensureIndices(held);
+            }
+            return held;
+        }
+        Morphium m = buildMorphium();
+        MorphiumConnectionHolder.hold(m, settings, MorphiumRecorder.getIndexFingerprint());
+        return m;
+    }
+
+    /**
+     * Clears Morphium's static mapping caches and pre-registers the entities for the current
+     * ClassLoader. This is essential for Quarkus dev-mode hot-reload where the QuarkusClassLoader
+     * is replaced — without this, stale class references from the previous loader cause
+     * ObjectMapperImpl/AnnotationAndReflectionHelper to silently skip all @Entity classes.
+     * In production mode this is a harmless one-time init (clear of empty state + register).
+     * The typeId map is computed from Jandex at build time and recorded at STATIC_INIT,
+     * so no entity class has to be loaded or inspected reflectively here.
+     */
+    private static void resetMapperCaches() {
         ObjectMapperImpl.clearEntityCache();
         AnnotationAndReflectionHelper.clearTypeIdCache();
-        var entityNames = MorphiumRecorder.getMappedClassNames();
-        if (!entityNames.isEmpty()) {
-            AnnotationAndReflectionHelper.registerTypeIds(buildTypeIdMap(entityNames));
+        Map<String, String> typeIds = MorphiumRecorder.getTypeIdMap();
+        if (!typeIds.isEmpty()) {
+            AnnotationAndReflectionHelper.registerTypeIds(typeIds);
         }
+    }
+
+    private Morphium buildMorphium() {
+        long start = System.nanoTime();
+        resetMapperCaches();
+        long typeIdsMs = elapsedMs(start);
 
         MorphiumConfig cfg = new MorphiumConfig();
 
@@ -199,6 +255,9 @@ public class MorphiumProducer {
         // Cache settings
         cfg.cacheSettings().setGlobalCacheValidTime((int) config.cache().globalValidTime());
         cfg.cacheSettings().setReadCacheEnabled(config.cache().readCacheEnabled());
+        if (config.cache().backend() == CacheConfig.CacheBackend.CAFFEINE) {
+            cfg.cacheSettings().setCache(createCaffeineCache(config.cache()));
+        }
 
         // TLS / X.509 settings
         configureSsl(cfg, config.ssl());
@@ -211,7 +270,9 @@ public class MorphiumProducer {
             config.replicaSetName().orElse("(none)"),
             config.ssl().enabled());
 
+        long connectStart = System.nanoTime();
         Morphium m = connectWithRetry(cfg);
+        long connectMs = elapsedMs(connectStart);
 
         // Defensive: ensure the driver knows it's a replica set when a RS name is configured.
         // PooledDriver < 6.2.1 only checked host-seed count, missing single-node replica sets.
@@ -230,16 +291,65 @@ public class MorphiumProducer {
         m.getMapper().registerCustomMapperFor(LocalDateTime.class,
                 new LocalDateTimeMapper(config.localDateTime().useBsonDate()));
 
+        if (config.cache().backend() == CacheConfig.CacheBackend.MORPHIUM) {
+            applyEntityCacheTimes(m);
+        }
+
         // Morphium's built-in index creation uses ClassGraph which does not work
-        // with Quarkus's classloader. Use the entity classes discovered at build time
-        // and explicitly ensure their indexes — but only when configured to do so.
+        // with Quarkus's classloader. Use the indexed entity classes discovered at build
+        // time and ensure their missing indexes in parallel — but only when configured to do so.
+        long indexMs = 0;
         if (config.indexCheck() == MorphiumRuntimeConfig.IndexCheckMode.CREATE_ON_STARTUP) {
+            long indexStart = System.nanoTime();
             ensureIndices(m);
+            indexMs = elapsedMs(indexStart);
         }
 
+        // Parsed by the startup benchmark harness (integration-tests/startup-benchmark)
+        log.info("Morphium ready in {}ms (type-id registration {}ms, connect {}ms, index check {}ms)",
+            elapsedMs(start), typeIdsMs, connectMs, indexMs);
         return m;
     }
 
+    private static long elapsedMs(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    private static MorphiumCache createCaffeineCache(CacheConfig cache) {
+        try {
+            Class.forName("com.github.benmanes.caffeine.cache.Caffeine", false,
+                    MorphiumProducer.class.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("quarkus.morphium.cache.backend=caffeine requires "
+                    + "com.github.ben-manes.caffeine:caffeine (or io.quarkus:quarkus-caffeine) on the classpath", e);
+        }
+        log.info("Using Caffeine cache backend ({} per-entity override(s))", cache.entities().size());
+        return new CaffeineMorphiumCache(cache.globalValidTime(), cache.entities(),
+                cache.singleFlight(), cache.singleFlightTimeout(), cache.earlyRefresh());
+    }
+
+    /**
+     * Applies {@code quarkus.morphium.cache."<fqcn>".ttl} to Morphium's built-in cache.
+     * {@code max-entries} is only enforced by the Caffeine backend.
+     */
+    private void applyEntityCacheTimes(Morphium m) {
+        ClassLoader cl = Thread.currentThread().getContextClassLoader();
+        config.cache().entities().forEach((className, entity) -> {
+            if (entity.maxEntries().isPresent()) {
+                log.warn("quarkus.morphium.cache.\"{}\".max-entries is only enforced with "
+                        + "quarkus.morphium.cache.backend=caffeine — use @Cache(maxEntries) instead", className);
+            }
+            if (entity.ttl().isEmpty()) {
+                return;
+            }
+            try {
+                m.getCache().setValidCacheTime(Class.forName(className, false, cl), (int) entity.ttl().getAsLong());
+            } catch (ClassNotFoundException e) {
+                log.warn("Ignoring cache override for unknown entity class '{}'", className);
+            }
+        });
+    }
+
     /**
      * Creates a Morphium instance with retry logic. In containerized CI environments
      * (e.g. Docker-in-Docker), the MongoDB replica set primary may not be immediately
@@ -282,48 +392,8 @@ public class MorphiumProducer {
         return false;
     }
 
-    /**
-     * Builds a typeId→FQCN map from the entity class names discovered at build time.
-     * Loads each class, reads its @Entity/@Embedded annotation, and extracts the typeId.
-     */
-    private Map<String, String> buildTypeIdMap(java.util.List<String> classNames) {
-        Map<String, String> typeIds = new HashMap<>();
-        ClassLoader cl = Thread.currentThread().getContextClassLoader();
-        for (String cn : classNames) {
-            try {
-                Class<?> cls = Class.forName(cn, false, cl);
-                Entity entity = cls.getAnnotation(Entity.class);
-                if (entity != null) {
-                    if (!".".equals(entity.typeId())) {
-                        typeIds.put(entity.typeId(), cn);
-                    }
-                    typeIds.put(cn, cn);
-                }
-                Embedded embedded = cls.getAnnotation(Embedded.class);
-                if (embedded != null) {
-                    if (!".".equals(embedded.typeId())) {
-                        typeIds.put(embedded.typeId(), cn);
-                    }
-                    typeIds.put(cn, cn);
-                }
-            } catch (ClassNotFoundException e) {
-                log.warn("Could not load entity class for type ID registration: {}", cn);
-            }
-        }
-        return typeIds;
-    }
-
     private void ensureIndices(Morphium m) {
-        for (String className : MorphiumRecorder.getMappedClassNames()) {
-            try {
-                Class<?> entityClass = Thread.currentThread().getContextClassLoader().loadClass(className);
-                m.ensureIndicesFor(entityClass);
-                log.debug("Ensured indexes for {}", className);
-            } catch (ClassNotFoundException e) {
-                log.warn("Could not load mapped class for index creation: {}", className);
-            } catch (Exception e) {
-                log.warn("Failed to ensure indexes for mapped class {}: {}", className, e.getMessage(), e);
-            }
-        }
+        new MorphiumIndexManager(m, config.indexCheckParallelism(), config.indexCheckFingerprint())
+                .ensureIndices(MorphiumRecorder.getIndexedClassNames(), MorphiumRecorder.getIndexFingerprint());
     }
 }
@@ -0,0 +1,252 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus;
+
+import de.caluga.morphium.Morphium;
+import de.caluga.morphium.ProfilingListener;
+import de.caluga.morphium.ReadAccessType;
+import de.caluga.morphium.WriteAccessType;
+import de.caluga.morphium.query.Query;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Dev-mode query profiler behind the Dev UI "Query Profiler" page.
+ *
+ * <p>Aggregates every Morphium read and write by query shape (operation, collection, masked
+ * filter and sort — see {@link MorphiumQueryShape}): count, total/max time, p50/p95 over the
+ * last {@value #SAMPLES} executions and documents written. The first execution of a shape
+ * records the repository method (or application frame) that issued it and, for finds, runs
+ * {@code explain} in the background to flag collection scans.
+ *
+ * <p>Only registered in dev mode; at most {@value #MAX_SHAPES} shapes are tracked.
+ */
+@ApplicationScoped
+public class MorphiumQueryProfiler {
+
+    private static final Logger log = LoggerFactory.getLogger(MorphiumQueryProfiler.class);
+    static final int SAMPLES = 256;
+    static final int MAX_SHAPES = 500;
+
+    @Inject
+    Morphium morphium;
+
+    private final Map<String, ShapeStats> shapes = new ConcurrentHashMap<>();
+    private ExecutorService explainExecutor;
+    private ProfilingListener listener;
+
+    void onStart(@Observes StartupEvent event) {
+        explainExecutor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "morphium-profiler-explain");
+            t.setDaemon(true);
+            return t;
+        });
+        listener = new ProfilingListener() {
+            @Override
+            public void readAccess(Query query, long time, ReadAccessType t) {
+                onRead(query, time, t);
+            }
+
+            @Override
+            public void writeAccess(Class type, Object o, long time, boolean isNew, WriteAccessType t) {
+                onWrite(type, o, time, t);
+            }
+        };
+        morphium.addProfilingListener(listener);
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        // The Morphium instance may outlive this bean (dev-mode connection reuse)
+        if (listener != null) {
+            morphium.removeProfilingListener(listener);
+            listener = null;
+        }
+        if (explainExecutor != null) {
+            explainExecutor.shutdownNow();
+            explainExecutor = null;
+        }
+    }
+
+    private void onRead(Query<?> query, long timeMs, ReadAccessType type) {
+        String operation = MorphiumOperations.read(type);
+        String collection = query.getCollectionName();
+        String shape = MorphiumQueryShape.of(query.toQueryObject());
+        String sort = MorphiumQueryShape.ofSpec(query.getSort());
+        if (!"{}".equals(sort)) {
+            shape += " sort " + sort;
+        }
+        ShapeStats stats = stats(operation, collection, shape);
+        if (stats == null) {
+            return;
+        }
+        if (stats.claimExplain() && "find".equals(operation)) {
+            explainAsync(query, stats);
+        }
+        stats.record(timeMs, 0);
+    }
+
+    void onWrite(Class<?> type, Object data, long timeMs, WriteAccessType accessType) {
+        String collection = type != null ? MorphiumOperations.collection(morphium, type) : "?";
+        ShapeStats stats = stats(MorphiumOperations.write(accessType), collection, "");
+        if (stats != null) {
+            stats.record(timeMs, MorphiumOperations.documents(data));
+        }
+    }
+
+    ShapeStats stats(String operation, String collection, String shape) {
+        String key = operation + '|' + collection + '|' + shape;
+        ShapeStats stats = shapes.get(key);
+        if (stats != null || shapes.size() >= MAX_SHAPES) {
+            return stats;
+        }
+        // New shape — the call site is resolved once, not per execution
+        return shapes.computeIfAbsent(key, k -> new ShapeStats(operation, collection, shape, MorphiumCallSite.resolve()));
+    }
+
+    private void explainAsync(Query<?> query, ShapeStats stats) {
+        Query<?> copy;
+        try {
+            // The caller may reuse its query object — explain a copy
+            copy = query.clone();
+        } catch (CloneNotSupportedException e) {
+            return;
+        }
+        try {
+            explainExecutor.execute(() -> {
+                try {
+                    Map<String, Object> explain = copy.explain();
+                    stats.plan = String.join(" <- ", MorphiumExplainPlan.stages(explain));
+                    stats.collectionScan = MorphiumExplainPlan.isCollectionScan(explain);
+                } catch (Exception e) {
+                    log.debug("explain for {} failed: {}", stats.collection, e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // shutting down
+        }
+    }
+
+    /** Shapes ordered by total time, descending, as rows for the Dev UI. */
+    public List<Map<String, Object>> getTopShapes(int limit) {
+        // Totals keep changing while recording continues — sort a snapshot taken once per shape
+        List<TotalSnapshot> all = new ArrayList<>(shapes.size());
+        for (ShapeStats stats : shapes.values()) {
+            all.add(new TotalSnapshot(stats, stats.totalMs()));
+        }
+        all.sort(Comparator.comparingLong(TotalSnapshot::totalMs).reversed());
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (TotalSnapshot snapshot : all.subList(0, Math.min(limit, all.size()))) {
+            rows.add(snapshot.stats().toRow());
+        }
+        return rows;
+    }
+
+    /** Discards all collected statistics. */
+    public void reset() {
+        shapes.clear();
+    }
+
+    private record TotalSnapshot(ShapeStats stats, long totalMs) {
+    }
+
+    static final class ShapeStats {
+
+        final String operation;
+        final String collection;
+        final String shape;
+        final String callSite;
+        private final long[] samples = new long[SAMPLES];
+        private long count;
+        private long totalMs;
+        private long maxMs;
+        private long documents;
+        private boolean explainClaimed;
+        volatile String plan;
+        volatile Boolean collectionScan;
+
+        ShapeStats(String operation, String collection, String shape, String callSite) {
+            this.operation = operation;
+            this.collection = collection;
+            this.shape = shape;
+            this.callSite = callSite;
+        }
+
+        synchronized void record(long timeMs, int docs) {
+            samples[(int) (count % SAMPLES)] = timeMs;
+            count++;
+            totalMs += timeMs;
+            maxMs = Math.max(maxMs, timeMs);
+            documents += docs;
+        }
+
+        /** Returns true exactly once — for the execution that should be explained. */
+        synchronized boolean claimExplain() {
+            if (explainClaimed) {
+                return false;
+            }
+            explainClaimed = true;
+            return true;
+        }
+
+        synchronized long totalMs() {
+            return totalMs;
+        }
+
+        synchronized Map<String, Object> toRow() {
+            long[] sorted = Arrays.copyOf(samples, (int) Math.min(count, SAMPLES));
+            Arrays.sort(sorted);
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("operation", operation);
+            row.put("collection", collection);
+            row.put("shape", shape);
+            row.put("callSite", callSite);
+            row.put("count", count);
+            row.put("totalMs", totalMs);
+            row.put("avgMs", count > 0 ? Math.round(totalMs * 10.0 / count) / 10.0 : 0.0);
+            row.put("p50Ms", percentile(sorted, 0.50));
+            row.put("p95Ms", percentile(sorted, 0.95));
+            row.put("maxMs", maxMs);
+            row.put("documents", documents);
+            row.put("plan", plan != null ? plan : "");
+            row.put("collscan", Boolean.TRUE.equals(collectionScan));
+            return row;
+        }
+
+        static long percentile(long[] sorted, double p) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+        }
+    }
+}
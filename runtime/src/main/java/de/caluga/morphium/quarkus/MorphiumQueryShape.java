@@ -0,0 +1,98 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Renders MongoDB filter, sort and projection documents as a compact JSON-like "shape" with
+ * all values masked, e.g. {@code {"status":?,"price":{"$gt":?}}}. Field names and operators are
+ * kept, so queries with the same structure produce the same shape — suitable for span
+ * attributes, log lines and grouping without leaking data.
+ */
+public final class MorphiumQueryShape {
+
+    private static final String MASK = "?";
+
+    private MorphiumQueryShape() {
+    }
+
+    /** Masks all values of a filter document; {@code null} or empty renders as {@code {}}. */
+    public static String of(Map<String, Object> document) {
+        StringBuilder b = new StringBuilder();
+        appendDocument(b, document);
+        return b.toString();
+    }
+
+    /**
+     * Renders a sort or projection document unmasked — its values are directions or flags,
+     * not data. Nested documents (projection operators such as {@code $elemMatch}) may hold
+     * filter values and are masked like {@link #of}.
+     */
+    public static String ofSpec(Map<String, Object> document) {
+        if (document == null || document.isEmpty()) {
+            return "{}";
+        }
+        StringBuilder b = new StringBuilder("{");
+        boolean first = true;
+        for (Map.Entry<String, Object> e : document.entrySet()) {
+            if (!first) b.append(',');
+            first = false;
+            b.append('"').append(e.getKey()).append("\":");
+            if (e.getValue() instanceof Map<?, ?>) {
+                appendValue(b, e.getValue());
+            } else {
+                b.append(e.getValue());
+            }
+        }
+        return b.append('}').toString();
+    }
+
+    private static void appendDocument(StringBuilder b, Map<String, Object> document) {
+        b.append('{');
+        if (document != null) {
+            boolean first = true;
+            for (Map.Entry<String, Object> e : document.entrySet()) {
+                if (!first) b.append(',');
+                first = false;
+                b.append('"').append(e.getKey()).append("\":");
+                appendValue(b, e.getValue());
+            }
+        }
+        b.append('}');
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void appendValue(StringBuilder b, Object value) {
+        if (value instanceof Map<?, ?> map) {
+            appendDocument(b, (Map<String, Object>) map);
+        } else if (value instanceof Collection<?> list && !list.isEmpty()
+                && list.stream().allMatch(v -> v instanceof Map)) {
+            // $and / $or / $nor: keep the structure of the sub-filters
+            b.append('[');
+            boolean first = true;
+            for (Object v : list) {
+                if (!first) b.append(',');
+                first = false;
+                appendDocument(b, (Map<String, Object>) v);
+            }
+            b.append(']');
+        } else {
+            b.append(MASK);
+        }
+    }
+}
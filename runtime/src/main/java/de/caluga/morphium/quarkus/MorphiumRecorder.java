@@ -25,15 +25,17 @@ import org.slf4j.LoggerFactory;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Quarkus {@link Recorder} for the Morphium extension.
  *
  * <p>Stores the list of {@code @Entity} and {@code @Embedded} class names
- * discovered at build time so that {@link MorphiumProducer} can clear caches
+ * discovered at build time, together with their mapping metadata and the
+ * precomputed typeId map, so that {@link MorphiumProducer} can clear caches
  * and pre-register them via {@code AnnotationAndReflectionHelper.registerTypeIds()}
  * when the {@code Morphium} instance is created. This skips the ClassGraph scan
- * at runtime and handles dev-mode hot-reload.
+ * and all annotation reflection at runtime and handles dev-mode hot-reload.
  *
  * <p>Also stores {@code @MorphiumChangeUnit} class names and triggers migration
  * execution at runtime when {@code quarkus.morphium.migration.migrate-at-start=true}.
@@ -45,11 +47,33 @@ public class MorphiumRecorder {
 
     private static volatile List<String> mappedClassNames = Collections.emptyList();
     private static volatile List<String> migrationClassNames = Collections.emptyList();
+    private static volatile List<MorphiumEntityMetadata> entityMetadata = Collections.emptyList();
+    private static volatile Map<String, String> typeIdMap = Collections.emptyMap();
+    private static volatile List<String> indexedClassNames = Collections.emptyList();
+    private static volatile String indexFingerprint;
 
     public void setMappedClassNames(List<String> classNames) {
         mappedClassNames = classNames == null ? Collections.emptyList() : List.copyOf(classNames);
     }
 
+    /**
+     * Called at STATIC_INIT with the mapping metadata and typeId map computed from Jandex.
+     * Both are recorded as bytecode, so no entity class is loaded to obtain them.
+     */
+    public void setEntityMetadata(List<MorphiumEntityMetadata> metadata, Map<String, String> typeIds) {
+        entityMetadata = metadata == null ? Collections.emptyList() : List.copyOf(metadata);
+        typeIdMap = typeIds == null ? Collections.emptyMap() : Map.copyOf(typeIds);
+    }
+
+    /**
+     * Stores the {@code @Entity} classes that declare at least one {@code @Index} together
+     * with a fingerprint of all index declarations, both computed from Jandex at build time.
+     */
+    public void setIndexedClassNames(List<String> classNames, String fingerprint) {
+        indexedClassNames = classNames == null ? Collections.emptyList() : List.copyOf(classNames);
+        indexFingerprint = fingerprint;
+    }
+
     public void setMigrationClassNames(List<String> classNames) {
         migrationClassNames = classNames == null ? Collections.emptyList() : List.copyOf(classNames);
         if (!migrationClassNames.isEmpty()) {
@@ -87,8 +111,10 @@ public class MorphiumRecorder {
                 }
 
                 log.info("Running {} database migration(s) at startup", migrationClassNames.size());
+                long start = System.nanoTime();
                 MorphiumMigrationRunner runner = new MorphiumMigrationRunner(morphium, config.migration());
                 runner.execute(migrationClassNames);
+                log.info("Migrations finished in {}ms", (System.nanoTime() - start) / 1_000_000);
             }
         }
     }
@@ -97,6 +123,26 @@ public class MorphiumRecorder {
         return mappedClassNames;
     }
 
+    /**
+     * Returns the build-time mapping metadata of all discovered {@code @Entity} and
+     * {@code @Embedded} classes.
+     */
+    public static List<MorphiumEntityMetadata> getEntityMetadata() {
+        return entityMetadata;
+    }
+
+    static Map<String, String> getTypeIdMap() {
+        return typeIdMap;
+    }
+
+    static List<String> getIndexedClassNames() {
+        return indexedClassNames;
+    }
+
+    static String getIndexFingerprint() {
+        return indexFingerprint;
+    }
+
     static List<String> getMigrationClassNames() {
         return migrationClassNames;
     }
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus;
+
+import jakarta.enterprise.context.RequestScoped;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Morphium operations of the current request, grouped by query shape.
+ *
+ * <p>Filled by {@link MorphiumNPlusOneDetector} while {@code quarkus.morphium.n-plus-one.threshold}
+ * is set; can be injected to inspect the operations a request has sent so far.
+ */
+@RequestScoped
+public class MorphiumRequestQueryStats {
+
+    // A request may hop threads (reactive routes, context propagation)
+    private final Map<String, AtomicInteger> counts = new ConcurrentHashMap<>();
+
+    /** Counts one execution of the shape and returns the count within this request. */
+    int increment(String shape) {
+        return counts.computeIfAbsent(shape, k -> new AtomicInteger()).incrementAndGet();
+    }
+
+    /** Executions per query shape in this request. */
+    public Map<String, Integer> getCounts() {
+        Map<String, Integer> result = new TreeMap<>();
+        counts.forEach((shape, count) -> result.put(shape, count.get()));
+        return result;
+    }
+
+    /** Total number of Morphium operations in this request. */
+    public int getTotal() {
+        int total = 0;
+        for (AtomicInteger count : counts.values()) {
+            total += count.get();
+        }
+        return total;
+    }
+}
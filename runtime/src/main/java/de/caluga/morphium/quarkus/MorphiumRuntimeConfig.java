@@ -19,9 +19,11 @@ import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
+import io.smallrye.config.WithName;
 
 import de.caluga.morphium.quarkus.migration.MorphiumMigrationConfig;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -72,6 +74,15 @@ public interface MorphiumRuntimeConfig {
     @WithDefault("primary")
     String readPreference();
 
+    /**
+     * Maximum replication lag tolerated for secondary reads. When set and
+     * {@link #readPreference()} is not {@code primary}, reads fall back to the primary while any
+     * secondary lags behind by more than this, and return to the configured read preference
+     * once all secondaries have caught up. Lag is measured every
+     * {@code quarkus.morphium.health.sample-interval}. Has no effect outside replica sets.
+     */
+    Optional<Duration> maxStaleness();
+
     /**
      * Index creation strategy. Controls when and if Morphium ensures that
      * {@code @Index} annotations are reflected as actual MongoDB indexes.
@@ -103,6 +114,25 @@ public interface MorphiumRuntimeConfig {
         CREATE_ON_WRITE_NEW_COL
     }
 
+    /**
+     * Number of entities whose indexes are listed and created concurrently when
+     * {@code index-check=create-on-startup}. Only entities that declare at least one
+     * {@code @Index} are checked. Values below 1 are treated as 1.
+     */
+    @WithDefault("4")
+    int indexCheckParallelism();
+
+    /**
+     * Whether to persist a fingerprint of all {@code @Index} declarations after a successful
+     * startup index check (collection {@code morphiumIndexFingerprint}). When the next start
+     * computes the same fingerprint, the index check is skipped entirely.
+     *
+     * <p>Leave disabled if indexes may be dropped manually between deployments — a dropped
+     * index is only recreated when the declarations change.
+     */
+    @WithDefault("false")
+    boolean indexCheckFingerprint();
+
     /** Maximum number of MongoDB connections in the pool. */
     @WithDefault("250")
     int maxConnections();
@@ -136,6 +166,15 @@ public interface MorphiumRuntimeConfig {
     @WithDefault("5")
     int connectRetries();
 
+    /**
+     * Whether to keep the Morphium connection (driver and connection pool) alive across
+     * dev-mode hot reloads. On reload only the ClassLoader-dependent mapper caches are
+     * rebuilt; the connection is re-created only when connection-relevant settings change.
+     * Has no effect outside dev mode.
+     */
+    @WithDefault("true")
+    boolean devReuseConnection();
+
     /** Nested cache configuration. */
     CacheConfig cache();
 
@@ -145,6 +184,22 @@ public interface MorphiumRuntimeConfig {
     /** Nested LocalDateTime serialization configuration. */
     LocalDateTimeConfig localDateTime();
 
+    /** Nested CRaC checkpoint/restore configuration. */
+    CracConfig crac();
+
+    /** Nested blocking-call detector configuration. */
+    BlockingDetectorConfig blockingDetector();
+
+    /** Nested N+1 query detector configuration. */
+    @WithName("n-plus-one")
+    NPlusOneConfig nPlusOne();
+
+    /** Nested health probe configuration. */
+    HealthConfig health();
+
+    /** Nested slow-query log configuration. */
+    SlowQueryConfig slowQuery();
+
     /** Nested database migration configuration. */
     MorphiumMigrationConfig migration();
 }
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus;
+
+import de.caluga.morphium.Morphium;
+import de.caluga.morphium.ProfilingListener;
+import de.caluga.morphium.ReadAccessType;
+import de.caluga.morphium.WriteAccessType;
+import de.caluga.morphium.query.Query;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Logs Morphium operations that exceed {@code quarkus.morphium.slow-query.threshold}.
+ *
+ * <p>Durations come from Morphium's {@link ProfilingListener}, which reports every read and
+ * write on the calling thread. Each entry names the repository method (or, outside
+ * repositories, the first application frame) that issued the operation, together with the
+ * filter shape (values masked, see {@link MorphiumQueryShape}), sort, projection and limit.
+ * The caller is only resolved ({@link MorphiumCallSite}) for operations that are actually logged.
+ *
+ * <p>Entries are sampled ({@code sample-rate}) and rate-limited to one per
+ * {@code log-interval}, like the warnings of {@link MorphiumBlockingCallDetector}; suppressed
+ * entries are counted and reported with the next one. With {@code explain=true} the winning
+ * plan of a logged read is fetched on a background thread and logged as a follow-up line.
+ */
+@ApplicationScoped
+public class MorphiumSlowQueryLog {
+
+    private static final Logger log = LoggerFactory.getLogger(MorphiumSlowQueryLog.class);
+
+    @Inject
+    Morphium morphium;
+
+    @Inject
+    MorphiumRuntimeConfig config;
+
+    private final AtomicLong lastLogNanos = new AtomicLong();
+    private final AtomicLong suppressed = new AtomicLong();
+    private final AtomicLong slowOperations = new AtomicLong();
+    private long thresholdMs;
+    private long logIntervalNanos;
+    private double sampleRate;
+    private ExecutorService explainExecutor;
+    private ProfilingListener listener;
+
+    void onStart(@Observes StartupEvent event) {
+        SlowQueryConfig cfg = config.slowQuery();
+        if (cfg.threshold().isEmpty()) {
+            return;
+        }
+        configure(cfg.threshold().get().toMillis(), cfg.logInterval().toNanos(), cfg.sampleRate());
+        if (cfg.explain()) {
+            explainExecutor = Executors.newSingleThreadExecutor(r -> {
+                Thread t = new Thread(r, "morphium-slow-query-explain");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        listener = new ProfilingListener() {
+            @Override
+            public void readAccess(Query query, long time, ReadAccessType t) {
+                if (time >= thresholdMs) {
+                    onSlowRead(query, time, t);
+                }
+            }
+
+            @Override
+            public void writeAccess(Class type, Object o, long time, boolean isNew, WriteAccessType t) {
+                if (time >= thresholdMs) {
+                    onSlowWrite(type, o, time, t);
+                }
+            }
+        };
+        morphium.addProfilingListener(listener);
+        log.info("Slow-query log enabled: threshold {} ms, sample rate {}, explain {}",
+                thresholdMs, sampleRate, cfg.explain());
+    }
+
+    void configure(long thresholdMs, long logIntervalNanos, double sampleRate) {
+        this.thresholdMs = thresholdMs;
+        this.logIntervalNanos = logIntervalNanos;
+        this.sampleRate = sampleRate;
+        lastLogNanos.set(System.nanoTime() - logIntervalNanos);
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        // The Morphium instance may outlive this bean (dev-mode connection reuse)
+        if (listener != null) {
+            morphium.removeProfilingListener(listener);
+            listener = null;
+        }
+        if (explainExecutor != null) {
+            explainExecutor.shutdownNow();
+            explainExecutor = null;
+        }
+    }
+
+    private void onSlowRead(Query<?> query, long timeMs, ReadAccessType type) {
+        if (!admit()) {
+            return;
+        }
+        String operation = MorphiumOperations.read(type);
+        String collection = query.getCollectionName();
+        log.warn("[Morphium] Slow {} on {} took {} ms (threshold {} ms) from {}: filter={} sort={} projection={} limit={}{}",
+                operation, collection, timeMs, thresholdMs, MorphiumCallSite.resolve(),
+                MorphiumQueryShape.of(query.toQueryObject()),
+                MorphiumQueryShape.ofSpec(query.getSort()),
+                MorphiumQueryShape.ofSpec(query.getFieldListForQuery()),
+                query.getLimit() > 0 ? query.getLimit() : "none",
+                suppressedSuffix());
+        if (explainExecutor != null) {
+            explainAsync(query, collection);
+        }
+    }
+
+    private void onSlowWrite(Class<?> type, Object data, long timeMs, WriteAccessType accessType) {
+        if (!admit()) {
+            return;
+        }
+        log.warn("[Morphium] Slow {} of {} ({} document(s)) took {} ms (threshold {} ms) from {}{}",
+                MorphiumOperations.write(accessType), type != null ? type.getSimpleName() : "?",
+                MorphiumOperations.documents(data),
+                timeMs, thresholdMs, MorphiumCallSite.resolve(), suppressedSuffix());
+    }
+
+    /** Counts the slow operation and applies sampling and rate limiting. */
+    boolean admit() {
+        slowOperations.incrementAndGet();
+        if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return false;
+        }
+        if (!shouldLogNow()) {
+            suppressed.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    private boolean shouldLogNow() {
+        long now = System.nanoTime();
+        long last = lastLogNanos.get();
+        return now - last >= logIntervalNanos && lastLogNanos.compareAndSet(last, now);
+    }
+
+    String suppressedSuffix() {
+        long skipped = suppressed.getAndSet(0);
+        return skipped > 0 ? " (" + skipped + " more slow operation(s) not logged)" : "";
+    }
+
+    private void explainAsync(Query<?> query, String collection) {
+        Query<?> copy;
+        try {
+            // The caller may reuse its query object — explain a copy
+            copy = query.clone();
+        } catch (CloneNotSupportedException e) {
+            return;
+        }
+        try {
+            explainExecutor.execute(() -> {
+                try {
+                    log.warn("[Morphium] Slow query plan on {}: {}", collection, MorphiumExplainPlan.summary(copy.explain()));
+                } catch (Exception e) {
+                    log.debug("explain for slow query on {} failed: {}", collection, e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // shutting down
+        }
+    }
+
+    /** Number of operations that exceeded the threshold since startup (logged or not). */
+    public long getSlowOperationCount() {
+        return slowOperations.get();
+    }
+}
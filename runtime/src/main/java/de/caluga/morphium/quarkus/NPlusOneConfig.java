@@ -0,0 +1,41 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus;
+
+import io.smallrye.config.WithDefault;
+
+import java.util.OptionalInt;
+
+/**
+ * N+1 query detector configuration group, nested under {@link MorphiumRuntimeConfig#nPlusOne()}.
+ */
+public interface NPlusOneConfig {
+
+    /**
+     * Maximum number of times the same query shape may run within one request (CDI request
+     * context). One more execution is reported with its call site. The detector is disabled
+     * when not set.
+     */
+    OptionalInt threshold();
+
+    /**
+     * Whether exceeding the threshold fails the offending call with an
+     * {@link IllegalStateException} instead of logging a warning. Intended for tests, see
+     * {@code StrictMorphiumTestProfile} in {@code quarkus-morphium-testing}.
+     */
+    @WithDefault("false")
+    boolean fail();
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus;
+
+import io.smallrye.config.WithDefault;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Slow-query log configuration group, nested under {@link MorphiumRuntimeConfig#slowQuery()}.
+ */
+public interface SlowQueryConfig {
+
+    /**
+     * Operations taking at least this long are logged, e.g. {@code 200ms}. The slow-query log
+     * is disabled when not set.
+     */
+    Optional<Duration> threshold();
+
+    /**
+     * Fraction of slow operations that are logged (between 0 and 1). Lower it when many
+     * operations are expected to exceed the threshold.
+     */
+    @WithDefault("1.0")
+    double sampleRate();
+
+    /**
+     * Minimum interval between two slow-query log entries. Slow operations within the interval
+     * are counted and reported with the next entry.
+     */
+    @WithDefault("1s")
+    Duration logInterval();
+
+    /**
+     * Whether to run {@code explain} for logged slow reads and log a summary of the winning
+     * plan (stage, index, documents examined). Runs asynchronously, never on the caller's thread.
+     */
+    @WithDefault("false")
+    boolean explain();
+}
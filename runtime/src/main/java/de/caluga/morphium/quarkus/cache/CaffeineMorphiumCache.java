@@ -0,0 +1,535 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import de.caluga.morphium.AnnotationAndReflectionHelper;
+import de.caluga.morphium.cache.CacheEntry;
+import de.caluga.morphium.cache.CacheListener;
+import de.caluga.morphium.cache.MorphiumCache;
+import de.caluga.morphium.quarkus.EntityCacheConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link MorphiumCache} backed by one size-bounded Caffeine cache per entity type.
+ *
+ * <p>Caffeine's W-TinyLFU policy evicts rarely used query results once
+ * {@code max-entries} is reached, instead of letting the cache grow until the TTL
+ * expires. TTL and size are resolved per entity type in this order:
+ * <ol>
+ *   <li>{@code quarkus.morphium.cache."<fqcn>".ttl / max-entries}</li>
+ *   <li>{@code setValidCacheTime()} (called by Morphium itself)</li>
+ *   <li>{@code @Cache(timeout, maxEntries)} on the entity</li>
+ *   <li>{@code quarkus.morphium.cache.global-valid-time}, unbounded size</li>
+ * </ol>
+ *
+ * <p><b>Single-flight loading:</b> when several threads miss the same query key at once, only
+ * the first one runs the query; the others wait (up to {@code single-flight-timeout}) for its
+ * {@link #addToCache} and are then served from the cache. A claim to load expires after
+ * {@code single-flight-timeout}: a loader whose query fails never calls {@code addToCache}, so
+ * once its claim has expired the first waiter takes over the load and the others wait for it.
+ *
+ * <p><b>Early refresh:</b> with {@code early-refresh} set to a fraction of the TTL, the first
+ * reader of an entry older than that fraction gets a miss and reloads it, while all other
+ * readers keep being served the cached result until the new one is stored. Hot entries are thus
+ * replaced before they expire instead of expiring for everybody at once.
+ *
+ * <p>Expiry and eviction are handled by Caffeine, so there is no housekeeping thread.
+ * Registered {@link CacheListener}s are notified as with Morphium's own cache: they may replace
+ * or veto an entry before it is stored, and veto clearing the cache or removing an entry (this is
+ * what the cache synchronizer relies on). Entries expired or evicted by Caffeine are not reported.
+ */
+public final class CaffeineMorphiumCache implements MorphiumCache {
+
+    private static final Logger log = LoggerFactory.getLogger(CaffeineMorphiumCache.class);
+
+    private final Map<String, EntityCacheConfig> entityConfigs;
+    private final boolean singleFlight;
+    private final long singleFlightTimeoutNanos;
+    private final double earlyRefresh;
+    private final Map<Class<?>, TypeCache> caches = new ConcurrentHashMap<>();
+    private final Map<String, InFlight> inFlight = new ConcurrentHashMap<>();
+    // The result a positive isCached() saw, so that the following getFromCache() cannot miss;
+    // replaced on reset, since pins left on other threads cannot be removed from here
+    private volatile ThreadLocal<Pinned> pinned = new ThreadLocal<>();
+    private final Map<Class<?>, Integer> validCacheTimes = new ConcurrentHashMap<>();
+    private final List<CacheListener> listeners = new CopyOnWriteArrayList<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private volatile AnnotationAndReflectionHelper anHelper = new AnnotationAndReflectionHelper(true);
+    private volatile long globalTtlMs;
+
+    /**
+     * @param globalTtlMs             TTL for entity types without an override or {@code @Cache(timeout)}
+     * @param entityConfigs           per-entity overrides keyed by class name
+     * @param singleFlight            whether concurrent misses for the same key share one load
+     * @param singleFlightTimeoutMs   how long a waiter waits for the in-flight load
+     * @param earlyRefresh            fraction of the TTL after which an entry is reloaded early; {@code 0} disables
+     */
+    public CaffeineMorphiumCache(long globalTtlMs, Map<String, EntityCacheConfig> entityConfigs,
+                                 boolean singleFlight, long singleFlightTimeoutMs, double earlyRefresh) {
+        this.globalTtlMs = globalTtlMs;
+        this.entityConfigs = Map.copyOf(entityConfigs);
+        this.singleFlight = singleFlight;
+        this.singleFlightTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(singleFlightTimeoutMs);
+        this.earlyRefresh = earlyRefresh > 0 && earlyRefresh < 1 ? earlyRefresh : 0;
+    }
+
+    /** Query results and id lookups of one entity type. */
+    private record TypeCache(Cache<String, CachedResult> results, Cache<Object, Object> byId, long ttlNanos) {
+    }
+
+    /** A cached query result and the time it was stored. */
+    private record CachedResult(List<Object> result, long storedAtNanos) {
+    }
+
+    /** The cached result returned by the last positive {@link #isCached} of a thread. */
+    private record Pinned(Class<?> type, String key, CachedResult cached) {
+    }
+
+    /**
+     * A claim to load a query result; waiters block on {@link #done}. The claim expires at
+     * {@link #deadlineNanos} — a loader that failed is replaced by the next thread after that.
+     */
+    private static final class InFlight {
+        final Thread owner = Thread.currentThread();
+        final long deadlineNanos;
+        final CountDownLatch done = new CountDownLatch(1);
+
+        InFlight(long deadlineNanos) {
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        boolean isExpired() {
+            return System.nanoTime() - deadlineNanos >= 0;
+        }
+    }
+
+    private TypeCache typeCache(Class<?> type) {
+        return caches.computeIfAbsent(type, this::createTypeCache);
+    }
+
+    private TypeCache createTypeCache(Class<?> type) {
+        EntityCacheConfig override = entityConfigs.get(type.getName());
+        de.caluga.morphium.annotations.caching.Cache annotation =
+                type.getAnnotation(de.caluga.morphium.annotations.caching.Cache.class);
+
+        long ttl = globalTtlMs;
+        if (override != null && override.ttl().isPresent()) {
+            ttl = override.ttl().getAsLong();
+        } else if (validCacheTimes.containsKey(type)) {
+            ttl = validCacheTimes.get(type);
+        } else if (annotation != null && annotation.timeout() > 0) {
+            ttl = annotation.timeout();
+        }
+
+        long maxEntries = -1;
+        if (override != null && override.maxEntries().isPresent()) {
+            maxEntries = override.maxEntries().getAsInt();
+        } else if (annotation != null && annotation.maxEntries() > 0) {
+            maxEntries = annotation.maxEntries();
+        }
+
+        log.debug("Caffeine cache for {}: ttl={}ms, maxEntries={}", type.getName(), ttl,
+                maxEntries > 0 ? maxEntries : "unbounded");
+        Caffeine<Object, Object> results = Caffeine.newBuilder().expireAfterWrite(Duration.ofMillis(ttl))
+                .evictionListener((key, value, cause) -> evictions.increment());
+        Caffeine<Object, Object> byId = Caffeine.newBuilder().expireAfterWrite(Duration.ofMillis(ttl));
+        if (maxEntries > 0) {
+            results.maximumSize(maxEntries);
+            byId.maximumSize(maxEntries);
+        }
+        return new TypeCache(results.build(), byId.build(), TimeUnit.MILLISECONDS.toNanos(ttl));
+    }
+
+    @Override
+    public <T> void addToCache(String k, Class<? extends T> type, List<T> ret) {
+        if (k == null || ret == null) {
+            return;
+        }
+        try {
+            TypeCache cache = typeCache(type);
+            List<Object> result = notifyAdd(k, new ArrayList<>(ret), cache.results().getIfPresent(k) != null);
+            if (result == null) {
+                return;
+            }
+            cache.results().put(k, new CachedResult(result, System.nanoTime()));
+            for (Object o : result) {
+                Object id = o != null ? anHelper.getId(o) : null;
+                if (id != null) {
+                    cache.byId().put(id, o);
+                }
+            }
+        } finally {
+            InFlight load = inFlight.remove(flightKey(type, k));
+            if (load != null) {
+                load.done.countDown();
+            }
+        }
+    }
+
+    /** Lets the listeners replace the result; {@code null} if one of them vetoed caching it. */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private List<Object> notifyAdd(String k, List<Object> result, boolean updated) {
+        if (listeners.isEmpty()) {
+            return result;
+        }
+        CacheEntry entry = new CacheEntry(result, k);
+        for (CacheListener cl : listeners) {
+            entry = cl.wouldAddToCache(k, entry, updated);
+            if (entry == null) {
+                return null;
+            }
+        }
+        return entry.getResult() == null ? null : new ArrayList<>((List<Object>) entry.getResult());
+    }
+
+    /** {@code false} if one of the listeners vetoed clearing the cache of {@code type}. */
+    private boolean mayClear(Class<?> type) {
+        for (CacheListener cl : listeners) {
+            if (!cl.wouldClearCache(type)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a copy of the cached result list, so a caller that modifies its result does not
+     * change what other readers get. The entities in it are shared, as with Morphium's own cache.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> List<T> getFromCache(Class<? extends T> type, String k) {
+        CachedResult cached;
+        Pinned pin = pinned.get();
+        if (pin != null && pin.type() == type && pin.key().equals(k)) {
+            pinned.remove();
+            cached = pin.cached();
+        } else {
+            cached = lookup(type, k);
+        }
+        return cached == null ? null : new ArrayList<>((List<T>) cached.result());
+    }
+
+    /**
+     * Morphium checks this before running a cached query; returning {@code false} makes the
+     * caller run the query and store the result via {@link #addToCache}. This is where
+     * single-flight and early refresh decide who loads.
+     */
+    @Override
+    public boolean isCached(Class<?> type, String k) {
+        CachedResult cached = checkCached(type, k);
+        if (cached != null) {
+            // Caffeine may evict the entry before Morphium calls getFromCache()
+            pinned.set(new Pinned(type, k, cached));
+            hits.increment();
+            return true;
+        }
+        pinned.remove();
+        misses.increment();
+        return false;
+    }
+
+    /** Returns the result to serve, or {@code null} if the caller has to load it. */
+    private CachedResult checkCached(Class<?> type, String k) {
+        CachedResult cached = lookup(type, k);
+        if (cached != null) {
+            if (earlyRefresh > 0 && isDueForRefresh(type, cached) && claim(flightKey(type, k))) {
+                // The first reader refreshes, everybody else keeps using the cached result
+                return null;
+            }
+            return cached;
+        }
+        if (!singleFlight) {
+            return null;
+        }
+        return awaitInFlightLoad(type, k);
+    }
+
+    private CachedResult lookup(Class<?> type, String k) {
+        TypeCache cache = caches.get(type);
+        return cache == null || k == null ? null : cache.results().getIfPresent(k);
+    }
+
+    private boolean isDueForRefresh(Class<?> type, CachedResult cached) {
+        TypeCache cache = caches.get(type);
+        return cache != null && System.nanoTime() - cached.storedAtNanos() >= cache.ttlNanos() * earlyRefresh;
+    }
+
+    /**
+     * Waits for another thread's load of the same key. Returns the result once it is cached, or
+     * {@code null} if the caller has to load it (it is then the loader, or the wait timed out).
+     */
+    private CachedResult awaitInFlightLoad(Class<?> type, String k) {
+        String key = flightKey(type, k);
+        long deadline = System.nanoTime() + singleFlightTimeoutNanos;
+        try {
+            while (!claim(key)) {
+                InFlight load = inFlight.get(key);
+                if (load != null && !await(load, deadline)) {
+                    log.debug("Single-flight load of {} did not finish in time — loading in caller", key);
+                    return null;
+                }
+                CachedResult cached = lookup(type, k);
+                if (cached != null) {
+                    return cached;
+                }
+                // The load failed or its result is already evicted — one of the waiters loads again
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+
+    /**
+     * Waits until the load is done or its claim has expired; {@code false} if the caller's own
+     * wait timed out first.
+     */
+    private static boolean await(InFlight load, long deadline) throws InterruptedException {
+        long until = load.deadlineNanos - deadline < 0 ? load.deadlineNanos : deadline;
+        load.done.await(Math.max(0, until - System.nanoTime()), TimeUnit.NANOSECONDS);
+        return load.done.getCount() == 0 || System.nanoTime() - deadline < 0;
+    }
+
+    /**
+     * Registers the current thread as loader of {@code key}; {@code false} if another thread holds
+     * an unexpired claim. The claim object is only created when the key is free.
+     */
+    private boolean claim(String key) {
+        InFlight existing = inFlight.get(key);
+        if (existing == null) {
+            existing = inFlight.computeIfAbsent(key, k -> newClaim());
+        }
+        return existing.owner == Thread.currentThread() || claimIfExpired(key, existing);
+    }
+
+    /** Takes over a load whose claim has expired; its waiters re-check the cache. */
+    private boolean claimIfExpired(String key, InFlight load) {
+        if (!load.isExpired()) {
+            return false;
+        }
+        if (inFlight.replace(key, load, newClaim())) {
+            log.debug("Single-flight claim of {} expired — taking over the load", key);
+            load.done.countDown();
+            return true;
+        }
+        return false;
+    }
+
+    private InFlight newClaim() {
+        return new InFlight(System.nanoTime() + singleFlightTimeoutNanos);
+    }
+
+    private static String flightKey(Class<?> type, String k) {
+        return type.getName() + "#" + k;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getFromIDCache(Class<? extends T> type, Object id) {
+        TypeCache cache = caches.get(type);
+        return cache == null ? null : (T) cache.byId().getIfPresent(id);
+    }
+
+    @Override
+    public String getCacheKey(Class type, Map<String, Object> qo, Map<String, Object> sort,
+                              Map<String, Object> projection, String collection, int skip, int limit) {
+        StringBuilder b = new StringBuilder(type.getName());
+        b.append('|').append(qo);
+        b.append("|c:").append(collection);
+        b.append("|l:").append(limit);
+        b.append("|s:").append(skip);
+        if (sort != null) {
+            b.append("|sort:").append(sort);
+        }
+        if (projection != null) {
+            b.append("|p:").append(projection);
+        }
+        return b.toString();
+    }
+
+    @Override
+    public void clearCachefor(Class<?> cls) {
+        TypeCache cache = caches.get(cls);
+        if (cache != null && mayClear(cls)) {
+            cache.results().invalidateAll();
+            cache.byId().invalidateAll();
+        }
+    }
+
+    @Override
+    public void clearCacheIfNecessary(Class cls) {
+        de.caluga.morphium.annotations.caching.Cache annotation =
+                (de.caluga.morphium.annotations.caching.Cache) cls.getAnnotation(
+                        de.caluga.morphium.annotations.caching.Cache.class);
+        if (annotation != null && annotation.clearOnWrite()) {
+            clearCachefor(cls);
+        }
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void removeEntryFromCache(Class cls, Object id) {
+        TypeCache cache = caches.get(cls);
+        if (cache != null) {
+            CacheEntry entry = new CacheEntry(cache.byId().getIfPresent(id), id);
+            for (CacheListener cl : listeners) {
+                if (!cl.wouldRemoveEntryFromCache(id, entry, false)) {
+                    return;
+                }
+            }
+            cache.byId().invalidate(id);
+            // A query result may contain the entity — drop the results of this type
+            cache.results().invalidateAll();
+        }
+    }
+
+    /**
+     * Drops everything that refers to an entity class, including {@link #setValidCacheTime}
+     * overrides — after a dev-mode reload the classes belong to the previous ClassLoader.
+     */
+    @Override
+    public void resetCache() {
+        if (!mayClear(null)) {
+            return;
+        }
+        caches.clear();
+        validCacheTimes.clear();
+        pinned = new ThreadLocal<>();
+        releaseInFlight();
+    }
+
+    private void releaseInFlight() {
+        inFlight.values().forEach(load -> load.done.countDown());
+        inFlight.clear();
+    }
+
+    @Override
+    public Map<Class<?>, Map<String, CacheEntry>> getCache() {
+        Map<Class<?>, Map<String, CacheEntry>> snapshot = new HashMap<>();
+        caches.forEach((type, cache) -> {
+            Map<String, CacheEntry> entries = new LinkedHashMap<>();
+            cache.results().asMap().forEach((k, v) -> entries.put(k, new CacheEntry<>(v.result(), k)));
+            snapshot.put(type, entries);
+        });
+        return snapshot;
+    }
+
+    @Override
+    public Set<Class<?>> getCachedTypes() {
+        return Set.copyOf(caches.keySet());
+    }
+
+    @Override
+    public Map<String, Integer> getSizes() {
+        Map<String, Integer> sizes = new HashMap<>();
+        caches.forEach((type, cache) -> {
+            sizes.put("resultCache|" + type.getName(), (int) cache.results().estimatedSize());
+            sizes.put("idCache|" + type.getName(), (int) cache.byId().estimatedSize());
+        });
+        return sizes;
+    }
+
+    /** Returns the number of cached query results for the given type (approximate). */
+    public long estimatedSize(Class<?> type) {
+        TypeCache cache = caches.get(type);
+        return cache == null ? 0 : cache.results().estimatedSize();
+    }
+
+    /** Number of cache lookups answered from the cache (including waits for an in-flight load). */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /** Number of cache lookups that made the caller query MongoDB. */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /** Number of query results evicted because of size or TTL. */
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    @Override
+    public void addCacheListener(CacheListener cl) {
+        listeners.add(cl);
+    }
+
+    @Override
+    public void removeCacheListener(CacheListener cl) {
+        listeners.remove(cl);
+    }
+
+    @Override
+    public boolean isListenerRegistered(CacheListener cl) {
+        return listeners.contains(cl);
+    }
+
+    @Override
+    public void setAnnotationAndReflectionHelper(AnnotationAndReflectionHelper hlp) {
+        this.anHelper = hlp;
+    }
+
+    @Override
+    public void setGlobalCacheTimeout(int tm) {
+        this.globalTtlMs = tm;
+        caches.clear();
+    }
+
+    @Override
+    public void setHouskeepingIntervalPause(int p) {
+        // Expiry is handled by Caffeine — no housekeeping thread
+    }
+
+    @Override
+    public void setValidCacheTime(Class type, int time) {
+        validCacheTimes.put(type, time);
+        caches.remove(type);
+    }
+
+    @Override
+    public void setDefaultCacheTime(Class type) {
+        validCacheTimes.remove(type);
+        caches.remove(type);
+    }
+
+    @Override
+    public void close() {
+        caches.clear();
+        validCacheTimes.clear();
+        releaseInFlight();
+        listeners.clear();
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.cache;
+
+import de.caluga.morphium.Morphium;
+import de.caluga.morphium.annotations.caching.Cache;
+import de.caluga.morphium.changestream.ChangeStreamEvent;
+import de.caluga.morphium.changestream.ChangeStreamMonitor;
+import de.caluga.morphium.quarkus.CacheConfig;
+import de.caluga.morphium.quarkus.MorphiumCheckpointEvent;
+import de.caluga.morphium.quarkus.MorphiumEntityMetadata;
+import de.caluga.morphium.quarkus.MorphiumRecorder;
+import de.caluga.morphium.quarkus.MorphiumRuntimeConfig;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cluster-wide invalidation of Morphium's read cache
+ * ({@code quarkus.morphium.cache.invalidation=change-stream}).
+ *
+ * <p>Watches a change stream over the collections of the {@code @Cache} entities and evicts the
+ * cache of an entity whenever its collection is modified — regardless of which instance wrote.
+ * This keeps all pods consistent within the change-stream latency, so cached entities can use
+ * long TTLs. The stream is filtered on the server ({@code $match} on {@code ns.coll}), so writes
+ * to other collections are not sent to every pod.
+ *
+ * <p>Eviction is per entity type: a change evicts all cached results of every {@code @Cache}
+ * entity mapped to that collection. Works with both cache backends.
+ */
+@ApplicationScoped
+public class MorphiumCacheInvalidator {
+
+    private static final Logger log = LoggerFactory.getLogger(MorphiumCacheInvalidator.class);
+
+    @Inject
+    Morphium morphium;
+
+    @Inject
+    MorphiumRuntimeConfig config;
+
+    private final AtomicLong evictions = new AtomicLong();
+    private volatile Map<String, Set<Class<?>>> cachedCollections = Map.of();
+    private ChangeStreamMonitor monitor;
+
+    void onStart(@Observes StartupEvent event) {
+        if (config.cache().invalidation() != CacheConfig.CacheInvalidation.CHANGE_STREAM) {
+            return;
+        }
+        Map<String, Set<Class<?>>> collections = new HashMap<>();
+        ClassLoader cl = Thread.currentThread().getContextClassLoader();
+        for (MorphiumEntityMetadata md : MorphiumRecorder.getEntityMetadata()) {
+            if (md.getCollectionName() == null) {
+                continue;
+            }
+            try {
+                Class<?> type = Class.forName(md.getClassName(), false, cl);
+                if (isCached(type)) {
+                    collections.computeIfAbsent(md.getCollectionName(), c -> new LinkedHashSet<>()).add(type);
+                }
+            } catch (ClassNotFoundException e) {
+                log.warn("Cache invalidation: cannot load entity {}", md.getClassName());
+            }
+        }
+        if (collections.isEmpty()) {
+            log.debug("Cache invalidation enabled but no @Cache entities found — not watching");
+            return;
+        }
+        Map<String, Set<Class<?>>> copy = new HashMap<>();
+        collections.forEach((collection, types) -> copy.put(collection, Set.copyOf(types)));
+        cachedCollections = Map.copyOf(copy);
+
+        startMonitor();
+        log.info("Cache invalidation: watching change stream for {} cached collection(s) {}",
+                collections.size(), collections.keySet());
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        stopMonitor();
+    }
+
+    void onCheckpoint(@Observes MorphiumCheckpointEvent event) {
+        if (cachedCollections.isEmpty()) {
+            return;
+        }
+        if (event.getPhase() == MorphiumCheckpointEvent.Phase.BEFORE_CHECKPOINT) {
+            stopMonitor();
+        } else {
+            // Writes between checkpoint and restore were not observed
+            cachedCollections.values().forEach(types -> types.forEach(this::evict));
+            startMonitor();
+        }
+    }
+
+    /** {@code @Cache} may be declared on a mapped superclass. */
+    private static boolean isCached(Class<?> type) {
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            if (c.getAnnotation(Cache.class) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private synchronized void startMonitor() {
+        if (monitor != null) {
+            return;
+        }
+        List<Map<String, Object>> pipeline = List.of(Map.of("$match",
+                Map.of("ns.coll", Map.of("$in", new ArrayList<>(cachedCollections.keySet())))));
+        monitor = new ChangeStreamMonitor(morphium, null, false, pipeline);
+        monitor.addListener(this::onChange);
+        monitor.start();
+    }
+
+    private synchronized void stopMonitor() {
+        if (monitor != null) {
+            monitor.terminate();
+            monitor = null;
+        }
+    }
+
+    private boolean onChange(ChangeStreamEvent evt) {
+        Set<Class<?>> types = cachedCollections.get(evt.getCollectionName());
+        if (types != null) {
+            for (Class<?> type : types) {
+                evict(type);
+                log.trace("Cache invalidation: {} on {} — evicted {}", evt.getOperationType(),
+                        evt.getCollectionName(), type.getSimpleName());
+            }
+        }
+        // Keep watching
+        return true;
+    }
+
+    private void evict(Class<?> type) {
+        morphium.getCache().clearCachefor(type);
+        evictions.incrementAndGet();
+    }
+
+    /** Number of entity-type evictions triggered by change-stream events (or a CRaC restore) since startup. */
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.cache;
+
+import de.caluga.morphium.Morphium;
+import de.caluga.morphium.quarkus.CacheConfig;
+import de.caluga.morphium.quarkus.MorphiumRuntimeConfig;
+import io.quarkus.arc.Arc;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Fills Morphium's read cache at startup so the first minutes after a deploy are not served
+ * by MongoDB at full volume.
+ *
+ * <p>Warm-up tasks come from the per-entity flag
+ * {@code quarkus.morphium.cache."<fqcn>".warm-up=true} (loads all documents of the entity) and
+ * from {@code quarkus.morphium.cache.warm-up-queries} (repository method calls). They are
+ * resolved synchronously on startup — a misconfigured query fails the start — and then run in
+ * the background on at most {@code warm-up-parallelism} threads. {@link #isDone()} gates the
+ * readiness check.
+ */
+@ApplicationScoped
+public class MorphiumCacheWarmer {
+
+    private static final Logger log = LoggerFactory.getLogger(MorphiumCacheWarmer.class);
+
+    @Inject
+    Morphium morphium;
+
+    @Inject
+    MorphiumRuntimeConfig config;
+
+    private final AtomicInteger failures = new AtomicInteger();
+    private volatile boolean done = true;
+    private volatile ExecutorService pool;
+
+    void onStart(@Observes StartupEvent event) {
+        CacheConfig cache = config.cache();
+        List<WarmUpTask> tasks = new ArrayList<>();
+        ClassLoader cl = Thread.currentThread().getContextClassLoader();
+        cache.entities().forEach((className, entity) -> {
+            if (!entity.warmUp()) {
+                return;
+            }
+            try {
+                Class<?> type = Class.forName(className, false, cl);
+                tasks.add(new WarmUpTask(type.getSimpleName() + " (all)",
+                        () -> morphium.createQueryFor(type).asList()));
+            } catch (ClassNotFoundException e) {
+                log.warn("Ignoring cache warm-up for unknown entity class '{}'", className);
+            }
+        });
+        for (String spec : cache.warmUpQueries().orElse(List.of())) {
+            tasks.add(repositoryQuery(spec, cl));
+        }
+        if (tasks.isEmpty()) {
+            return;
+        }
+        if (!cache.readCacheEnabled()) {
+            log.warn("Cache warm-up configured but quarkus.morphium.cache.read-cache-enabled=false — skipping");
+            return;
+        }
+
+        done = false;
+        int threads = Math.min(Math.max(1, cache.warmUpParallelism()), tasks.size());
+        pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "morphium-cache-warm-up");
+            t.setDaemon(true);
+            return t;
+        });
+        Thread coordinator = new Thread(() -> run(tasks, cache.warmUpTimeout()), "morphium-cache-warm-up-coordinator");
+        coordinator.setDaemon(true);
+        coordinator.start();
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        ExecutorService p = pool;
+        if (p != null) {
+            p.shutdownNow();
+        }
+    }
+
+    private void run(List<WarmUpTask> tasks, long timeoutMs) {
+        long start = System.nanoTime();
+        List<Callable<Void>> calls = new ArrayList<>(tasks.size());
+        for (WarmUpTask task : tasks) {
+            calls.add(() -> {
+                try {
+                    task.query().call();
+                } catch (Exception e) {
+                    failures.incrementAndGet();
+                    log.warn("Cache warm-up query {} failed: {}", task.name(), e.getMessage());
+                }
+                return null;
+            });
+        }
+        try {
+            long completed = pool.invokeAll(calls, timeoutMs, TimeUnit.MILLISECONDS).stream()
+                    .filter(f -> !f.isCancelled()).count();
+            if (completed < tasks.size()) {
+                log.warn("Cache warm-up timed out after {} ms: {} of {} queries finished",
+                        timeoutMs, completed, tasks.size());
+            } else {
+                log.info("Cache warm-up: {} queries in {} ms ({} failed)", tasks.size(),
+                        (System.nanoTime() - start) / 1_000_000, failures.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RejectedExecutionException e) {
+            // Shut down before the warm-up started
+        } finally {
+            pool.shutdownNow();
+            done = true;
+        }
+    }
+
+    /** Parses {@code <repository fqcn>#<method>(<arg>,...)} into a task invoking the repository bean. */
+    private WarmUpTask repositoryQuery(String spec, ClassLoader cl) {
+        int hash = spec.indexOf('#');
+        int open = spec.indexOf('(', hash);
+        if (hash < 0 || open < 0 || !spec.endsWith(")")) {
+            throw new IllegalArgumentException("Invalid quarkus.morphium.cache.warm-up-queries entry '" + spec
+                    + "' — expected <repository fqcn>#<method>(<arg>,...)");
+        }
+        String repoName = spec.substring(0, hash).trim();
+        String methodName = spec.substring(hash + 1, open).trim();
+        String argList = spec.substring(open + 1, spec.length() - 1).trim();
+        String[] rawArgs = argList.isEmpty() ? new String[0] : argList.split(",");
+
+        Class<?> repoType;
+        try {
+            repoType = Class.forName(repoName, false, cl);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalArgumentException("Cache warm-up: unknown repository " + repoName, e);
+        }
+        RepositoryCall call = resolve(repoType, methodName, rawArgs, spec);
+
+        return new WarmUpTask(spec, () -> {
+            Object repo = Arc.container().instance(repoType).get();
+            try {
+                Object result = call.method().invoke(repo, call.args());
+                if (result instanceof Stream<?> stream) {
+                    try (stream) {
+                        stream.forEach(o -> { });
+                    }
+                }
+            } catch (InvocationTargetException e) {
+                throw e.getCause() instanceof Exception ex ? ex : e;
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Selects the overload of {@code methodName} whose parameter types accept all of
+     * {@code rawArgs} and converts the arguments. Fails if no overload or more than one
+     * overload accepts the arguments.
+     */
+    static RepositoryCall resolve(Class<?> repoType, String methodName, String[] rawArgs, String spec) {
+        Map<List<Class<?>>, Method> candidates = new LinkedHashMap<>();
+        for (Method m : repoType.getMethods()) {
+            if (m.getName().equals(methodName) && m.getParameterCount() == rawArgs.length && !m.isBridge()) {
+                candidates.putIfAbsent(List.of(m.getParameterTypes()), m);
+            }
+        }
+        RepositoryCall match = null;
+        for (Method m : candidates.values()) {
+            Object[] values = convertAll(rawArgs, m.getParameterTypes());
+            if (values == null) {
+                continue;
+            }
+            if (match != null) {
+                throw new IllegalArgumentException("Cache warm-up: '" + spec + "' is ambiguous — both "
+                        + signature(match.method()) + " and " + signature(m) + " accept the arguments");
+            }
+            match = new RepositoryCall(m, values);
+        }
+        if (match == null) {
+            throw new IllegalArgumentException("Cache warm-up: " + repoType.getName() + " has no method "
+                    + methodName + " accepting the arguments of '" + spec + "'"
+                    + (candidates.isEmpty() ? "" : " (candidates: " + candidates.values().stream()
+                            .map(MorphiumCacheWarmer::signature).toList() + ")"));
+        }
+        return match;
+    }
+
+    /** Converts all arguments to {@code types}, or returns {@code null} if one does not fit. */
+    private static Object[] convertAll(String[] rawArgs, Class<?>[] types) {
+        Object[] values = new Object[rawArgs.length];
+        for (int i = 0; i < rawArgs.length; i++) {
+            try {
+                values[i] = convert(rawArgs[i].trim(), types[i]);
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+        return values;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object convert(String value, Class<?> type) {
+        if (type == String.class || type == Object.class) return value;
+        if (type == int.class || type == Integer.class) return Integer.valueOf(value);
+        if (type == long.class || type == Long.class) return Long.valueOf(value);
+        if (type == double.class || type == Double.class) return Double.valueOf(value);
+        if (type == float.class || type == Float.class) return Float.valueOf(value);
+        if (type == short.class || type == Short.class) return Short.valueOf(value);
+        if (type == boolean.class || type == Boolean.class) {
+            if (value.equalsIgnoreCase("true") || value.equalsIgnoreCase("false")) return Boolean.valueOf(value);
+            throw new IllegalArgumentException("Not a boolean: " + value);
+        }
+        if (type.isEnum()) return Enum.valueOf((Class<? extends Enum>) type, value);
+        throw new IllegalArgumentException("Unsupported parameter type " + type.getName());
+    }
+
+    private static String signature(Method m) {
+        return m.getName() + Arrays.stream(m.getParameterTypes()).map(Class::getSimpleName)
+                .collect(Collectors.joining(",", "(", ")"));
+    }
+
+    /** Whether the warm-up has finished (or timed out); {@code true} if none is configured. */
+    public boolean isDone() {
+        return done;
+    }
+
+    /** Number of warm-up queries that failed. */
+    public int getFailureCount() {
+        return failures.get();
+    }
+
+    private record WarmUpTask(String name, Callable<?> query) {
+    }
+
+    record RepositoryCall(Method method, Object[] args) {
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.health;
+
+import de.caluga.morphium.Morphium;
+import de.caluga.morphium.driver.MorphiumDriver;
+import de.caluga.morphium.driver.MorphiumDriver.DriverStatsKey;
+import de.caluga.morphium.driver.commands.HelloCommand;
+import de.caluga.morphium.driver.wire.MongoConnection;
+import de.caluga.morphium.quarkus.HealthConfig;
+import de.caluga.morphium.quarkus.MorphiumCheckpointEvent;
+import de.caluga.morphium.quarkus.MorphiumRuntimeConfig;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background sampler for the Morphium health probes.
+ *
+ * <p>Refreshes connection state, pool statistics and the round-trip time of a {@code hello}
+ * command every {@code quarkus.morphium.health.sample-interval} on a single daemon thread. The
+ * probes only read the latest {@link Snapshot}, so frequent probing does not compete with
+ * application traffic for the pool's locks.
+ *
+ * <p>The optional readiness rules ({@code max-threads-waiting}, {@code max-ping-time},
+ * {@code max-replication-lag}) are evaluated here: a sample is marked unhealthy once a limit has
+ * been exceeded in every sample for at least {@code saturation-period}. Replication lag itself is
+ * measured by {@link MorphiumReplicationLagMonitor}.
+ */
+@ApplicationScoped
+public class MorphiumHealthSampler {
+
+    private static final Logger log = LoggerFactory.getLogger(MorphiumHealthSampler.class);
+
+    @Inject
+    Morphium morphium;
+
+    @Inject
+    MorphiumRuntimeConfig config;
+
+    @Inject
+    MorphiumReplicationLagMonitor lagMonitor;
+
+    private volatile Snapshot snapshot;
+    private ScheduledExecutorService scheduler;
+    // Guarded by "this" — only updated in sample()
+    private boolean violated;
+    private long violatedSinceNanos;
+
+    void onStart(@Observes StartupEvent event) {
+        start();
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        stop();
+    }
+
+    void onCheckpoint(@Observes MorphiumCheckpointEvent event) {
+        if (event.getPhase() == MorphiumCheckpointEvent.Phase.BEFORE_CHECKPOINT) {
+            stop();
+        } else {
+            start();
+        }
+    }
+
+    private synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "morphium-health-sampler");
+            t.setDaemon(true);
+            return t;
+        });
+        long interval = Math.max(1, config.health().sampleInterval().toMillis());
+        scheduler.scheduleWithFixedDelay(this::sampleQuietly, 0, interval, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    /** The latest sample; taken synchronously if the sampler has not completed one yet. */
+    public Snapshot snapshot() {
+        Snapshot s = snapshot;
+        return s != null ? s : sample();
+    }
+
+    /** Takes a new sample immediately and returns it. */
+    public synchronized Snapshot sample() {
+        MorphiumDriver driver = morphium.getDriver();
+        boolean connected;
+        String connectionError = null;
+        try {
+            connected = driver.isConnected();
+        } catch (Exception e) {
+            connected = false;
+            connectionError = e.getMessage();
+        }
+
+        Map<DriverStatsKey, Double> stats = Map.of();
+        Map<String, Integer> connectionsByHost = Map.of();
+        String statsError = null;
+        try {
+            stats = Collections.unmodifiableMap(new HashMap<>(driver.getDriverStats()));
+            Map<String, Integer> hosts = driver.getNumConnectionsByHost();
+            if (hosts != null) {
+                connectionsByHost = Collections.unmodifiableMap(new HashMap<>(hosts));
+            }
+        } catch (Exception e) {
+            // Stat collection may fail under heavy load — informational only
+            statsError = e.getMessage();
+        }
+
+        double pingMs = -1;
+        String pingError = null;
+        if (connected && config.health().ping()) {
+            try {
+                pingMs = ping(driver);
+            } catch (Exception e) {
+                pingError = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            }
+        }
+
+        Map<String, Long> replicationLag = lagMonitor.getLagMillis();
+        String unhealthyReason = evaluateRules(config.health(), stats, pingMs, pingError, replicationLag,
+                System.nanoTime());
+        Snapshot s = new Snapshot(connected, connectionError, stats, connectionsByHost, statsError,
+                pingMs, pingError, replicationLag, unhealthyReason, System.currentTimeMillis());
+        snapshot = s;
+        return s;
+    }
+
+    private void sampleQuietly() {
+        try {
+            sample();
+        } catch (Exception e) {
+            // Never let an exception cancel the periodic task
+            log.debug("Health sample failed: {}", e.getMessage());
+        }
+    }
+
+    private static double ping(MorphiumDriver driver) throws Exception {
+        MongoConnection con = driver.getPrimaryConnection(null);
+        try {
+            long start = System.nanoTime();
+            new HelloCommand(con).execute();
+            return Math.round((System.nanoTime() - start) / 100_000.0) / 10.0;
+        } finally {
+            driver.releaseConnection(con);
+        }
+    }
+
+    /**
+     * Returns the violated readiness rule once it has held for the saturation period, else null.
+     * {@code now} is the {@link System#nanoTime()} of the sample.
+     */
+    String evaluateRules(HealthConfig health, Map<DriverStatsKey, Double> stats, double pingMs, String pingError,
+                         Map<String, Long> replicationLag, long now) {
+        String violation = null;
+        if (health.maxThreadsWaiting().isPresent()) {
+            long waiting = stats.getOrDefault(DriverStatsKey.THREADS_WAITING_FOR_CONNECTION, 0.0).longValue();
+            if (waiting > health.maxThreadsWaiting().get()) {
+                violation = "threadsWaiting " + waiting + " > " + health.maxThreadsWaiting().get();
+            }
+        }
+        if (violation == null && health.maxPingTime().isPresent() && health.ping()) {
+            long max = health.maxPingTime().get().toMillis();
+            if (pingError != null) {
+                violation = "ping failed: " + pingError;
+            } else if (pingMs > max) {
+                violation = "pingMs " + pingMs + " > " + max;
+            }
+        }
+        if (violation == null && health.maxReplicationLag().isPresent()) {
+            long lag = MorphiumReplicationLagMonitor.maxLag(replicationLag);
+            long max = health.maxReplicationLag().get().toMillis();
+            if (lag > max) {
+                violation = "replicationLagMs " + lag + " > " + max;
+            }
+        }
+
+        if (violation == null) {
+            violated = false;
+            return null;
+        }
+        if (!violated) {
+            violated = true;
+            violatedSinceNanos = now;
+        }
+        return now - violatedSinceNanos >= health.saturationPeriod().toNanos() ? violation : null;
+    }
+
+    /**
+     * One health sample.
+     *
+     * @param pingMs          round-trip time of the last ping in milliseconds, {@code -1} if not measured
+     * @param replicationLag  lag per secondary in milliseconds, empty when not measured
+     * @param unhealthyReason the readiness rule that has been violated for the saturation period, or null
+     * @param sampledAt       wall-clock time of the sample (epoch millis)
+     */
+    public record Snapshot(boolean connected, String connectionError,
+                           Map<DriverStatsKey, Double> stats, Map<String, Integer> connectionsByHost,
+                           String statsError, double pingMs, String pingError,
+                           Map<String, Long> replicationLag, String unhealthyReason, long sampledAt) {
+
+        /** The statistic as a whole number, {@code 0} if unavailable. */
+        public long stat(DriverStatsKey key) {
+            return stats.getOrDefault(key, 0.0).longValue();
+        }
+    }
+}
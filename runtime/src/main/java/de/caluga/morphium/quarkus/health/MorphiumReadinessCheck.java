@@ -16,8 +16,8 @@
 package de.caluga.morphium.quarkus.health;
 
 import de.caluga.morphium.Morphium;
-import de.caluga.morphium.driver.MorphiumDriver;
 import de.caluga.morphium.driver.MorphiumDriver.DriverStatsKey;
+import de.caluga.morphium.quarkus.cache.MorphiumCacheWarmer;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import org.eclipse.microprofile.health.HealthCheck;
@@ -30,7 +30,7 @@ import java.util.Map;
 /**
  * Readiness health check for Morphium.
  *
- * <p>Reports DOWN only when the driver is no longer connected. Pool statistics
+ * <p>By default reports DOWN only when the driver is no longer connected. Pool statistics
  * (connections in use, threads waiting, etc.) are included as informational
  * metadata but do <em>not</em> affect the UP/DOWN status.
  *
@@ -39,6 +39,15 @@ import java.util.Map;
  * belongs in metrics/monitoring (e.g. Prometheus), not in readiness probes.
  * This is consistent with how other Quarkus extensions handle readiness
  * (e.g. the MongoDB client extension only pings the server).
+ *
+ * <p>All values come from the latest {@link MorphiumHealthSampler} snapshot — the probe itself
+ * never calls the driver. Opt-in rules ({@code quarkus.morphium.health.max-threads-waiting},
+ * {@code max-ping-time}, {@code max-replication-lag}) report DOWN when the pool stays saturated,
+ * the ping stays slow or a secondary keeps lagging for longer than {@code saturation-period};
+ * short bursts never affect readiness.
+ *
+ * <p>While a configured cache warm-up ({@link MorphiumCacheWarmer}) is still running the
+ * check reports DOWN, so traffic only arrives once the cache is filled.
  */
 @Readiness
 @ApplicationScoped
@@ -47,43 +56,58 @@ public class MorphiumReadinessCheck implements HealthCheck {
     @Inject
     Morphium morphium;
 
+    @Inject
+    MorphiumCacheWarmer cacheWarmer;
+
+    @Inject
+    MorphiumHealthSampler sampler;
+
     @Override
     public HealthCheckResponse call() {
         HealthCheckResponseBuilder builder = HealthCheckResponse.named("Morphium readiness check");
         try {
-            MorphiumDriver driver = morphium.getDriver();
-            boolean connected = driver.isConnected();
+            MorphiumHealthSampler.Snapshot sample = sampler.snapshot();
+            boolean warmedUp = cacheWarmer.isDone();
 
             builder.withData("database", morphium.getConfig().connectionSettings().getDatabase())
-                   .status(connected);
+                   .status(sample.connected() && warmedUp && sample.unhealthyReason() == null);
+            if (!warmedUp) {
+                builder.withData("cacheWarmUp", "in progress");
+            }
+            if (sample.unhealthyReason() != null) {
+                builder.withData("reason", sample.unhealthyReason());
+            }
+            if (sample.connectionError() != null) {
+                builder.withData("error", sample.connectionError());
+            }
 
             // Pool stats are best-effort informational metadata.
             // During heavy load (e.g. bulk imports), stat collection may fail --
             // this must never affect the UP/DOWN status.
-            try {
-                Map<DriverStatsKey, Double> stats = driver.getDriverStats();
-                builder.withData("connectionsInUse", toLong(stats, DriverStatsKey.CONNECTIONS_IN_USE))
-                       .withData("connectionsInPool", toLong(stats, DriverStatsKey.CONNECTIONS_IN_POOL))
-                       .withData("threadsWaiting", toLong(stats, DriverStatsKey.THREADS_WAITING_FOR_CONNECTION))
-                       .withData("errors", toLong(stats, DriverStatsKey.ERRORS));
-
-                Map<String, Integer> hostConnections = driver.getNumConnectionsByHost();
-                if (hostConnections != null && !hostConnections.isEmpty()) {
-                    for (Map.Entry<String, Integer> entry : hostConnections.entrySet()) {
-                        builder.withData("host:" + entry.getKey(), entry.getValue());
-                    }
+            if (sample.statsError() == null) {
+                builder.withData("connectionsInUse", sample.stat(DriverStatsKey.CONNECTIONS_IN_USE))
+                       .withData("connectionsInPool", sample.stat(DriverStatsKey.CONNECTIONS_IN_POOL))
+                       .withData("threadsWaiting", sample.stat(DriverStatsKey.THREADS_WAITING_FOR_CONNECTION))
+                       .withData("errors", sample.stat(DriverStatsKey.ERRORS));
+                for (Map.Entry<String, Integer> entry : sample.connectionsByHost().entrySet()) {
+                    builder.withData("host:" + entry.getKey(), entry.getValue());
                 }
-            } catch (Exception statsEx) {
-                builder.withData("statsUnavailable", statsEx.getMessage());
+            } else {
+                builder.withData("statsUnavailable", sample.statsError());
+            }
+            if (sample.pingMs() >= 0) {
+                builder.withData("pingMs", String.valueOf(sample.pingMs()));
+            } else if (sample.pingError() != null) {
+                builder.withData("pingError", sample.pingError());
             }
+            for (Map.Entry<String, Long> entry : sample.replicationLag().entrySet()) {
+                builder.withData("lag:" + entry.getKey(), entry.getValue());
+            }
+            builder.withData("sampleAgeMs", System.currentTimeMillis() - sample.sampledAt());
 
             return builder.build();
         } catch (Exception e) {
             return builder.down().withData("error", e.getMessage()).build();
         }
     }
-
-    private static long toLong(Map<DriverStatsKey, Double> stats, DriverStatsKey key) {
-        return stats.getOrDefault(key, 0.0).longValue();
-    }
 }
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.health;
+
+import de.caluga.morphium.Morphium;
+import de.caluga.morphium.MorphiumConfig;
+import de.caluga.morphium.driver.MorphiumDriver;
+import de.caluga.morphium.driver.ReadPreference;
+import de.caluga.morphium.quarkus.MorphiumCheckpointEvent;
+import de.caluga.morphium.quarkus.MorphiumRuntimeConfig;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the replication lag of every replica set member and routes secondary reads away
+ * from stale members.
+ *
+ * <p>Every {@code quarkus.morphium.health.sample-interval} the monitor runs
+ * {@code replSetGetStatus} and computes each member's lag as the distance of its
+ * {@code optimeDate} to the primary's. The lag is reported by the readiness probe
+ * ({@code lag:<host>}) and drives the optional {@code quarkus.morphium.health.max-replication-lag}
+ * rule.
+ *
+ * <p>With {@code quarkus.morphium.max-staleness} set and a non-primary read preference, the
+ * default read preference is switched to {@code primary} while any secondary lags more than the
+ * limit, and restored once all have caught up. Morphium selects the member per read and offers
+ * no hook to exclude a single host, so the fallback covers all secondaries — reads stay
+ * consistent at the cost of primary load while the lag lasts. The switch is applied to the
+ * connected driver and to the configuration Morphium resolves per query; entities annotated
+ * with their own {@code @DefaultReadPreference} keep it.
+ *
+ * <p>Only active on replica sets and when one of the two properties is set.
+ */
+@ApplicationScoped
+public class MorphiumReplicationLagMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(MorphiumReplicationLagMonitor.class);
+    private static final String PRIMARY = "primary";
+
+    @Inject
+    Morphium morphium;
+
+    @Inject
+    MorphiumRuntimeConfig config;
+
+    private volatile Map<String, Long> lagMillis = Map.of();
+    private volatile boolean routedToPrimary;
+    private ScheduledExecutorService scheduler;
+
+    void onStart(@Observes StartupEvent event) {
+        start();
+    }
+
+    void onCheckpoint(@Observes MorphiumCheckpointEvent event) {
+        if (event.getPhase() == MorphiumCheckpointEvent.Phase.BEFORE_CHECKPOINT) {
+            // Keep the routing decision; the first measurement after restore re-evaluates it
+            stopScheduler();
+        } else {
+            start();
+        }
+    }
+
+    private synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        boolean routing = config.maxStaleness().isPresent()
+                && !PRIMARY.equalsIgnoreCase(config.readPreference());
+        boolean readiness = config.health().maxReplicationLag().isPresent();
+        if (!routing && !readiness) {
+            return;
+        }
+        if (!morphium.getDriver().isReplicaSet()) {
+            log.debug("Replication lag monitoring configured, but not connected to a replica set");
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "morphium-replication-lag");
+            t.setDaemon(true);
+            return t;
+        });
+        long interval = Math.max(1, config.health().sampleInterval().toMillis());
+        scheduler.scheduleWithFixedDelay(this::measureQuietly, 0, interval, TimeUnit.MILLISECONDS);
+        log.info("Replication lag monitoring enabled (max-staleness {}, read preference {})",
+                config.maxStaleness().map(Object::toString).orElse("-"), config.readPreference());
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        stopScheduler();
+        if (routedToPrimary) {
+            // The Morphium instance may outlive this bean (dev-mode connection reuse)
+            setReadPreference(config.readPreference());
+            routedToPrimary = false;
+        }
+    }
+
+    private synchronized void stopScheduler() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    private void measureQuietly() {
+        try {
+            measure();
+        } catch (Exception e) {
+            // Keep the last measurement; a transient failure must not flip the routing
+            log.debug("Replication lag measurement failed: {}", e.getMessage());
+        }
+    }
+
+    void measure() throws Exception {
+        MorphiumDriver driver = morphium.getDriver();
+        Map<String, Long> lag = lagPerMember(driver.getReplsetStatus());
+        lagMillis = lag;
+
+        if (config.maxStaleness().isEmpty() || PRIMARY.equalsIgnoreCase(config.readPreference())) {
+            return;
+        }
+        long max = config.maxStaleness().get().toMillis();
+        long worst = maxLag(lag);
+        boolean stale = worst > max;
+        if (stale != routedToPrimary) {
+            routedToPrimary = stale;
+            setReadPreference(stale ? PRIMARY : config.readPreference());
+            if (stale) {
+                log.warn("Secondary lags {} ms behind the primary (max-staleness {} ms) — routing reads to the primary",
+                        worst, max);
+            } else {
+                log.info("Secondaries caught up (max lag {} ms) — restoring read preference {}",
+                        worst, config.readPreference());
+            }
+        }
+    }
+
+    private void setReadPreference(String readPreference) {
+        applyReadPreference(morphium.getConfig(), morphium.getDriver(), readPreference);
+    }
+
+    /**
+     * The driver takes its default read preference from the configuration only when it
+     * connects, so a switch at runtime is applied to both.
+     */
+    static void applyReadPreference(MorphiumConfig cfg, MorphiumDriver driver, String readPreference) {
+        ReadPreference rp = readPreference(readPreference);
+        cfg.driverSettings().setDefaultReadPreference(rp);
+        driver.setDefaultReadPreference(rp);
+    }
+
+    static ReadPreference readPreference(String name) {
+        return switch (name.toLowerCase(Locale.ROOT)) {
+            case "primary" -> ReadPreference.primary();
+            case "primarypreferred" -> ReadPreference.primaryPreferred();
+            case "secondary" -> ReadPreference.secondary();
+            case "secondarypreferred" -> ReadPreference.secondaryPreferred();
+            case "nearest" -> ReadPreference.nearest();
+            default -> throw new IllegalArgumentException("Unknown read preference '" + name + "'");
+        };
+    }
+
+    /** Lag of every secondary behind the primary (or the most recent member) in milliseconds. */
+    static Map<String, Long> lagPerMember(Map<String, Object> status) {
+        if (status == null || !(status.get("members") instanceof List<?> members)) {
+            return Map.of();
+        }
+        Long reference = null;
+        Long newest = null;
+        Map<String, Long> optimes = new TreeMap<>();
+        for (Object m : members) {
+            if (!(m instanceof Map<?, ?> member) || !(member.get("optimeDate") instanceof Date optime)) {
+                continue;
+            }
+            String state = String.valueOf(member.get("stateStr"));
+            if ("PRIMARY".equals(state)) {
+                reference = optime.getTime();
+            } else if ("SECONDARY".equals(state)) {
+                optimes.put(String.valueOf(member.get("name")), optime.getTime());
+            }
+            newest = newest == null ? optime.getTime() : Math.max(newest, optime.getTime());
+        }
+        long ref = reference != null ? reference : newest != null ? newest : 0;
+        Map<String, Long> lag = new TreeMap<>();
+        optimes.forEach((host, optime) -> lag.put(host, Math.max(0, ref - optime)));
+        return Collections.unmodifiableMap(lag);
+    }
+
+    static long maxLag(Map<String, Long> lag) {
+        long max = 0;
+        for (long l : lag.values()) {
+            max = Math.max(max, l);
+        }
+        return max;
+    }
+
+    /** Latest lag per secondary in milliseconds; empty when not monitoring. */
+    public Map<String, Long> getLagMillis() {
+        return lagMillis;
+    }
+
+    /** Whether reads are currently routed to the primary because a secondary is stale. */
+    public boolean isRoutedToPrimary() {
+        return routedToPrimary;
+    }
+}
@@ -16,7 +16,6 @@
 package de.caluga.morphium.quarkus.health;
 
 import de.caluga.morphium.Morphium;
-import de.caluga.morphium.driver.MorphiumDriver;
 import de.caluga.morphium.driver.MorphiumDriver.DriverStatsKey;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -25,13 +24,15 @@ import org.eclipse.microprofile.health.HealthCheckResponse;
 import org.eclipse.microprofile.health.HealthCheckResponseBuilder;
 import org.eclipse.microprofile.health.Startup;
 
-import java.util.Map;
-
 /**
  * Startup health check for Morphium.
  *
  * <p>Reports DOWN until the initial connection has been established.
  * A DOWN startup probe causes Kubernetes to defer liveness and readiness probes.
+ *
+ * <p>Reads the {@link MorphiumHealthSampler} snapshot; only while it still reports
+ * "not connected" is a fresh sample taken, so the probe turns UP without waiting for the
+ * next sampling interval.
  */
 @Startup
 @ApplicationScoped
@@ -40,20 +41,22 @@ public class MorphiumStartupCheck implements HealthCheck {
     @Inject
     Morphium morphium;
 
+    @Inject
+    MorphiumHealthSampler sampler;
+
     @Override
     public HealthCheckResponse call() {
         HealthCheckResponseBuilder builder = HealthCheckResponse.named("Morphium startup check");
         try {
-            MorphiumDriver driver = morphium.getDriver();
-            boolean connected = driver.isConnected();
-
-            Map<DriverStatsKey, Double> stats = driver.getDriverStats();
-            double opened = stats.getOrDefault(DriverStatsKey.CONNECTIONS_OPENED, 0.0);
+            MorphiumHealthSampler.Snapshot sample = sampler.snapshot();
+            if (!sample.connected()) {
+                sample = sampler.sample();
+            }
 
             builder.withData("database", morphium.getConfig().connectionSettings().getDatabase())
-                   .withData("connectionsOpened", (long) opened);
+                   .withData("connectionsOpened", sample.stat(DriverStatsKey.CONNECTIONS_OPENED));
 
-            return builder.status(connected).build();
+            return builder.status(sample.connected()).build();
         } catch (Exception e) {
             return builder.down().withData("error", e.getMessage()).build();
         }
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event for one Morphium read or write, emitted after the operation completed.
+ *
+ * <p>The duration is Morphium's own measurement (round trip plus mapping of the result), so it
+ * is a field rather than the event's start/end. Enabled by default; disable with
+ * {@code jfr configure +de.caluga.morphium.Command#enabled=false} or a custom {@code .jfc}.
+ */
+@Name("de.caluga.morphium.Command")
+@Label("Morphium Command")
+@Category({"Morphium", "Database"})
+@Description("A MongoDB read or write issued through Morphium")
+public final class CommandEvent extends Event {
+
+    @Label("Operation")
+    @Description("find, count, distinct, insert, update or delete")
+    public String operation;
+
+    @Label("Collection")
+    public String collection;
+
+    @Label("Query Shape")
+    @Description("Filter of a read with all values masked")
+    public String queryShape;
+
+    @Label("Documents")
+    @Description("Documents written by a write, 0 for reads")
+    public int documents;
+
+    @Label("Execution Time")
+    @Timespan(Timespan.MILLISECONDS)
+    public long executionTime;
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning the execution of one {@code @MorphiumChangeUnit}, including its rollback.
+ */
+@Name("de.caluga.morphium.MigrationStep")
+@Label("Morphium Migration Step")
+@Category({"Morphium", "Migration"})
+@Description("Execution of a database migration change unit")
+@StackTrace(false)
+public final class MigrationStepEvent extends Event {
+
+    @Label("Change Id")
+    public String changeId;
+
+    @Label("Order")
+    public String order;
+
+    @Label("Outcome")
+    @Description("executed, failed or rolled-back")
+    public String outcome;
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.jfr;
+
+import de.caluga.morphium.Morphium;
+import de.caluga.morphium.ProfilingListener;
+import de.caluga.morphium.ReadAccessType;
+import de.caluga.morphium.WriteAccessType;
+import de.caluga.morphium.driver.MorphiumDriver.DriverStatsKey;
+import de.caluga.morphium.query.Query;
+import de.caluga.morphium.quarkus.MorphiumOperations;
+import de.caluga.morphium.quarkus.MorphiumQueryShape;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jdk.jfr.FlightRecorder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+
+/**
+ * Emits the Morphium JFR events that are not produced inline.
+ *
+ * <ul>
+ *   <li>{@link CommandEvent} – from a Morphium {@link ProfilingListener}, for every read and
+ *       write. When the event is disabled in the running recording, the listener returns before
+ *       computing any field.</li>
+ *   <li>{@link PoolStatisticsEvent} – a periodic hook reading the driver statistics, only
+ *       invoked by JFR while the event is enabled.</li>
+ * </ul>
+ *
+ * <p>{@link TransactionEvent} and {@link MigrationStepEvent} are emitted by
+ * {@code MorphiumTransactionalInterceptor} and {@code MorphiumMigrationRunner}. Nothing is
+ * registered when JFR is not available (e.g. a native image built without JFR support).
+ */
+@ApplicationScoped
+public class MorphiumJfrRecorder {
+
+    private static final Logger log = LoggerFactory.getLogger(MorphiumJfrRecorder.class);
+
+    @Inject
+    Morphium morphium;
+
+    private ProfilingListener listener;
+    private Runnable poolHook;
+
+    void onStart(@Observes StartupEvent event) {
+        if (!FlightRecorder.isAvailable()) {
+            log.debug("JFR not available — Morphium JFR events disabled");
+            return;
+        }
+        listener = new ProfilingListener() {
+            @Override
+            public void readAccess(Query query, long time, ReadAccessType t) {
+                CommandEvent e = new CommandEvent();
+                if (e.isEnabled()) {
+                    e.operation = MorphiumOperations.read(t);
+                    e.collection = query.getCollectionName();
+                    e.queryShape = MorphiumQueryShape.of(query.toQueryObject());
+                    e.executionTime = time;
+                    e.commit();
+                }
+            }
+
+            @Override
+            public void writeAccess(Class type, Object o, long time, boolean isNew, WriteAccessType t) {
+                CommandEvent e = new CommandEvent();
+                if (e.isEnabled()) {
+                    e.operation = MorphiumOperations.write(t);
+                    e.collection = MorphiumOperations.collection(morphium, type);
+                    e.documents = MorphiumOperations.documents(o);
+                    e.executionTime = time;
+                    e.commit();
+                }
+            }
+        };
+        morphium.addProfilingListener(listener);
+
+        poolHook = () -> {
+            PoolStatisticsEvent e = new PoolStatisticsEvent();
+            try {
+                Map<DriverStatsKey, Double> stats = morphium.getDriver().getDriverStats();
+                e.connectionsInUse = stat(stats, DriverStatsKey.CONNECTIONS_IN_USE);
+                e.connectionsInPool = stat(stats, DriverStatsKey.CONNECTIONS_IN_POOL);
+                e.threadsWaiting = stat(stats, DriverStatsKey.THREADS_WAITING_FOR_CONNECTION);
+                e.connectionsOpened = stat(stats, DriverStatsKey.CONNECTIONS_OPENED);
+                e.errors = stat(stats, DriverStatsKey.ERRORS);
+                e.commit();
+            } catch (Exception ex) {
+                // Driver closed or statistics unavailable — skip this period
+            }
+        };
+        FlightRecorder.addPeriodicEvent(PoolStatisticsEvent.class, poolHook);
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        // The Morphium instance may outlive this bean (dev-mode connection reuse)
+        if (listener != null) {
+            morphium.removeProfilingListener(listener);
+            listener = null;
+        }
+        if (poolHook != null) {
+            FlightRecorder.removePeriodicEvent(poolHook);
+            poolHook = null;
+        }
+    }
+
+    private static long stat(Map<DriverStatsKey, Double> stats, DriverStatsKey key) {
+        return stats.getOrDefault(key, 0.0).longValue();
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+
+/**
+ * Periodic JFR event with the connection pool statistics of the Morphium driver.
+ *
+ * <p>Morphium does not report individual connection checkouts; sustained
+ * {@code threadsWaiting > 0} shows that requests queue for a connection.
+ */
+@Name("de.caluga.morphium.PoolStatistics")
+@Label("Morphium Connection Pool")
+@Category({"Morphium", "Database"})
+@Description("Connection pool usage and threads waiting for a connection")
+@Period("5 s")
+@StackTrace(false)
+public final class PoolStatisticsEvent extends Event {
+
+    @Label("Connections In Use")
+    public long connectionsInUse;
+
+    @Label("Connections In Pool")
+    public long connectionsInPool;
+
+    @Label("Threads Waiting")
+    @Description("Threads waiting to check out a connection")
+    public long threadsWaiting;
+
+    @Label("Connections Opened")
+    public long connectionsOpened;
+
+    @Label("Errors")
+    public long errors;
+}
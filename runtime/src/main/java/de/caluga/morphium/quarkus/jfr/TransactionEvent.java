@@ -0,0 +1,49 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event spanning a {@code @MorphiumTransactional} transaction, from begin to commit or abort.
+ */
+@Name("de.caluga.morphium.Transaction")
+@Label("Morphium Transaction")
+@Category({"Morphium", "Database"})
+@Description("A transaction started by @MorphiumTransactional")
+public final class TransactionEvent extends Event {
+
+    @Label("Method")
+    public String method;
+
+    @Label("Outcome")
+    @Description("commit or abort")
+    public String outcome;
+
+    @Label("Commit Time")
+    @Description("Time spent in commitTransaction or abortTransaction")
+    @Timespan(Timespan.NANOSECONDS)
+    public long commitTime;
+
+    @Label("Retries")
+    @Description("Retries after TransientTransactionError or UnknownTransactionCommitResult")
+    public int retries;
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.metrics;
+
+import de.caluga.morphium.Morphium;
+import de.caluga.morphium.cache.MorphiumCache;
+import de.caluga.morphium.driver.MorphiumDriver.DriverStatsKey;
+import de.caluga.morphium.quarkus.MorphiumBlockingCallDetector;
+import de.caluga.morphium.quarkus.cache.CaffeineMorphiumCache;
+import de.caluga.morphium.quarkus.cache.MorphiumCacheInvalidator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * Binds Morphium driver and cache meters to the Micrometer registry.
+ *
+ * <ul>
+ *   <li>{@code morphium.driver.stats} – one gauge per {@link DriverStatsKey}, tagged {@code stat}
+ *       (e.g. {@code connections_in_use}, {@code threads_waiting_for_connection}). The driver
+ *       statistics are read at most once per second, however many gauges are scraped.</li>
+ *   <li>{@code morphium.cache.hits}, {@code morphium.cache.misses}, {@code morphium.cache.evictions}
+ *       – counters of the {@code caffeine} cache backend; not registered with Morphium's built-in
+ *       cache, which keeps no such statistics.</li>
+ *   <li>{@code morphium.cache.invalidations} – entity types evicted through change-stream
+ *       invalidation.</li>
+ *   <li>{@code morphium.blocking.calls} – Morphium calls on a Vert.x event-loop thread, tagged
+ *       {@code operation} and {@code site} (only when the blocking-call detector is built in).</li>
+ * </ul>
+ */
+@ApplicationScoped
+public class MorphiumMetricsBinder implements MeterBinder {
+
+    private static final long STATS_MAX_AGE_NANOS = 1_000_000_000L;
+
+    @Inject
+    Morphium morphium;
+
+    @Inject
+    MorphiumCacheInvalidator invalidator;
+
+    @Inject
+    Instance<MorphiumBlockingCallDetector> blockingCallDetector;
+
+    private volatile Map<DriverStatsKey, Double> stats = Map.of();
+    private volatile long statsReadAt = System.nanoTime() - STATS_MAX_AGE_NANOS;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (DriverStatsKey key : DriverStatsKey.values()) {
+            Gauge.builder("morphium.driver.stats", this, b -> b.driverStat(key))
+                    .description("Morphium driver connection pool statistics")
+                    .tag("stat", key.name().toLowerCase(Locale.ROOT))
+                    .register(registry);
+        }
+        if (morphium.getCache() instanceof CaffeineMorphiumCache) {
+            cacheCounter(registry, "morphium.cache.hits", "Cache lookups served from the read cache",
+                    CaffeineMorphiumCache::hitCount);
+            cacheCounter(registry, "morphium.cache.misses", "Cache lookups that queried MongoDB",
+                    CaffeineMorphiumCache::missCount);
+            cacheCounter(registry, "morphium.cache.evictions", "Cached results evicted by size or TTL",
+                    CaffeineMorphiumCache::evictionCount);
+        }
+        FunctionCounter.builder("morphium.cache.invalidations", invalidator,
+                        MorphiumCacheInvalidator::getEvictionCount)
+                .description("Entity types evicted by change-stream invalidation")
+                .register(registry);
+        if (blockingCallDetector.isResolvable()) {
+            blockingCallDetector.get().addObserver((operation, site) ->
+                    Counter.builder("morphium.blocking.calls")
+                            .description("Blocking Morphium calls on a Vert.x event-loop thread")
+                            .tag("operation", operation)
+                            .tag("site", site)
+                            .register(registry)
+                            .increment());
+        }
+    }
+
+    private void cacheCounter(MeterRegistry registry, String name, String description,
+                              ToLongFunction<CaffeineMorphiumCache> value) {
+        FunctionCounter.builder(name, this, b -> {
+                    MorphiumCache cache = b.morphium.getCache();
+                    return cache instanceof CaffeineMorphiumCache caffeine ? value.applyAsLong(caffeine) : 0;
+                })
+                .description(description)
+                .register(registry);
+    }
+
+    private double driverStat(DriverStatsKey key) {
+        long now = System.nanoTime();
+        if (now - statsReadAt >= STATS_MAX_AGE_NANOS) {
+            try {
+                Map<DriverStatsKey, Double> current = morphium.getDriver().getDriverStats();
+                stats = current != null ? current : Map.of();
+            } catch (Exception e) {
+                // Stats are best-effort, as in MorphiumReadinessCheck
+                stats = Map.of();
+            }
+            statsReadAt = now;
+        }
+        Double value = stats.get(key);
+        return value != null ? value : Double.NaN;
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.Priority;
+import jakarta.data.page.Page;
+import jakarta.data.repository.Delete;
+import jakarta.data.repository.Find;
+import jakarta.data.repository.Insert;
+import jakarta.data.repository.Query;
+import jakarta.data.repository.Repository;
+import jakarta.data.repository.Save;
+import jakarta.data.repository.Update;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Records Micrometer metrics for every generated repository method.
+ *
+ * <ul>
+ *   <li>{@code morphium.repository.calls} – timer with percentile histogram, tagged
+ *       {@code repository}, {@code method}, {@code kind} ({@code derived}, {@code jdql},
+ *       {@code annotated}, {@code crud}) and {@code outcome} ({@code success}, {@code failure}).</li>
+ *   <li>{@code morphium.repository.documents.returned} – entities returned by read methods
+ *       (counted while a returned {@code Stream} is consumed).</li>
+ *   <li>{@code morphium.repository.documents.written} – entities saved, inserted, updated or
+ *       deleted.</li>
+ * </ul>
+ *
+ * <p>Meters are created once per method and cached; the per-call overhead is two
+ * {@code System.nanoTime()} calls and the meter updates.
+ */
+@MorphiumMetered
+@Interceptor
+@Priority(Interceptor.Priority.LIBRARY_BEFORE)
+public class MorphiumRepositoryMetricsInterceptor {
+
+    static final String IMPL_SUFFIX = "_MorphiumImpl";
+
+    /** Generated accessors that do not touch the database. */
+    private static final Set<String> NOT_METERED_METHODS = Set.of("morphium", "query");
+    private static final Set<String> WRITE_METHODS = Set.of(
+            "save", "saveAll", "insert", "insertAll", "update", "updateAll");
+    private static final Set<String> DELETE_METHODS = Set.of("delete", "deleteById", "deleteAll");
+
+    private static final MethodMeters NOT_METERED = new MethodMeters(null, null, null, null, null);
+
+    @Inject
+    MeterRegistry registry;
+
+    private final Map<Method, MethodMeters> meters = new ConcurrentHashMap<>();
+
+    @AroundInvoke
+    Object measure(InvocationContext ctx) throws Exception {
+        MethodMeters m = meters.computeIfAbsent(ctx.getMethod(), this::createMeters);
+        if (m == NOT_METERED) {
+            return ctx.proceed();
+        }
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = ctx.proceed();
+        } catch (Exception e) {
+            m.failure().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+        if (result instanceof CompletionStage<?> stage) {
+            Object[] params = ctx.getParameters();
+            return stage.whenComplete((r, error) -> {
+                (error == null ? m.success() : m.failure()).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                if (error == null) {
+                    countDocuments(m, r, params);
+                }
+            });
+        }
+        m.success().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return countDocuments(m, result, ctx.getParameters());
+    }
+
+    /** Updates the document counters; returns the result, wrapped if it is a lazy {@code Stream}. */
+    private static Object countDocuments(MethodMeters m, Object result, Object[] params) {
+        switch (m.operation()) {
+            case WRITE -> m.written().increment(count(params.length > 0 ? params[0] : null));
+            case DELETE -> {
+                if (result instanceof Number n) {
+                    m.written().increment(n.doubleValue());
+                } else if (params.length > 0) {
+                    m.written().increment(count(params[0]));
+                }
+            }
+            case READ -> {
+                if (result instanceof Stream<?> stream) {
+                    Counter returned = m.returned();
+                    return stream.peek(e -> returned.increment());
+                }
+                if (!(result instanceof Number) && !(result instanceof Boolean)) {
+                    m.returned().increment(count(result));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Number of entities in a repository argument or result. Other {@link Iterable}s are not
+     * counted: iterating them would consume one-shot iterables before the caller sees them.
+     */
+    static double count(Object value) {
+        if (value == null) return 0;
+        if (value instanceof Collection<?> c) return c.size();
+        if (value instanceof Page<?> page) return page.content().size();
+        if (value instanceof Object[] array) return array.length;
+        if (value instanceof Optional<?> o) return o.isPresent() ? 1 : 0;
+        if (value instanceof Iterable<?>) return 0;
+        return 1;
+    }
+
+    private MethodMeters createMeters(Method method) {
+        Class<?> impl = method.getDeclaringClass();
+        if (!impl.getName().endsWith(IMPL_SUFFIX) || NOT_METERED_METHODS.contains(method.getName())) {
+            return NOT_METERED;
+        }
+        Class<?> repo = impl;
+        for (Class<?> iface : impl.getInterfaces()) {
+            if (iface.isAnnotationPresent(Repository.class)) {
+                repo = iface;
+                break;
+            }
+        }
+        Method declared;
+        try {
+            declared = repo.getMethod(method.getName(), method.getParameterTypes());
+        } catch (NoSuchMethodException e) {
+            declared = method;
+        }
+
+        String name = method.getName();
+        String kind;
+        if (declared.isAnnotationPresent(Query.class)) {
+            kind = "jdql";
+        } else if (declared.isAnnotationPresent(Find.class) || declared.isAnnotationPresent(Delete.class)
+                || declared.isAnnotationPresent(Insert.class) || declared.isAnnotationPresent(Save.class)
+                || declared.isAnnotationPresent(Update.class)) {
+            kind = "annotated";
+        } else if (name.startsWith("findBy") || name.startsWith("countBy")
+                || name.startsWith("existsBy") || name.startsWith("deleteBy")) {
+            kind = "derived";
+        } else {
+            kind = "crud";
+        }
+
+        Operation operation;
+        if (WRITE_METHODS.contains(name) || declared.isAnnotationPresent(Insert.class)
+                || declared.isAnnotationPresent(Save.class) || declared.isAnnotationPresent(Update.class)) {
+            operation = Operation.WRITE;
+        } else if (DELETE_METHODS.contains(name) || name.startsWith("deleteBy")
+                || declared.isAnnotationPresent(Delete.class)) {
+            operation = Operation.DELETE;
+        } else {
+            operation = Operation.READ;
+        }
+
+        String repository = repo.getSimpleName();
+        return new MethodMeters(
+                timer(repository, name, kind, "success"),
+                timer(repository, name, kind, "failure"),
+                Counter.builder("morphium.repository.documents.returned")
+                        .description("Entities returned by Morphium repository methods")
+                        .tag("repository", repository).tag("method", name)
+                        .register(registry),
+                Counter.builder("morphium.repository.documents.written")
+                        .description("Entities written or deleted by Morphium repository methods")
+                        .tag("repository", repository).tag("method", name)
+                        .register(registry),
+                operation);
+    }
+
+    private Timer timer(String repository, String method, String kind, String outcome) {
+        return Timer.builder("morphium.repository.calls")
+                .description("Duration of Morphium repository method calls")
+                .tag("repository", repository)
+                .tag("method", method)
+                .tag("kind", kind)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private enum Operation { READ, WRITE, DELETE }
+
+    private record MethodMeters(Timer success, Timer failure, Counter returned, Counter written,
+                                Operation operation) {
+    }
+}
@@ -17,6 +17,7 @@ package de.caluga.morphium.quarkus.migration;
 
 import de.caluga.morphium.Morphium;
 import de.caluga.morphium.query.Query;
+import de.caluga.morphium.quarkus.jfr.MigrationStepEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -191,6 +192,10 @@ public class MorphiumMigrationRunner {
         log.info("Executing migration: {} (order={}, author={})",
                 migration.changeId(), migration.order(), migration.author());
 
+        MigrationStepEvent jfr = new MigrationStepEvent();
+        jfr.begin();
+        jfr.changeId = migration.changeId();
+        jfr.order = migration.order();
         long startTime = System.currentTimeMillis();
         Object instance;
         try {
@@ -205,15 +210,19 @@ public class MorphiumMigrationRunner {
             long elapsed = System.currentTimeMillis() - startTime;
             recordExecution(migration, elapsed, MorphiumMigrationEntry.ChangeState.EXECUTED);
             log.info("Migration {} completed in {}ms", migration.changeId(), elapsed);
+            jfr.outcome = "executed";
+            jfr.commit();
 
         } catch (Exception e) {
             long elapsed = System.currentTimeMillis() - startTime;
             recordExecution(migration, elapsed, MorphiumMigrationEntry.ChangeState.FAILED);
             log.error("Migration {} failed after {}ms", migration.changeId(), elapsed, e);
 
-            if (migration.rollbackMethod() != null) {
-                tryRollback(migration, instance);
+            jfr.outcome = "failed";
+            if (migration.rollbackMethod() != null && tryRollback(migration, instance)) {
+                jfr.outcome = "rolled-back";
             }
+            jfr.commit();
 
             throw new RuntimeException("Migration " + migration.changeId() + " failed", e);
         }
@@ -231,7 +240,7 @@ public class MorphiumMigrationRunner {
         }
     }
 
-    private void tryRollback(MigrationInfo migration, Object instance) {
+    private boolean tryRollback(MigrationInfo migration, Object instance) {
         try {
             log.info("Attempting rollback for migration: {}", migration.changeId());
             invokeMigrationMethod(migration.rollbackMethod(), instance);
@@ -246,8 +255,10 @@ public class MorphiumMigrationRunner {
                 entry.setState(MorphiumMigrationEntry.ChangeState.ROLLED_BACK);
                 morphium.store(entry, config.changeLogCollection(), null);
             }
+            return true;
         } catch (Exception re) {
             log.error("Rollback for {} also failed", migration.changeId(), re);
+            return false;
         }
     }
 
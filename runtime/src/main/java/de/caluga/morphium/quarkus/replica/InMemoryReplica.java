@@ -0,0 +1,38 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.replica;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an {@code @Entity} as small, read-mostly reference data that is replicated into
+ * the heap of every instance.
+ *
+ * <p>The whole collection is loaded at startup into an immutable snapshot and reloaded
+ * whenever its change stream reports a modification. Derived repository queries of the form
+ * {@code findBy<Field>[And<Field>...]} (equality only, no sorting, paging or {@code @OrderBy})
+ * are then answered from that snapshot through hash indexes on the queried fields, without
+ * a round trip to MongoDB. All other queries and all writes go to the database as usual.
+ *
+ * <p>Entities returned from the replica are shared between callers and must be treated as
+ * read-only.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface InMemoryReplica {}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.replica;
+
+import de.caluga.morphium.data.AbstractMorphiumRepository;
+import de.caluga.morphium.data.QueryMethodBridge;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Static entry point for generated repository methods of {@link InMemoryReplica} entities.
+ *
+ * <p>The build step routes equality-only {@code findBy*} methods here instead of to
+ * {@link QueryMethodBridge}. If the replica is not loaded, the call is delegated to
+ * {@link QueryMethodBridge} unchanged.
+ */
+public final class InMemoryReplicaBridge {
+
+    private InMemoryReplicaBridge() {
+    }
+
+    /**
+     * Answers a derived equality query from the heap replica.
+     *
+     * @param repo         the repository instance (used for the MongoDB fallback)
+     * @param entityType   the replicated entity class
+     * @param fields       Java field names, in method-name order
+     * @param methodName   derived method name, for the fallback
+     * @param args         method arguments, one per field
+     */
+    public static Object find(AbstractMorphiumRepository<?, ?> repo, Class<?> entityType, String[] fields,
+                              String methodName, Object[] args,
+                              boolean returnsSingle, boolean returnsOptional, boolean returnsStream) {
+        ReplicaStore<?> store = InMemoryReplicaManager.store(entityType);
+        List<?> result = store == null ? null : store.find(fields, args);
+        if (result == null) {
+            return QueryMethodBridge.executeQuery(repo, methodName, args,
+                    returnsSingle, returnsOptional, false, returnsStream, "");
+        }
+        if (returnsOptional) {
+            return result.isEmpty() ? Optional.empty() : Optional.of(result.get(0));
+        }
+        if (returnsSingle) {
+            return result.isEmpty() ? null : result.get(0);
+        }
+        if (returnsStream) {
+            return result.stream();
+        }
+        // Callers of the MongoDB path get a mutable list — keep that contract
+        return new ArrayList<>(result);
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.replica;
+
+import de.caluga.morphium.Morphium;
+import de.caluga.morphium.changestream.ChangeStreamEvent;
+import de.caluga.morphium.changestream.ChangeStreamMonitor;
+import de.caluga.morphium.quarkus.MorphiumCheckpointEvent;
+import de.caluga.morphium.quarkus.MorphiumEntityMetadata;
+import de.caluga.morphium.quarkus.MorphiumRecorder;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Loads and maintains the heap replicas of all {@link InMemoryReplica} entities.
+ *
+ * <p>At startup the change stream monitor is started and every replicated collection is loaded.
+ * {@link ChangeStreamMonitor#start()} only starts the thread that opens the stream and gives no
+ * signal once the stream is open, so a write during the first load could be missed. Every replica
+ * is therefore loaded once more after {@code STREAM_OPEN_DELAY_MS}, by which time the stream is
+ * open and later writes arrive as change events. The stream is filtered on
+ * the server ({@code $match} on {@code ns.coll}), so only writes to replicated collections are
+ * sent. Around a CRaC checkpoint the stream is closed and, after restore, reopened and every
+ * replica reloaded, as writes in between were not observed. Change events for a
+ * replicated collection schedule a full reload of that collection; events arriving while a
+ * reload is pending are coalesced. Replicated collections are small by definition, so a full
+ * reload is cheaper and simpler than patching the snapshot document by document.
+ *
+ * <p>Until a replica is loaded — or after a failed reload — queries fall back to MongoDB.
+ */
+@ApplicationScoped
+public class InMemoryReplicaManager {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryReplicaManager.class);
+
+    /** Coalescing window for bursts of change events on the same collection. */
+    private static final long RELOAD_DELAY_MS = 50;
+    private static final long RETRY_DELAY_MS = 5_000;
+    /** Time after starting the monitor by which its change stream is expected to be open. */
+    private static final long STREAM_OPEN_DELAY_MS = 2_000;
+
+    /** Loaded replicas by entity type; read by the generated repository code via {@link InMemoryReplicaBridge}. */
+    private static final Map<Class<?>, ReplicaStore<?>> STORES = new ConcurrentHashMap<>();
+
+    @Inject
+    Morphium morphium;
+
+    private final AtomicLong reloads = new AtomicLong();
+    private volatile Map<String, ReplicaStore<?>> byCollection = Map.of();
+    private ChangeStreamMonitor monitor;
+    private ScheduledExecutorService reloader;
+
+    static ReplicaStore<?> store(Class<?> type) {
+        return STORES.get(type);
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        Map<String, ReplicaStore<?>> collections = new HashMap<>();
+        ClassLoader cl = Thread.currentThread().getContextClassLoader();
+        for (MorphiumEntityMetadata md : MorphiumRecorder.getEntityMetadata()) {
+            if (!md.isReplicated() || md.getCollectionName() == null) {
+                continue;
+            }
+            try {
+                collections.put(md.getCollectionName(), new ReplicaStore<>(Class.forName(md.getClassName(), false, cl)));
+            } catch (ClassNotFoundException e) {
+                log.warn("In-memory replica: cannot load entity {}", md.getClassName());
+            }
+        }
+        if (collections.isEmpty()) {
+            return;
+        }
+        byCollection = Map.copyOf(collections);
+        reloader = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "morphium-replica-reload");
+            t.setDaemon(true);
+            return t;
+        });
+
+        startMonitor();
+        for (ReplicaStore<?> store : collections.values()) {
+            reload(store);
+            STORES.put(store.type(), store);
+        }
+        // Catch writes made before the change stream was open
+        collections.values().forEach(store -> scheduleReload(store, STREAM_OPEN_DELAY_MS));
+        log.info("In-memory replica: serving {} collection(s) {} from heap",
+                collections.size(), collections.keySet());
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        stopMonitor();
+        if (reloader != null) {
+            reloader.shutdownNow();
+            reloader = null;
+        }
+        STORES.clear();
+        byCollection = Map.of();
+    }
+
+    void onCheckpoint(@Observes MorphiumCheckpointEvent event) {
+        if (byCollection.isEmpty()) {
+            return;
+        }
+        if (event.getPhase() == MorphiumCheckpointEvent.Phase.BEFORE_CHECKPOINT) {
+            stopMonitor();
+        } else {
+            startMonitor();
+            // Writes between checkpoint and restore were not observed; reload again once the
+            // stream is open, as writes during the first reload may be missed too
+            byCollection.values().forEach(store -> scheduleReload(store, 0));
+            ScheduledExecutorService executor = reloader;
+            if (executor != null) {
+                executor.schedule(() -> byCollection.values().forEach(store -> scheduleReload(store, 0)),
+                        STREAM_OPEN_DELAY_MS, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private synchronized void startMonitor() {
+        if (monitor != null) {
+            return;
+        }
+        List<Map<String, Object>> pipeline = List.of(Map.of("$match",
+                Map.of("ns.coll", Map.of("$in", new ArrayList<>(byCollection.keySet())))));
+        monitor = new ChangeStreamMonitor(morphium, null, false, pipeline);
+        monitor.addListener(this::onChange);
+        monitor.start();
+    }
+
+    private synchronized void stopMonitor() {
+        if (monitor != null) {
+            monitor.terminate();
+            monitor = null;
+        }
+    }
+
+    private boolean onChange(ChangeStreamEvent evt) {
+        ReplicaStore<?> store = byCollection.get(evt.getCollectionName());
+        if (store != null) {
+            scheduleReload(store, RELOAD_DELAY_MS);
+        }
+        // Keep watching
+        return true;
+    }
+
+    private void scheduleReload(ReplicaStore<?> store, long delayMs) {
+        ScheduledExecutorService executor = reloader;
+        if (executor != null && store.markReloadPending()) {
+            executor.schedule(() -> reload(store), delayMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void reload(ReplicaStore<?> store) {
+        try {
+            store.reload(morphium);
+            reloads.incrementAndGet();
+        } catch (RuntimeException e) {
+            log.warn("In-memory replica {}: load failed, serving from MongoDB until the next successful reload: {}",
+                    store.type().getSimpleName(), e.getMessage());
+            scheduleReload(store, RETRY_DELAY_MS);
+        }
+    }
+
+    /** Whether the replica of {@code type} is loaded. */
+    public boolean isReady(Class<?> type) {
+        ReplicaStore<?> store = STORES.get(type);
+        return store != null && store.isReady();
+    }
+
+    /** Number of documents held for {@code type}, or {@code -1} if it is not replicated or not loaded. */
+    public int getSize(Class<?> type) {
+        ReplicaStore<?> store = STORES.get(type);
+        return store == null ? -1 : store.size();
+    }
+
+    /** Number of repository queries for {@code type} answered from the heap replica. */
+    public long getServedCount(Class<?> type) {
+        ReplicaStore<?> store = STORES.get(type);
+        return store == null ? 0 : store.servedCount();
+    }
+
+    /** Number of successful replica loads (initial loads included) since startup. */
+    public long getReloadCount() {
+        return reloads.get();
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.replica;
+
+import de.caluga.morphium.Morphium;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Heap replica of one {@code @InMemoryReplica} collection.
+ *
+ * <p>Holds an immutable {@link Snapshot} of all documents. Hash indexes are built per queried
+ * field combination on first use and carried over (rebuilt) on every reload, so a reload never
+ * makes the next lookup pay for index construction. A reload replaces the snapshot atomically;
+ * readers never see a partially loaded collection.
+ */
+final class ReplicaStore<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaStore.class);
+
+    private final Class<T> type;
+    private final Map<String, Field> fieldCache = new ConcurrentHashMap<>();
+    private final AtomicBoolean reloadPending = new AtomicBoolean();
+    private final AtomicLong served = new AtomicLong();
+    private volatile Snapshot<T> snapshot;
+
+    ReplicaStore(Class<T> type) {
+        this.type = type;
+    }
+
+    Class<T> type() {
+        return type;
+    }
+
+    /** Whether a snapshot is loaded and queries can be served from memory. */
+    boolean isReady() {
+        return snapshot != null;
+    }
+
+    /** Number of documents in the current snapshot, {@code -1} if not loaded. */
+    int size() {
+        Snapshot<T> current = snapshot;
+        return current == null ? -1 : current.entities.size();
+    }
+
+    /** Number of queries answered from this replica. */
+    long servedCount() {
+        return served.get();
+    }
+
+    /** Marks a reload as pending; returns {@code false} if one was already pending. */
+    boolean markReloadPending() {
+        return reloadPending.compareAndSet(false, true);
+    }
+
+    /**
+     * Loads the whole collection and swaps in a new snapshot. On failure the snapshot is
+     * dropped — queries fall back to MongoDB rather than serving stale data.
+     */
+    void reload(Morphium morphium) {
+        reloadPending.set(false);
+        Snapshot<T> previous = snapshot;
+        try {
+            List<T> entities = morphium.createQueryFor(type).asList();
+            Snapshot<T> next = new Snapshot<>(Collections.unmodifiableList(new ArrayList<>(entities)));
+            if (previous != null) {
+                for (String key : previous.indexes.keySet()) {
+                    next.index(key, this);
+                }
+            }
+            snapshot = next;
+            log.debug("In-memory replica {}: loaded {} document(s)", type.getSimpleName(), entities.size());
+        } catch (RuntimeException e) {
+            snapshot = null;
+            throw e;
+        }
+    }
+
+    /**
+     * Returns all entities whose {@code fields} equal {@code values} (in declaration order),
+     * or {@code null} if no snapshot is loaded.
+     */
+    List<T> find(String[] fields, Object[] values) {
+        Snapshot<T> current = snapshot;
+        if (current == null) {
+            return null;
+        }
+        Object[] key = new Object[values.length];
+        for (int i = 0; i < values.length; i++) {
+            key[i] = normalize(values[i]);
+        }
+        List<T> result = current.index(String.join(",", fields), this).get(Arrays.asList(key));
+        served.incrementAndGet();
+        return result != null ? result : List.of();
+    }
+
+    private Map<List<Object>, List<T>> buildIndex(List<T> entities, String indexKey) {
+        String[] fieldNames = indexKey.split(",");
+        Field[] fields = new Field[fieldNames.length];
+        for (int i = 0; i < fieldNames.length; i++) {
+            fields[i] = fieldCache.computeIfAbsent(fieldNames[i], this::resolveField);
+        }
+        Map<List<Object>, List<T>> grouped = new HashMap<>();
+        for (T entity : entities) {
+            Object[] key = new Object[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                try {
+                    key[i] = normalize(fields[i].get(entity));
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException("Cannot read " + type.getName() + "." + fields[i].getName(), e);
+                }
+            }
+            grouped.computeIfAbsent(Arrays.asList(key), k -> new ArrayList<>()).add(entity);
+        }
+        grouped.replaceAll((k, v) -> Collections.unmodifiableList(v));
+        return Collections.unmodifiableMap(grouped);
+    }
+
+    private Field resolveField(String name) {
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            try {
+                Field f = c.getDeclaredField(name);
+                f.setAccessible(true);
+                return f;
+            } catch (NoSuchFieldException e) {
+                // try superclass
+            }
+        }
+        throw new IllegalArgumentException("No field " + name + " in " + type.getName());
+    }
+
+    /**
+     * MongoDB compares numbers by value, so {@code 10}, {@code 10L} and {@code 10.0} must hash
+     * alike: integral types become {@code Long}, floating types with an integral value in the
+     * {@code long} range become {@code Long} too, all other floating values {@code Double}.
+     */
+    private static Object normalize(Object value) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof Double || value instanceof Float) {
+            double d = ((Number) value).doubleValue();
+            if (d == Math.rint(d) && d >= Long.MIN_VALUE && d < Long.MAX_VALUE) {
+                return (long) d;
+            }
+            return d;
+        }
+        return value;
+    }
+
+    private static final class Snapshot<T> {
+        final List<T> entities;
+        final Map<String, Map<List<Object>, List<T>>> indexes = new ConcurrentHashMap<>();
+
+        Snapshot(List<T> entities) {
+            this.entities = entities;
+        }
+
+        Map<List<Object>, List<T>> index(String key, ReplicaStore<T> store) {
+            Map<List<Object>, List<T>> idx = indexes.get(key);
+            if (idx == null) {
+                idx = indexes.computeIfAbsent(key, k -> store.buildIndex(entities, k));
+            }
+            return idx;
+        }
+    }
+}
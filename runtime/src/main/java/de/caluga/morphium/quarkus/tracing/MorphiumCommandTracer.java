@@ -0,0 +1,168 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.tracing;
+
+import de.caluga.morphium.Morphium;
+import de.caluga.morphium.ProfilingListener;
+import de.caluga.morphium.ReadAccessType;
+import de.caluga.morphium.WriteAccessType;
+import de.caluga.morphium.quarkus.MorphiumOperations;
+import de.caluga.morphium.quarkus.MorphiumQueryShape;
+import de.caluga.morphium.quarkus.transaction.MorphiumTransactionEvent;
+import de.caluga.morphium.quarkus.transaction.MorphiumTransactionEvent.Phase;
+import de.caluga.morphium.quarkus.transaction.MorphiumTxPhase;
+import de.caluga.morphium.query.Query;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creates OpenTelemetry {@code CLIENT} spans for Morphium commands.
+ *
+ * <p>Reads and writes are reported by Morphium's {@link ProfilingListener} on the calling
+ * thread right after the command completed, together with its duration. The span is created
+ * retroactively with that start time, so it is a child of the current span — usually the
+ * repository span of {@link MorphiumRepositoryTracingInterceptor}. Attributes follow the
+ * OpenTelemetry database conventions:
+ * {@code db.system}, {@code db.namespace}, {@code db.collection.name}, {@code db.operation.name}
+ * and, for reads, {@code db.query.summary} — the filter with all values masked
+ * ({@link MorphiumQueryShape}).
+ *
+ * <p>Transaction commits of {@code @MorphiumTransactional} methods get a {@code commitTransaction}
+ * span between the {@code BEFORE_COMMIT} and {@code AFTER_COMMIT}/{@code AFTER_ROLLBACK} events.
+ */
+@ApplicationScoped
+public class MorphiumCommandTracer {
+
+    private static final ThreadLocal<Span> COMMIT_SPAN = new ThreadLocal<>();
+
+    @Inject
+    Morphium morphium;
+
+    @Inject
+    Tracer tracer;
+
+    private String database;
+    private ProfilingListener listener;
+
+    void onStart(@Observes StartupEvent event) {
+        database = morphium.getConfig().connectionSettings().getDatabase();
+        listener = new ProfilingListener() {
+            @Override
+            public void readAccess(Query query, long time, ReadAccessType t) {
+                traceRead(query, time, t);
+            }
+
+            @Override
+            public void writeAccess(Class type, Object o, long time, boolean isNew, WriteAccessType t) {
+                traceWrite(type, o, time, t);
+            }
+        };
+        morphium.addProfilingListener(listener);
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        // The Morphium instance may outlive this bean (dev-mode connection reuse)
+        if (listener != null) {
+            morphium.removeProfilingListener(listener);
+            listener = null;
+        }
+    }
+
+    private void traceRead(Query<?> query, long timeMs, ReadAccessType type) {
+        SpanBuilder builder = span(MorphiumOperations.read(type), query.getCollectionName(), timeMs)
+                .setAttribute("db.query.summary", MorphiumQueryShape.of(query.toQueryObject()));
+        if (query.getLimit() > 0) {
+            builder.setAttribute("db.query.limit", query.getLimit());
+        }
+        builder.startSpan().end();
+    }
+
+    private void traceWrite(Class<?> type, Object data, long timeMs, WriteAccessType accessType) {
+        String collection = MorphiumOperations.collection(morphium, type);
+        SpanBuilder builder = span(MorphiumOperations.write(accessType), collection, timeMs);
+        if (data instanceof Collection<?> || data instanceof Map<?, ?> batch && !batch.isEmpty()) {
+            builder.setAttribute("db.operation.batch.size", MorphiumOperations.documents(data));
+        }
+        builder.startSpan().end();
+    }
+
+    private SpanBuilder span(String operation, String collection, long timeMs) {
+        long startNanos = TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis() - timeMs);
+        SpanBuilder builder = tracer.spanBuilder(collection != null ? operation + " " + collection : operation)
+                .setSpanKind(SpanKind.CLIENT)
+                .setStartTimestamp(startNanos, TimeUnit.NANOSECONDS)
+                .setAttribute("db.system", "mongodb")
+                .setAttribute("db.operation.name", operation);
+        if (database != null) {
+            builder.setAttribute("db.namespace", database);
+        }
+        if (collection != null) {
+            builder.setAttribute("db.collection.name", collection);
+        }
+        return builder;
+    }
+
+    void beforeCommit(@Observes @Priority(Integer.MAX_VALUE) @MorphiumTxPhase(Phase.BEFORE_COMMIT)
+                      MorphiumTransactionEvent event) {
+        // Runs last among BEFORE_COMMIT observers, right before the commit; no span without
+        // a server transaction (CosmosDB mode fires the events without one)
+        if (morphium.getTransaction() == null) {
+            return;
+        }
+        COMMIT_SPAN.set(tracer.spanBuilder("commitTransaction")
+                .setSpanKind(SpanKind.CLIENT)
+                .setAttribute("db.system", "mongodb")
+                .setAttribute("db.operation.name", "commitTransaction")
+                .startSpan());
+    }
+
+    void afterCommit(@Observes @Priority(0) @MorphiumTxPhase(Phase.AFTER_COMMIT) MorphiumTransactionEvent event) {
+        endCommitSpan(null);
+    }
+
+    void afterRollback(@Observes @Priority(0) @MorphiumTxPhase(Phase.AFTER_ROLLBACK) MorphiumTransactionEvent event) {
+        endCommitSpan(event);
+    }
+
+    private void endCommitSpan(MorphiumTransactionEvent rollback) {
+        Span span = COMMIT_SPAN.get();
+        if (span == null) {
+            return;
+        }
+        COMMIT_SPAN.remove();
+        if (rollback != null) {
+            span.setAttribute("db.operation.name", "abortTransaction");
+            if (rollback.getFailure() != null) {
+                span.recordException(rollback.getFailure());
+            }
+            span.setStatus(StatusCode.ERROR, "transaction rolled back");
+        }
+        span.end();
+    }
+}
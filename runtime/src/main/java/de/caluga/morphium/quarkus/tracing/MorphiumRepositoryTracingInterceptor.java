@@ -0,0 +1,141 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.tracing;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import jakarta.annotation.Priority;
+import jakarta.data.page.Page;
+import jakarta.data.repository.Delete;
+import jakarta.data.repository.Insert;
+import jakarta.data.repository.Repository;
+import jakarta.data.repository.Save;
+import jakarta.data.repository.Update;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Opens an {@code INTERNAL} span {@code <Repository>.<method>} around every generated
+ * repository method and makes it current, so the {@code CLIENT} spans of the Morphium commands
+ * it issues ({@link MorphiumCommandTracer}) become its children.
+ *
+ * <p>For read methods the number of returned entities is recorded as
+ * {@code db.response.returned_rows} (not for lazily consumed {@code Stream} results).
+ */
+@MorphiumTraced
+@Interceptor
+@Priority(Interceptor.Priority.LIBRARY_BEFORE)
+public class MorphiumRepositoryTracingInterceptor {
+
+    private static final String IMPL_SUFFIX = "_MorphiumImpl";
+
+    /** Generated accessors that do not touch the database. */
+    private static final Set<String> NOT_TRACED_METHODS = Set.of("morphium", "query");
+    private static final Set<String> WRITE_METHODS = Set.of(
+            "save", "saveAll", "insert", "insertAll", "update", "updateAll", "delete", "deleteById", "deleteAll");
+    private static final SpanInfo NOT_TRACED = new SpanInfo(null, null, false);
+
+    @Inject
+    Tracer tracer;
+
+    private final Map<Method, SpanInfo> spans = new ConcurrentHashMap<>();
+
+    @AroundInvoke
+    Object trace(InvocationContext ctx) throws Exception {
+        Method method = ctx.getMethod();
+        SpanInfo info = spans.computeIfAbsent(method, MorphiumRepositoryTracingInterceptor::spanInfo);
+        if (info == NOT_TRACED) {
+            return ctx.proceed();
+        }
+        Span span = tracer.spanBuilder(info.name())
+                .setSpanKind(SpanKind.INTERNAL)
+                .setAttribute("db.system", "mongodb")
+                .setAttribute("code.namespace", info.repository())
+                .setAttribute("code.function", method.getName())
+                .startSpan();
+        try (Scope ignored = span.makeCurrent()) {
+            Object result = ctx.proceed();
+            if (info.read()) {
+                long returned = returnedRows(result);
+                if (returned >= 0) {
+                    span.setAttribute("db.response.returned_rows", returned);
+                }
+            }
+            return result;
+        } catch (Exception e) {
+            span.recordException(e);
+            span.setStatus(StatusCode.ERROR, e.getMessage());
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    private static SpanInfo spanInfo(Method method) {
+        Class<?> impl = method.getDeclaringClass();
+        String name = method.getName();
+        if (!impl.getName().endsWith(IMPL_SUFFIX) || NOT_TRACED_METHODS.contains(name)) {
+            return NOT_TRACED;
+        }
+        Class<?> repo = impl;
+        for (Class<?> iface : impl.getInterfaces()) {
+            if (iface.isAnnotationPresent(Repository.class)) {
+                repo = iface;
+                break;
+            }
+        }
+        Method declared;
+        try {
+            declared = repo.getMethod(name, method.getParameterTypes());
+        } catch (NoSuchMethodException e) {
+            declared = method;
+        }
+        boolean write = WRITE_METHODS.contains(name) || name.startsWith("deleteBy")
+                || declared.isAnnotationPresent(Insert.class) || declared.isAnnotationPresent(Save.class)
+                || declared.isAnnotationPresent(Update.class) || declared.isAnnotationPresent(Delete.class);
+        return new SpanInfo(repo.getSimpleName() + "." + name, repo.getName(), !write);
+    }
+
+    /** Entities contained in a result, or {@code -1} if it is not a (countable) read result. */
+    private static long returnedRows(Object result) {
+        if (result == null) return 0;
+        if (result instanceof Number || result instanceof Boolean) return -1;
+        if (result instanceof Collection<?> c) return c.size();
+        if (result instanceof Optional<?> o) return o.isPresent() ? 1 : 0;
+        if (result instanceof Page<?> page) return page.content().size();
+        if (result instanceof Stream<?> || result instanceof CompletionStage<?>) {
+            return -1;
+        }
+        return 1;
+    }
+
+    private record SpanInfo(String name, String repository, boolean read) {
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.transaction;
+
+import java.io.IOException;
+
+/**
+ * Classifies transaction failures by the MongoDB error labels that mark them as retryable.
+ *
+ * <p>Morphium reports server errors as {@code MorphiumDriverException}s whose message
+ * contains the server response, so labels and code names are matched on the messages of the
+ * cause chain. A network error while committing leaves the outcome unknown as well.
+ */
+final class MorphiumTransactionErrors {
+
+    static final String TRANSIENT_TRANSACTION_ERROR = "TransientTransactionError";
+    static final String UNKNOWN_COMMIT_RESULT = "UnknownTransactionCommitResult";
+
+    private static final int MAX_CAUSE_DEPTH = 10;
+
+    private MorphiumTransactionErrors() {
+    }
+
+    /** Whether the whole transaction may be retried (write conflict, transient server state). */
+    static boolean isTransient(Throwable t) {
+        // WriteConflict (code 112) is labelled transient by the server; the label is not
+        // always part of the exception message, so match the code name as well
+        return anyMessageContains(t, TRANSIENT_TRANSACTION_ERROR) || anyMessageContains(t, "WriteConflict");
+    }
+
+    /** Whether a failed commit may have been applied, so that only the commit should be retried. */
+    static boolean isUnknownCommitResult(Throwable t) {
+        if (anyMessageContains(t, UNKNOWN_COMMIT_RESULT)) {
+            return true;
+        }
+        int depth = 0;
+        for (Throwable c = t; c != null && depth < MAX_CAUSE_DEPTH; c = c.getCause(), depth++) {
+            if (c instanceof IOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean anyMessageContains(Throwable t, String text) {
+        int depth = 0;
+        for (Throwable c = t; c != null && depth < MAX_CAUSE_DEPTH; c = c.getCause(), depth++) {
+            String msg = c.getMessage();
+            if (msg != null && msg.contains(text)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
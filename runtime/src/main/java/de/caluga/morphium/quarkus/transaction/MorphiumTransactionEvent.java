@@ -29,14 +29,20 @@ public class MorphiumTransactionEvent {
 
     private final Phase phase;
     private final Exception failure;
+    private final boolean retried;
 
     public MorphiumTransactionEvent(Phase phase) {
         this(phase, null);
     }
 
     public MorphiumTransactionEvent(Phase phase, Exception failure) {
+        this(phase, failure, false);
+    }
+
+    public MorphiumTransactionEvent(Phase phase, Exception failure, boolean retried) {
         this.phase = phase;
         this.failure = failure;
+        this.retried = retried;
     }
 
     public Phase getPhase() {
@@ -47,4 +53,12 @@ public class MorphiumTransactionEvent {
     public Exception getFailure() {
         return failure;
     }
+
+    /**
+     * {@code true} for an {@link Phase#AFTER_ROLLBACK} of an attempt that is retried in a new
+     * transaction; {@code false} when the failure is re-thrown to the caller.
+     */
+    public boolean isRetried() {
+        return retried;
+    }
 }
@@ -15,6 +15,7 @@
  */
 package de.caluga.morphium.quarkus.transaction;
 
+import jakarta.enterprise.util.Nonbinding;
 import jakarta.interceptor.InterceptorBinding;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
@@ -25,8 +26,28 @@ import java.lang.annotation.Target;
  * Interceptor binding that wraps the annotated method (or all methods of a class)
  * in a Morphium transaction. On success the transaction is committed; on exception
  * it is rolled back and the exception is re-thrown.
+ *
+ * <p>With {@link #maxRetries()} &gt; 0, errors MongoDB labels as retryable are retried with
+ * jittered exponential backoff: on {@code TransientTransactionError} (e.g. a write conflict)
+ * the whole method runs again in a new transaction, on {@code UnknownTransactionCommitResult}
+ * only the commit is repeated. The method body must therefore be safe to re-run — side effects
+ * outside MongoDB belong in an {@code AFTER_COMMIT} observer. Retries only apply to the
+ * outermost transactional method; joined inner methods propagate the error to it.
  */
 @InterceptorBinding
 @Target({ElementType.METHOD, ElementType.TYPE})
 @Retention(RetentionPolicy.RUNTIME)
-public @interface MorphiumTransactional {}
+public @interface MorphiumTransactional {
+
+    /** Number of retries after a retryable error; {@code 0} (default) disables retries. */
+    @Nonbinding
+    int maxRetries() default 0;
+
+    /** Backoff before the first retry in milliseconds; doubled for every further retry. */
+    @Nonbinding
+    long backoff() default 20;
+
+    /** Upper bound for the backoff in milliseconds. */
+    @Nonbinding
+    long maxBackoff() default 1000;
+}
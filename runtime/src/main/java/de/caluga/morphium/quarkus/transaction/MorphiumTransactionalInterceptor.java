@@ -17,8 +17,11 @@ package de.caluga.morphium.quarkus.transaction;
 
 import org.jboss.logging.Logger;
 
+import java.util.concurrent.ThreadLocalRandom;
+
 import de.caluga.morphium.Morphium;
 import de.caluga.morphium.driver.MorphiumDriverException;
+import de.caluga.morphium.quarkus.jfr.TransactionEvent;
 import de.caluga.morphium.quarkus.transaction.MorphiumTransactionEvent.Phase;
 import jakarta.enterprise.event.Event;
 import jakarta.inject.Inject;
@@ -34,10 +37,19 @@ import jakarta.interceptor.InvocationContext;
  *   <li>Fires {@link Phase#BEFORE_COMMIT} before committing.</li>
  *   <li>Fires {@link Phase#AFTER_COMMIT} after a successful commit.</li>
  *   <li>On exception: aborts, fires {@link Phase#AFTER_ROLLBACK}, re-throws.</li>
+ *   <li>With {@link MorphiumTransactional#maxRetries()}: re-runs the method in a new
+ *       transaction on {@code TransientTransactionError} and repeats only the commit on
+ *       {@code UnknownTransactionCommitResult}, with jittered exponential backoff.
+ *       Every aborted attempt fires {@code AFTER_ROLLBACK}
+ *       ({@link MorphiumTransactionEvent#isRetried()} tells whether another attempt follows),
+ *       so each {@code BEFORE_COMMIT} is followed by exactly one {@code AFTER_COMMIT} or
+ *       {@code AFTER_ROLLBACK}.</li>
  *   <li>On CosmosDB: skips transaction wrapping but still fires lifecycle events
  *       ({@code BEFORE_COMMIT}/{@code AFTER_COMMIT} on success, {@code AFTER_ROLLBACK}
  *       on exception) so that observers continue to work. A one-time WARN is logged
  *       at startup and per-call at DEBUG.</li>
+ *   <li>Records a JFR {@link TransactionEvent} spanning begin to commit/abort (when enabled
+ *       in the running recording).</li>
  * </ul>
  */
 @MorphiumTransactional
@@ -107,6 +119,8 @@ public class MorphiumTransactionalInterceptor {
             return ctx.proceed();
         }
 
+        TransactionEvent jfr = new TransactionEvent();
+        jfr.begin();
         try {
             morphium.startTransaction();
         } catch (UnsupportedOperationException e) {
@@ -126,23 +140,81 @@ public class MorphiumTransactionalInterceptor {
         if (writeBufferWasEnabled) {
             morphium.disableWriteBufferForThread();
         }
+        Retry retry = new Retry(ctx.getInterceptorBinding(MorphiumTransactional.class));
         try {
-            Object result = ctx.proceed();
-            beforeCommit.fire(new MorphiumTransactionEvent(Phase.BEFORE_COMMIT));
-            safeCommit();
-            afterCommit.fire(new MorphiumTransactionEvent(Phase.AFTER_COMMIT));
-            return result;
-        } catch (Exception e) {
-            safeAbort();
-            afterRollback.fire(new MorphiumTransactionEvent(Phase.AFTER_ROLLBACK, e));
-            throw e;
+            while (true) {
+                try {
+                    Object result = ctx.proceed();
+                    beforeCommit.fire(new MorphiumTransactionEvent(Phase.BEFORE_COMMIT));
+                    long commitStart = System.nanoTime();
+                    commit(retry, ctx);
+                    jfr.commitTime = System.nanoTime() - commitStart;
+                    jfr.outcome = "commit";
+                    afterCommit.fire(new MorphiumTransactionEvent(Phase.AFTER_COMMIT));
+                    return result;
+                } catch (Exception e) {
+                    long abortStart = System.nanoTime();
+                    safeAbort();
+                    jfr.commitTime = System.nanoTime() - abortStart;
+                    boolean retrying = MorphiumTransactionErrors.isTransient(e) && retry.next();
+                    if (!retrying) {
+                        jfr.outcome = "abort";
+                    }
+                    // Fired for every aborted attempt — pairs the BEFORE_COMMIT of a failed commit
+                    afterRollback.fire(new MorphiumTransactionEvent(Phase.AFTER_ROLLBACK, e, retrying));
+                    if (!retrying) {
+                        throw e;
+                    }
+                    log.debugf("Transient transaction error in %s, retrying (%d/%d): %s", describe(ctx),
+                            retry.retries, retry.maxRetries, e.getMessage());
+                    try {
+                        morphium.startTransaction();
+                    } catch (RuntimeException startFailure) {
+                        // e.g. UnsupportedOperationException, or "Cannot start a transaction" from the driver
+                        e.addSuppressed(startFailure);
+                        jfr.outcome = "abort";
+                        afterRollback.fire(new MorphiumTransactionEvent(Phase.AFTER_ROLLBACK, e));
+                        throw e;
+                    }
+                }
+            }
         } finally {
             if (writeBufferWasEnabled) {
                 morphium.enableWriteBufferForThread();
             }
+            if (jfr.shouldCommit()) {
+                jfr.method = describe(ctx);
+                jfr.retries = retry.retries;
+                jfr.commit();
+            }
         }
     }
 
+    /**
+     * Commits, repeating only the commit while its outcome is unknown (the transaction may
+     * already be applied — re-running the method body could apply it twice).
+     */
+    private void commit(Retry retry, InvocationContext ctx) throws Exception {
+        while (true) {
+            try {
+                safeCommit();
+                return;
+            } catch (MorphiumDriverException e) {
+                // The driver must still hold the transaction to commit it again
+                if (morphium.getTransaction() == null
+                        || !MorphiumTransactionErrors.isUnknownCommitResult(e) || !retry.next()) {
+                    throw e;
+                }
+                log.debugf("Unknown commit result in %s, retrying commit (%d/%d): %s", describe(ctx),
+                        retry.retries, retry.maxRetries, e.getMessage());
+            }
+        }
+    }
+
+    private static String describe(InvocationContext ctx) {
+        return ctx.getMethod().getDeclaringClass().getSimpleName() + "." + ctx.getMethod().getName();
+    }
+
     /**
      * Commits the current transaction, tolerating the case where no server-side
      * transaction exists (e.g. when all repository calls were mocked in tests
@@ -191,6 +263,65 @@ public class MorphiumTransactionalInterceptor {
         return msg != null && msg.contains("Cannot start a transaction");
     }
 
+    /**
+     * Retry budget and jittered exponential backoff of one intercepted invocation, shared by
+     * whole-transaction and commit-only retries.
+     */
+    static final class Retry {
+
+        private static final int MAX_DOUBLINGS = 20;
+
+        final int maxRetries;
+        private final long backoffMs;
+        private final long maxBackoffMs;
+        int retries;
+
+        Retry(MorphiumTransactional settings) {
+            this(settings != null ? settings.maxRetries() : 0,
+                    settings != null ? settings.backoff() : 0,
+                    settings != null ? settings.maxBackoff() : 0);
+        }
+
+        Retry(int maxRetries, long backoffMs, long maxBackoffMs) {
+            this.maxRetries = Math.max(0, maxRetries);
+            this.backoffMs = Math.max(0, backoffMs);
+            this.maxBackoffMs = Math.max(this.backoffMs, maxBackoffMs);
+        }
+
+        /**
+         * Consumes one retry and sleeps for the backoff. Returns {@code false} when the budget is
+         * exhausted or the thread is interrupted while waiting.
+         */
+        boolean next() {
+            if (retries >= maxRetries) {
+                return false;
+            }
+            retries++;
+            long delay = delay();
+            if (delay > 0) {
+                try {
+                    Thread.sleep(delay);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Backoff before the current retry: the base backoff doubled per earlier retry, capped at
+         * the maximum, with equal jitter — at least half of it, the rest random — to spread out
+         * contending retries.
+         */
+        long delay() {
+            int doublings = Math.min(Math.max(retries - 1, 0), MAX_DOUBLINGS);
+            // Compare before shifting so that large backoffs cannot overflow
+            long cap = backoffMs > maxBackoffMs >> doublings ? maxBackoffMs : backoffMs << doublings;
+            return cap / 2 + ThreadLocalRandom.current().nextLong(cap - cap / 2 + 1);
+        }
+    }
+
     /**
      * Executes the intercepted method without transaction wrapping but fires
      * the same lifecycle events so that observers (outbox, cleanup, etc.) still work.
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.acme;
+
+import java.util.function.Supplier;
+
+/**
+ * Application code issuing operations in the call-site tests.
+ */
+public class OrderService {
+
+    public String direct(Supplier<String> operation) {
+        return operation.get();
+    }
+
+    public String viaRepository(Supplier<String> operation) {
+        return new OrderRepository_MorphiumImpl().findByStatus(operation);
+    }
+}
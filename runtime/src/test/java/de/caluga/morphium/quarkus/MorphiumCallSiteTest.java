@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus;
+
+import com.acme.OrderRepository_MorphiumImpl;
+import com.acme.OrderService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link MorphiumCallSite}. The callers live in {@code com.acme} because frames
+ * of {@code de.caluga.morphium} are skipped as framework code.
+ */
+@DisplayName("MorphiumCallSite – caller resolution")
+class MorphiumCallSiteTest {
+
+    @Test
+    @DisplayName("a generated repository implementation resolves to Repository.method")
+    void repositoryCaller() {
+        assertThat(new OrderRepository_MorphiumImpl().findByStatus(MorphiumCallSite::resolve))
+                .isEqualTo("OrderRepository.findByStatus");
+    }
+
+    @Test
+    @DisplayName("the repository wins over application frames further up the stack")
+    void repositoryCalledFromService() {
+        assertThat(new OrderService().viaRepository(MorphiumCallSite::resolve))
+                .isEqualTo("OrderRepository.findByStatus");
+    }
+
+    @Test
+    @DisplayName("outside repositories the first application frame is reported with its line")
+    void applicationCaller() {
+        assertThat(new OrderService().direct(MorphiumCallSite::resolve))
+                .matches("OrderService\\.direct:\\d+");
+    }
+}
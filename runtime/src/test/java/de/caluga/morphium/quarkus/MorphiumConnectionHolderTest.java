@@ -0,0 +1,135 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus;
+
+import de.caluga.morphium.Morphium;
+import de.caluga.morphium.driver.MorphiumDriver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link MorphiumConnectionHolder} — when a held connection is reused across
+ * dev-mode reloads and when the {@code @Index} declarations count as changed.
+ */
+@DisplayName("MorphiumConnectionHolder – connection reuse across dev-mode reloads")
+class MorphiumConnectionHolderTest {
+
+    @AfterEach
+    void release() {
+        MorphiumConnectionHolder.close();
+    }
+
+    @Test
+    @DisplayName("nothing is reused before an instance is held")
+    void nothingHeld() {
+        assertThat(MorphiumConnectionHolder.reuse(settings("db", 5000, 0))).isNull();
+    }
+
+    @Test
+    @DisplayName("a connected instance is reused with equal settings")
+    void reusedWithSameSettings() {
+        HeldMorphium held = new HeldMorphium(true);
+        MorphiumConnectionHolder.hold(held, settings("db", 5000, 0), "idx");
+
+        assertThat(MorphiumConnectionHolder.reuse(settings("db", 5000, 0))).isSameAs(held);
+        assertThat(MorphiumConnectionHolder.isHeld(held)).isTrue();
+        assertThat(held.closed).isFalse();
+    }
+
+    @Test
+    @DisplayName("changed settings close the held instance")
+    void closedWhenSettingsChange() {
+        HeldMorphium held = new HeldMorphium(true);
+        MorphiumConnectionHolder.hold(held, settings("db", 5000, 0), "idx");
+
+        assertThat(MorphiumConnectionHolder.reuse(settings("other", 5000, 0))).isNull();
+        assertThat(held.closed).isTrue();
+        assertThat(MorphiumConnectionHolder.isHeld(held)).isFalse();
+    }
+
+    @Test
+    @DisplayName("single-flight timeout and early refresh are part of the settings")
+    void cacheSettingsCompared() {
+        HeldMorphium held = new HeldMorphium(true);
+        MorphiumConnectionHolder.hold(held, settings("db", 5000, 0), "idx");
+        assertThat(MorphiumConnectionHolder.reuse(settings("db", 1000, 0))).isNull();
+
+        held = new HeldMorphium(true);
+        MorphiumConnectionHolder.hold(held, settings("db", 5000, 0), "idx");
+        assertThat(MorphiumConnectionHolder.reuse(settings("db", 5000, 0.8))).isNull();
+        assertThat(held.closed).isTrue();
+    }
+
+    @Test
+    @DisplayName("a disconnected instance is closed instead of reused")
+    void closedWhenDisconnected() {
+        HeldMorphium held = new HeldMorphium(false);
+        MorphiumConnectionHolder.hold(held, settings("db", 5000, 0), "idx");
+
+        assertThat(MorphiumConnectionHolder.reuse(settings("db", 5000, 0))).isNull();
+        assertThat(held.closed).isTrue();
+    }
+
+    @Test
+    @DisplayName("index declarations only count as changed once per new fingerprint")
+    void indexDeclarationsChanged() {
+        MorphiumConnectionHolder.hold(new HeldMorphium(true), settings("db", 5000, 0), "idx-1");
+
+        assertThat(MorphiumConnectionHolder.indexDeclarationsChanged("idx-1")).isFalse();
+        assertThat(MorphiumConnectionHolder.indexDeclarationsChanged("idx-2")).isTrue();
+        assertThat(MorphiumConnectionHolder.indexDeclarationsChanged("idx-2")).isFalse();
+    }
+
+    private static MorphiumConnectionHolder.ConnectionSettings settings(String database, long singleFlightTimeout,
+                                                                        double earlyRefresh) {
+        return new MorphiumConnectionHolder.ConnectionSettings(List.of("localhost:27017"), Optional.empty(),
+                database, "PooledDriver", 10, "primary", Optional.empty(), Optional.empty(), Optional.empty(),
+                "admin", MorphiumRuntimeConfig.IndexCheckMode.NO_CHECK, 5000, true,
+                CacheConfig.CacheBackend.CAFFEINE, Map.of(), true, singleFlightTimeout, earlyRefresh,
+                false, false, false, Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(),
+                Optional.empty(), Optional.empty());
+    }
+
+    /** A Morphium with a driver that only answers {@code isConnected()}, recording {@code close()}. */
+    private static final class HeldMorphium extends Morphium {
+        private final MorphiumDriver driver;
+        boolean closed;
+
+        HeldMorphium(boolean connected) {
+            driver = (MorphiumDriver) Proxy.newProxyInstance(MorphiumDriver.class.getClassLoader(),
+                    new Class<?>[]{MorphiumDriver.class},
+                    (proxy, method, args) -> "isConnected".equals(method.getName()) ? connected : null);
+        }
+
+        @Override
+        public MorphiumDriver getDriver() {
+            return driver;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link MorphiumExplainPlan} — winning plan and execution statistics of
+ * classic and slot-based (MongoDB 7+) explain results.
+ */
+@DisplayName("MorphiumExplainPlan – explain result summaries")
+class MorphiumExplainPlanTest {
+
+    private static final Map<String, Object> INDEX_PLAN = Map.of(
+            "stage", "FETCH",
+            "inputStage", Map.of("stage", "IXSCAN", "indexName", "status_1"));
+
+    @Test
+    @DisplayName("classic plans are read innermost stage first")
+    void classicPlan() {
+        Map<String, Object> explain = Map.of("queryPlanner", Map.of("winningPlan", INDEX_PLAN));
+
+        assertThat(MorphiumExplainPlan.stages(explain)).containsExactly("IXSCAN(status_1)", "FETCH");
+        assertThat(MorphiumExplainPlan.isCollectionScan(explain)).isFalse();
+        assertThat(MorphiumExplainPlan.summary(explain)).isEqualTo("IXSCAN(status_1) <- FETCH");
+    }
+
+    @Test
+    @DisplayName("slot-based plans (MongoDB 7+) are read from the nested queryPlan")
+    void slotBasedPlan() {
+        Map<String, Object> explain = Map.of("queryPlanner", Map.of("winningPlan", Map.of(
+                "queryPlan", Map.of("stage", "COLLSCAN"),
+                "slotBasedPlan", Map.of("stages", "[1] scan s1 ..."))));
+
+        assertThat(MorphiumExplainPlan.stages(explain)).containsExactly("COLLSCAN");
+        assertThat(MorphiumExplainPlan.isCollectionScan(explain)).isTrue();
+    }
+
+    @Test
+    @DisplayName("execution statistics are appended when present")
+    void executionStats() {
+        Map<String, Object> explain = Map.of(
+                "queryPlanner", Map.of("winningPlan", Map.of("queryPlan", INDEX_PLAN)),
+                "executionStats", Map.of("totalDocsExamined", 12, "totalKeysExamined", 12, "nReturned", 10));
+
+        assertThat(MorphiumExplainPlan.summary(explain))
+                .isEqualTo("IXSCAN(status_1) <- FETCH, docsExamined=12, keysExamined=12, returned=10");
+        assertThat(MorphiumExplainPlan.executionStat(explain, "nReturned")).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("missing or unexpected explain results do not fail")
+    void incompleteResults() {
+        assertThat(MorphiumExplainPlan.stages(null)).isEmpty();
+        assertThat(MorphiumExplainPlan.summary(null)).isEqualTo("n/a");
+        assertThat(MorphiumExplainPlan.summary(Map.of("ok", 1.0))).isEqualTo("unknown plan");
+        assertThat(MorphiumExplainPlan.executionStat(Map.of(), "nReturned")).isNull();
+    }
+}
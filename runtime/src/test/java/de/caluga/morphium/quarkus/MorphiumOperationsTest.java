@@ -0,0 +1,115 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus;
+
+import de.caluga.morphium.Morphium;
+import de.caluga.morphium.MorphiumObjectMapper;
+import de.caluga.morphium.ReadAccessType;
+import de.caluga.morphium.WriteAccessType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link MorphiumOperations} — the operation, collection and document count
+ * shared by the profiling listeners.
+ */
+@DisplayName("MorphiumOperations – command naming for profiling listeners")
+class MorphiumOperationsTest {
+
+    @AfterEach
+    void resetMetadata() {
+        new MorphiumRecorder().setEntityMetadata(List.of(), Map.of());
+    }
+
+    @Test
+    @DisplayName("reads are find, count or distinct")
+    void readOperations() {
+        assertThat(MorphiumOperations.read(ReadAccessType.AS_LIST)).isEqualTo("find");
+        assertThat(MorphiumOperations.read(ReadAccessType.AS_ITERABLE)).isEqualTo("find");
+        assertThat(MorphiumOperations.read(ReadAccessType.GET)).isEqualTo("find");
+        assertThat(MorphiumOperations.read(ReadAccessType.ID_QUERY)).isEqualTo("find");
+        assertThat(MorphiumOperations.read(ReadAccessType.COUNT)).isEqualTo("count");
+        assertThat(MorphiumOperations.read(ReadAccessType.DISTINCT)).isEqualTo("distinct");
+    }
+
+    @Test
+    @DisplayName("single and bulk writes share insert / update / delete, others keep their name")
+    void writeOperations() {
+        assertThat(MorphiumOperations.write(WriteAccessType.SINGLE_INSERT)).isEqualTo("insert");
+        assertThat(MorphiumOperations.write(WriteAccessType.BULK_INSERT)).isEqualTo("insert");
+        assertThat(MorphiumOperations.write(WriteAccessType.SINGLE_UPDATE)).isEqualTo("update");
+        assertThat(MorphiumOperations.write(WriteAccessType.BULK_DELETE)).isEqualTo("delete");
+        assertThat(MorphiumOperations.write(WriteAccessType.ENSURE_INDEX)).isEqualTo("ensure_index");
+    }
+
+    @Test
+    @DisplayName("collection comes from the recorded metadata and follows a new recording")
+    void collectionFromMetadata() {
+        Morphium morphium = morphiumNaming(type -> "mapped_name");
+        assertThat(MorphiumOperations.collection(morphium, null)).isNull();
+
+        new MorphiumRecorder().setEntityMetadata(List.of(metadata(MorphiumOperationsTest.class, "ops")), Map.of());
+        assertThat(MorphiumOperations.collection(morphium, MorphiumOperationsTest.class)).isEqualTo("ops");
+
+        new MorphiumRecorder().setEntityMetadata(List.of(metadata(MorphiumOperationsTest.class, "ops_v2")), Map.of());
+        assertThat(MorphiumOperations.collection(morphium, MorphiumOperationsTest.class)).isEqualTo("ops_v2");
+    }
+
+    @Test
+    @DisplayName("types without metadata are named by Morphium's mapper, not by their simple name")
+    void collectionFromMapper() {
+        Morphium morphium = morphiumNaming(type -> "morphium_operations_test");
+        assertThat(MorphiumOperations.collection(morphium, MorphiumOperationsTest.class))
+                .isEqualTo("morphium_operations_test");
+    }
+
+    @Test
+    @DisplayName("batches count their elements, single documents count as one")
+    void documents() {
+        assertThat(MorphiumOperations.documents(List.of("a", "b", "c"))).isEqualTo(3);
+        assertThat(MorphiumOperations.documents(Map.of("a", true, "b", false))).isEqualTo(2);
+        assertThat(MorphiumOperations.documents(new Object())).isEqualTo(1);
+        assertThat(MorphiumOperations.documents(null)).isEqualTo(1);
+    }
+
+    private static Morphium morphiumNaming(Function<Class<?>, String> naming) {
+        MorphiumObjectMapper mapper = (MorphiumObjectMapper) Proxy.newProxyInstance(
+                MorphiumObjectMapper.class.getClassLoader(), new Class<?>[] {MorphiumObjectMapper.class},
+                (proxy, method, args) -> "getCollectionName".equals(method.getName())
+                        ? naming.apply((Class<?>) args[0]) : null);
+        return new Morphium() {
+            @Override
+            public MorphiumObjectMapper getMapper() {
+                return mapper;
+            }
+        };
+    }
+
+    private static MorphiumEntityMetadata metadata(Class<?> type, String collection) {
+        MorphiumEntityMetadata md = new MorphiumEntityMetadata();
+        md.setClassName(type.getName());
+        md.setCollectionName(collection);
+        return md;
+    }
+}
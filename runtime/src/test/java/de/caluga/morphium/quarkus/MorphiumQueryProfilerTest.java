@@ -0,0 +1,146 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus;
+
+import de.caluga.morphium.Morphium;
+import de.caluga.morphium.MorphiumObjectMapper;
+import de.caluga.morphium.WriteAccessType;
+import de.caluga.morphium.quarkus.MorphiumQueryProfiler.ShapeStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the aggregation of {@link MorphiumQueryProfiler} — percentiles, the shape cap,
+ * the one-time explain and the grouping of writes.
+ */
+@DisplayName("MorphiumQueryProfiler – shape aggregation")
+class MorphiumQueryProfilerTest {
+
+    private MorphiumQueryProfiler profiler;
+
+    @BeforeEach
+    void setUp() {
+        MorphiumObjectMapper mapper = (MorphiumObjectMapper) Proxy.newProxyInstance(
+                MorphiumObjectMapper.class.getClassLoader(), new Class<?>[] {MorphiumObjectMapper.class},
+                (proxy, method, args) -> "getCollectionName".equals(method.getName()) ? "orders" : null);
+        profiler = new MorphiumQueryProfiler();
+        profiler.morphium = new Morphium() {
+            @Override
+            public MorphiumObjectMapper getMapper() {
+                return mapper;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("percentiles use the nearest rank of the sorted samples")
+    void percentiles() {
+        long[] hundred = LongStream.rangeClosed(1, 100).toArray();
+        assertThat(ShapeStats.percentile(hundred, 0.50)).isEqualTo(50);
+        assertThat(ShapeStats.percentile(hundred, 0.95)).isEqualTo(95);
+        assertThat(ShapeStats.percentile(new long[] {7}, 0.50)).isEqualTo(7);
+        assertThat(ShapeStats.percentile(new long[] {7}, 0.95)).isEqualTo(7);
+        assertThat(ShapeStats.percentile(new long[0], 0.95)).isZero();
+    }
+
+    @Test
+    @DisplayName("percentiles cover only the last SAMPLES executions")
+    void percentileWindow() {
+        ShapeStats stats = profiler.stats("find", "orders", "{}");
+        for (int i = 0; i < MorphiumQueryProfiler.SAMPLES; i++) {
+            stats.record(1000, 0);
+        }
+        for (int i = 0; i < MorphiumQueryProfiler.SAMPLES; i++) {
+            stats.record(1, 0);
+        }
+        Map<String, Object> row = stats.toRow();
+        assertThat(row.get("p95Ms")).isEqualTo(1L);
+        assertThat(row.get("maxMs")).isEqualTo(1000L);
+        assertThat(row.get("count")).isEqualTo(2L * MorphiumQueryProfiler.SAMPLES);
+    }
+
+    @Test
+    @DisplayName("no new shapes are tracked beyond MAX_SHAPES, known ones keep counting")
+    void shapeCap() {
+        for (int i = 0; i < MorphiumQueryProfiler.MAX_SHAPES; i++) {
+            assertThat(profiler.stats("find", "orders", "{\"f" + i + "\":?}")).isNotNull();
+        }
+        assertThat(profiler.stats("find", "orders", "{\"overflow\":?}")).isNull();
+        assertThat(profiler.stats("find", "orders", "{\"f0\":?}")).isNotNull();
+        assertThat(profiler.getTopShapes(Integer.MAX_VALUE)).hasSize(MorphiumQueryProfiler.MAX_SHAPES);
+    }
+
+    @Test
+    @DisplayName("only the first execution of a shape claims the explain")
+    void explainClaimedOnce() {
+        ShapeStats stats = profiler.stats("find", "orders", "{\"status\":?}");
+        assertThat(stats.claimExplain()).isTrue();
+        assertThat(stats.claimExplain()).isFalse();
+        assertThat(profiler.stats("find", "orders", "{\"status\":?}").claimExplain()).isFalse();
+    }
+
+    @Test
+    @DisplayName("single and bulk writes of a collection are grouped by operation, counting documents")
+    void writeGrouping() {
+        profiler.onWrite(Object.class, new Object(), 4, WriteAccessType.SINGLE_INSERT);
+        profiler.onWrite(Object.class, List.of(1, 2, 3), 6, WriteAccessType.BULK_INSERT);
+        profiler.onWrite(Object.class, new Object(), 2, WriteAccessType.SINGLE_UPDATE);
+
+        List<Map<String, Object>> rows = profiler.getTopShapes(10);
+        assertThat(rows).extracting(r -> r.get("operation")).containsExactly("insert", "update");
+        assertThat(rows.get(0))
+                .containsEntry("collection", "orders")
+                .containsEntry("count", 2L)
+                .containsEntry("totalMs", 10L)
+                .containsEntry("documents", 4L);
+    }
+
+    @Test
+    @DisplayName("top shapes are ordered by total time while recording continues")
+    void topShapesWhileRecording() throws InterruptedException {
+        for (int i = 0; i < 50; i++) {
+            profiler.stats("find", "orders", "{\"f" + i + "\":?}").record(i, 0);
+        }
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread recorder = new Thread(() -> {
+            long n = 0;
+            while (running.get()) {
+                profiler.stats("find", "orders", "{\"f" + (n++ % 50) + "\":?}").record(n % 7, 0);
+            }
+        });
+        recorder.start();
+        try {
+            for (int i = 0; i < 2000; i++) {
+                assertThat(profiler.getTopShapes(10)).hasSize(10);
+            }
+        } finally {
+            running.set(false);
+            recorder.join();
+        }
+        List<Map<String, Object>> rows = profiler.getTopShapes(50);
+        assertThat(rows).extracting(r -> (Long) r.get("totalMs"))
+                .isSortedAccordingTo((a, b) -> Long.compare(b, a));
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link MorphiumQueryShape} — value masking of filter, sort and projection
+ * documents.
+ */
+@DisplayName("MorphiumQueryShape – masked query shapes")
+class MorphiumQueryShapeTest {
+
+    @Test
+    @DisplayName("field values and operator arguments are masked, names and operators kept")
+    void masksValues() {
+        assertThat(MorphiumQueryShape.of(doc("status", "open", "price", doc("$gt", 10))))
+                .isEqualTo("{\"status\":?,\"price\":{\"$gt\":?}}");
+    }
+
+    @Test
+    @DisplayName("nested $and / $or keep the structure of their sub-filters")
+    void keepsLogicalStructure() {
+        Map<String, Object> filter = doc("$or", List.of(
+                doc("$and", List.of(doc("a", 1), doc("b", doc("$in", List.of(1, 2))))),
+                doc("c", "x")));
+        assertThat(MorphiumQueryShape.of(filter))
+                .isEqualTo("{\"$or\":[{\"$and\":[{\"a\":?},{\"b\":{\"$in\":?}}]},{\"c\":?}]}");
+    }
+
+    @Test
+    @DisplayName("arrays of scalars, empty and mixed arrays are masked as a whole")
+    void masksArrays() {
+        assertThat(MorphiumQueryShape.of(doc("tags", List.of("a", "b")))).isEqualTo("{\"tags\":?}");
+        assertThat(MorphiumQueryShape.of(doc("tags", List.of()))).isEqualTo("{\"tags\":?}");
+        assertThat(MorphiumQueryShape.of(doc("mixed", List.of(doc("a", 1), "b")))).isEqualTo("{\"mixed\":?}");
+    }
+
+    @Test
+    @DisplayName("null and empty documents render as {}, null values are masked")
+    void handlesNull() {
+        assertThat(MorphiumQueryShape.of(null)).isEqualTo("{}");
+        assertThat(MorphiumQueryShape.of(Map.of())).isEqualTo("{}");
+        Map<String, Object> nullValue = new HashMap<>();
+        nullValue.put("deletedAt", null);
+        assertThat(MorphiumQueryShape.of(nullValue)).isEqualTo("{\"deletedAt\":?}");
+        assertThat(MorphiumQueryShape.of(doc("a", Arrays.asList(null, null)))).isEqualTo("{\"a\":?}");
+    }
+
+    @Test
+    @DisplayName("sort and projection directions are kept, nested projection operators masked")
+    void rendersSpecs() {
+        assertThat(MorphiumQueryShape.ofSpec(doc("price", -1, "name", 1))).isEqualTo("{\"price\":-1,\"name\":1}");
+        assertThat(MorphiumQueryShape.ofSpec(doc("items", doc("$elemMatch", doc("sku", "A-1")))))
+                .isEqualTo("{\"items\":{\"$elemMatch\":{\"sku\":?}}}");
+        assertThat(MorphiumQueryShape.ofSpec(null)).isEqualTo("{}");
+        assertThat(MorphiumQueryShape.ofSpec(Map.of())).isEqualTo("{}");
+    }
+
+    private static Map<String, Object> doc(Object... keyValues) {
+        Map<String, Object> doc = new LinkedHashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            doc.put((String) keyValues[i], keyValues[i + 1]);
+        }
+        return doc;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the sampling and rate limiting of {@link MorphiumSlowQueryLog}.
+ */
+@DisplayName("MorphiumSlowQueryLog – sampling and rate limiting")
+class MorphiumSlowQueryLogTest {
+
+    @Test
+    @DisplayName("the first slow operation is logged, later ones within the interval are suppressed")
+    void rateLimits() {
+        MorphiumSlowQueryLog slowLog = slowLog(TimeUnit.HOURS.toNanos(1), 1.0);
+
+        assertThat(slowLog.admit()).isTrue();
+        assertThat(slowLog.suppressedSuffix()).isEmpty();
+        assertThat(slowLog.admit()).isFalse();
+        assertThat(slowLog.admit()).isFalse();
+
+        assertThat(slowLog.suppressedSuffix()).isEqualTo(" (2 more slow operation(s) not logged)");
+        // Reported once, then reset
+        assertThat(slowLog.suppressedSuffix()).isEmpty();
+        assertThat(slowLog.getSlowOperationCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("without a log interval every slow operation is logged")
+    void noInterval() {
+        MorphiumSlowQueryLog slowLog = slowLog(0, 1.0);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(slowLog.admit()).isTrue();
+        }
+        assertThat(slowLog.suppressedSuffix()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("sampled-out operations are counted but neither logged nor reported as suppressed")
+    void samples() {
+        MorphiumSlowQueryLog slowLog = slowLog(0, 0.0);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(slowLog.admit()).isFalse();
+        }
+        assertThat(slowLog.getSlowOperationCount()).isEqualTo(5);
+        assertThat(slowLog.suppressedSuffix()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("a sample rate between 0 and 1 logs roughly that fraction")
+    void samplesFraction() {
+        MorphiumSlowQueryLog slowLog = slowLog(0, 0.5);
+
+        int admitted = 0;
+        for (int i = 0; i < 2000; i++) {
+            if (slowLog.admit()) {
+                admitted++;
+            }
+        }
+        assertThat(admitted).isBetween(800, 1200);
+    }
+
+    private static MorphiumSlowQueryLog slowLog(long logIntervalNanos, double sampleRate) {
+        MorphiumSlowQueryLog slowLog = new MorphiumSlowQueryLog();
+        slowLog.configure(0, logIntervalNanos, sampleRate);
+        return slowLog;
+    }
+}
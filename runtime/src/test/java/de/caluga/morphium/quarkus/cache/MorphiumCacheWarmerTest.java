@@ -0,0 +1,97 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the repository method resolution of {@link MorphiumCacheWarmer}.
+ */
+@DisplayName("MorphiumCacheWarmer – warm-up query resolution")
+class MorphiumCacheWarmerTest {
+
+    enum Category { BOOKS, TOYS }
+
+    interface ProductRepository {
+        List<Object> findByCategory(Category category);
+
+        List<Object> findByCategory(String category);
+
+        List<Object> findByStock(int stock);
+
+        List<Object> findByStock(boolean inStock);
+
+        List<Object> findByPrice(int price);
+
+        List<Object> findByPrice(long price);
+
+        List<Object> findByName(String name, int limit);
+    }
+
+    @Test
+    @DisplayName("overloads with the same parameter count are told apart by parameter type")
+    void matchesParameterTypes() {
+        MorphiumCacheWarmer.RepositoryCall call = resolve("findByStock", "true");
+        assertThat(call.method().getParameterTypes()).containsExactly(boolean.class);
+        assertThat(call.args()).containsExactly(true);
+
+        call = resolve("findByStock", "5");
+        assertThat(call.method().getParameterTypes()).containsExactly(int.class);
+        assertThat(call.args()).containsExactly(5);
+    }
+
+    @Test
+    @DisplayName("arguments are converted to the parameter types of the matched method")
+    void convertsArguments() {
+        MorphiumCacheWarmer.RepositoryCall call = resolve("findByName", "warm", " 10");
+        assertThat(call.args()).containsExactly("warm", 10);
+    }
+
+    @Test
+    @DisplayName("an argument accepted by several overloads is rejected as ambiguous")
+    void rejectsAmbiguousOverloads() {
+        assertThatThrownBy(() -> resolve("findByCategory", "BOOKS"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("ambiguous");
+        assertThatThrownBy(() -> resolve("findByPrice", "10"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("findByPrice(int)")
+                .hasMessageContaining("findByPrice(long)");
+    }
+
+    @Test
+    @DisplayName("arguments no overload accepts fail with the candidate signatures")
+    void rejectsUnconvertibleArguments() {
+        assertThatThrownBy(() -> resolve("findByStock", "many"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("findByStock(int)")
+                .hasMessageContaining("findByStock(boolean)");
+        assertThatThrownBy(() -> resolve("findByName", "warm"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("no method findByName");
+    }
+
+    private static MorphiumCacheWarmer.RepositoryCall resolve(String method, String... args) {
+        return MorphiumCacheWarmer.resolve(ProductRepository.class, method, args,
+                ProductRepository.class.getName() + "#" + method + "(" + String.join(",", args) + ")");
+    }
+}
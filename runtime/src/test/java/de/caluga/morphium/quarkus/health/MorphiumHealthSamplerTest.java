@@ -0,0 +1,118 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.health;
+
+import de.caluga.morphium.driver.MorphiumDriver.DriverStatsKey;
+import de.caluga.morphium.quarkus.HealthConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the readiness rules of {@link MorphiumHealthSampler}: a limit only makes the
+ * sample unhealthy once it has been exceeded in every sample for the saturation period.
+ */
+@DisplayName("MorphiumHealthSampler – readiness rules and saturation period")
+class MorphiumHealthSamplerTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private final MorphiumHealthSampler sampler = new MorphiumHealthSampler();
+
+    @Test
+    @DisplayName("a limit exceeded in every sample is reported once the saturation period has passed")
+    void downAfterSaturationPeriod() {
+        HealthConfig health = health(Optional.of(2), Optional.empty(), Optional.empty());
+
+        assertThat(evaluate(health, waiting(5), 0)).isNull();
+        assertThat(evaluate(health, waiting(5), 5 * SECOND)).isNull();
+        assertThat(evaluate(health, waiting(5), 10 * SECOND)).isEqualTo("threadsWaiting 5 > 2");
+        assertThat(evaluate(health, waiting(3), 11 * SECOND)).isEqualTo("threadsWaiting 3 > 2");
+    }
+
+    @Test
+    @DisplayName("one sample back within the limit restarts the saturation period")
+    void resetsWithinLimit() {
+        HealthConfig health = health(Optional.of(2), Optional.empty(), Optional.empty());
+
+        assertThat(evaluate(health, waiting(5), 0)).isNull();
+        assertThat(evaluate(health, waiting(2), 6 * SECOND)).isNull();
+        assertThat(evaluate(health, waiting(5), 8 * SECOND)).isNull();
+        assertThat(evaluate(health, waiting(5), 17 * SECOND)).isNull();
+        assertThat(evaluate(health, waiting(5), 18 * SECOND)).isEqualTo("threadsWaiting 5 > 2");
+    }
+
+    @Test
+    @DisplayName("a failed ping counts as a violation of max-ping-time")
+    void pingErrorIsViolation() {
+        HealthConfig health = health(Optional.empty(), Optional.of(Duration.ofMillis(100)), Optional.empty());
+
+        assertThat(sampler.evaluateRules(health, Map.of(), -1, "timeout", Map.of(), 0)).isNull();
+        assertThat(sampler.evaluateRules(health, Map.of(), -1, "timeout", Map.of(), 10 * SECOND))
+                .isEqualTo("ping failed: timeout");
+        assertThat(sampler.evaluateRules(health, Map.of(), 20, null, Map.of(), 11 * SECOND)).isNull();
+    }
+
+    @Test
+    @DisplayName("ping time and replication lag above their limits are violations")
+    void pingTimeAndReplicationLag() {
+        HealthConfig health = health(Optional.empty(), Optional.of(Duration.ofMillis(100)),
+                Optional.of(Duration.ofSeconds(1)));
+
+        assertThat(sampler.evaluateRules(health, Map.of(), 150, null, Map.of(), 0)).isNull();
+        assertThat(sampler.evaluateRules(health, Map.of(), 150, null, Map.of(), 10 * SECOND))
+                .isEqualTo("pingMs 150.0 > 100");
+        assertThat(sampler.evaluateRules(health, Map.of(), 20, null, Map.of("b:27017", 1500L), 11 * SECOND))
+                .isEqualTo("replicationLagMs 1500 > 1000");
+    }
+
+    @Test
+    @DisplayName("without configured limits a sample is never unhealthy")
+    void noRules() {
+        HealthConfig health = health(Optional.empty(), Optional.empty(), Optional.empty());
+
+        assertThat(evaluate(health, waiting(50), 0)).isNull();
+        assertThat(evaluate(health, waiting(50), 60 * SECOND)).isNull();
+    }
+
+    private String evaluate(HealthConfig health, Map<DriverStatsKey, Double> stats, long now) {
+        return sampler.evaluateRules(health, stats, 5, null, Map.of(), now);
+    }
+
+    private static Map<DriverStatsKey, Double> waiting(int threads) {
+        return Map.of(DriverStatsKey.THREADS_WAITING_FOR_CONNECTION, (double) threads);
+    }
+
+    /** Health configuration with ping enabled and a saturation period of ten seconds. */
+    private static HealthConfig health(Optional<Integer> maxThreadsWaiting, Optional<Duration> maxPingTime,
+                                       Optional<Duration> maxReplicationLag) {
+        return (HealthConfig) Proxy.newProxyInstance(HealthConfig.class.getClassLoader(),
+                new Class<?>[] {HealthConfig.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "ping" -> true;
+                    case "maxThreadsWaiting" -> maxThreadsWaiting;
+                    case "maxPingTime" -> maxPingTime;
+                    case "maxReplicationLag" -> maxReplicationLag;
+                    case "saturationPeriod" -> Duration.ofSeconds(10);
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.health;
+
+import de.caluga.morphium.MorphiumConfig;
+import de.caluga.morphium.driver.MorphiumDriver;
+import de.caluga.morphium.driver.ReadPreference;
+import de.caluga.morphium.driver.ReadPreferenceType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the lag computation and read-preference switching of
+ * {@link MorphiumReplicationLagMonitor}.
+ */
+@DisplayName("MorphiumReplicationLagMonitor – lag per member and read-preference routing")
+class MorphiumReplicationLagMonitorTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    @Test
+    @DisplayName("secondaries lag behind the primary's optime")
+    void lagBehindPrimary() {
+        Map<String, Object> status = status(
+                member("a:27017", "PRIMARY", NOW),
+                member("b:27017", "SECONDARY", NOW - 1500),
+                member("c:27017", "SECONDARY", NOW));
+
+        Map<String, Long> lag = MorphiumReplicationLagMonitor.lagPerMember(status);
+        assertThat(lag).containsExactly(Map.entry("b:27017", 1500L), Map.entry("c:27017", 0L));
+        assertThat(MorphiumReplicationLagMonitor.maxLag(lag)).isEqualTo(1500);
+    }
+
+    @Test
+    @DisplayName("without a primary the most recent member is the reference")
+    void noPrimary() {
+        Map<String, Object> status = status(
+                member("b:27017", "SECONDARY", NOW - 200),
+                member("c:27017", "SECONDARY", NOW));
+
+        assertThat(MorphiumReplicationLagMonitor.lagPerMember(status))
+                .containsExactly(Map.entry("b:27017", 200L), Map.entry("c:27017", 0L));
+    }
+
+    @Test
+    @DisplayName("members without optimeDate and non-data members are ignored")
+    void incompleteMembers() {
+        Map<String, Object> recovering = new HashMap<>();
+        recovering.put("name", "d:27017");
+        recovering.put("stateStr", "SECONDARY");
+        Map<String, Object> status = status(
+                member("a:27017", "PRIMARY", NOW),
+                member("b:27017", "SECONDARY", NOW - 300),
+                member("e:27017", "ARBITER", NOW - 60_000),
+                recovering);
+
+        assertThat(MorphiumReplicationLagMonitor.lagPerMember(status))
+                .containsExactly(Map.entry("b:27017", 300L));
+    }
+
+    @Test
+    @DisplayName("missing or malformed status yields no lag")
+    void noStatus() {
+        assertThat(MorphiumReplicationLagMonitor.lagPerMember(null)).isEmpty();
+        assertThat(MorphiumReplicationLagMonitor.lagPerMember(Map.of("ok", 0.0))).isEmpty();
+        assertThat(MorphiumReplicationLagMonitor.maxLag(Map.of())).isZero();
+    }
+
+    @Test
+    @DisplayName("a read-preference switch reaches the connected driver and the configuration")
+    void appliesReadPreferenceToDriver() {
+        List<ReadPreference> applied = new ArrayList<>();
+        MorphiumDriver driver = (MorphiumDriver) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] {MorphiumDriver.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("setDefaultReadPreference")) {
+                        applied.add((ReadPreference) args[0]);
+                    }
+                    return null;
+                });
+        MorphiumConfig cfg = new MorphiumConfig();
+
+        MorphiumReplicationLagMonitor.applyReadPreference(cfg, driver, "primary");
+        MorphiumReplicationLagMonitor.applyReadPreference(cfg, driver, "secondaryPreferred");
+
+        assertThat(applied).extracting(ReadPreference::getType)
+                .containsExactly(ReadPreferenceType.PRIMARY, ReadPreferenceType.SECONDARY_PREFERRED);
+        assertThat(cfg.driverSettings().getDefaultReadPreference().getType())
+                .isEqualTo(ReadPreferenceType.SECONDARY_PREFERRED);
+    }
+
+    @Test
+    @DisplayName("read preference names are the configuration values, case-insensitive")
+    void parsesReadPreference() {
+        assertThat(MorphiumReplicationLagMonitor.readPreference("nearest").getType()).isEqualTo(ReadPreferenceType.NEAREST);
+        assertThat(MorphiumReplicationLagMonitor.readPreference("PrimaryPreferred").getType())
+                .isEqualTo(ReadPreferenceType.PRIMARY_PREFERRED);
+        assertThatThrownBy(() -> MorphiumReplicationLagMonitor.readPreference("fastest"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Map<String, Object> member(String name, String state, long optime) {
+        Map<String, Object> member = new HashMap<>();
+        member.put("name", name);
+        member.put("stateStr", state);
+        member.put("optimeDate", new Date(optime));
+        return member;
+    }
+
+    @SafeVarargs
+    private static Map<String, Object> status(Map<String, Object>... members) {
+        return Map.of("members", List.of(members));
+    }
+}
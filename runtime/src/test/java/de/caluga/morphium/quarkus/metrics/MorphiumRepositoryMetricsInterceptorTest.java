@@ -0,0 +1,73 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.metrics;
+
+import jakarta.data.page.PageRequest;
+import jakarta.data.page.impl.PageRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the entity counting of {@link MorphiumRepositoryMetricsInterceptor}.
+ */
+@DisplayName("MorphiumRepositoryMetricsInterceptor – entity counts")
+class MorphiumRepositoryMetricsInterceptorTest {
+
+    @Test
+    @DisplayName("collections, arrays, Optionals and pages are counted by their content")
+    void countsContainers() {
+        assertThat(MorphiumRepositoryMetricsInterceptor.count(List.of("a", "b", "c"))).isEqualTo(3);
+        assertThat(MorphiumRepositoryMetricsInterceptor.count(Set.of())).isZero();
+        assertThat(MorphiumRepositoryMetricsInterceptor.count(new String[] {"a", "b"})).isEqualTo(2);
+        assertThat(MorphiumRepositoryMetricsInterceptor.count(Optional.of("a"))).isEqualTo(1);
+        assertThat(MorphiumRepositoryMetricsInterceptor.count(Optional.empty())).isZero();
+        assertThat(MorphiumRepositoryMetricsInterceptor.count(
+                new PageRecord<>(PageRequest.ofSize(10), List.of("a", "b"), 12))).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("single entities count as one, null as zero")
+    void countsSingleValues() {
+        assertThat(MorphiumRepositoryMetricsInterceptor.count("entity")).isEqualTo(1);
+        assertThat(MorphiumRepositoryMetricsInterceptor.count(null)).isZero();
+    }
+
+    @Test
+    @DisplayName("other iterables are not iterated")
+    void doesNotConsumeIterables() {
+        Iterable<String> oneShot = new Iterable<>() {
+            private boolean used;
+
+            @Override
+            public Iterator<String> iterator() {
+                if (used) {
+                    throw new IllegalStateException("already iterated");
+                }
+                used = true;
+                return List.of("a").iterator();
+            }
+        };
+        assertThat(MorphiumRepositoryMetricsInterceptor.count(oneShot)).isZero();
+        assertThat(oneShot).containsExactly("a");
+    }
+}
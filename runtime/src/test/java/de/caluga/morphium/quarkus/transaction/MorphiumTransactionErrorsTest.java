@@ -0,0 +1,86 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.transaction;
+
+import de.caluga.morphium.driver.MorphiumDriverException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link MorphiumTransactionErrors} — which failures retry the whole transaction
+ * and which only the commit.
+ */
+@DisplayName("MorphiumTransactionErrors – retryable error labels")
+class MorphiumTransactionErrorsTest {
+
+    @Test
+    @DisplayName("TransientTransactionError label and WriteConflict are transient, also as causes")
+    void transientErrors() {
+        assertThat(MorphiumTransactionErrors.isTransient(new MorphiumDriverException(
+                "error: {errorLabels=[TransientTransactionError], code=251}"))).isTrue();
+        assertThat(MorphiumTransactionErrors.isTransient(new MorphiumDriverException(
+                "Error: 112 - WriteConflict error: this operation conflicted with another operation"))).isTrue();
+        assertThat(MorphiumTransactionErrors.isTransient(new RuntimeException("store failed",
+                new MorphiumDriverException("WriteConflict")))).isTrue();
+    }
+
+    @Test
+    @DisplayName("other errors, commit-only labels and I/O failures are not transient")
+    void notTransient() {
+        assertThat(MorphiumTransactionErrors.isTransient(new RuntimeException("forced rollback"))).isFalse();
+        assertThat(MorphiumTransactionErrors.isTransient(new RuntimeException((String) null))).isFalse();
+        assertThat(MorphiumTransactionErrors.isTransient(new MorphiumDriverException(
+                "errorLabels=[UnknownTransactionCommitResult]"))).isFalse();
+        assertThat(MorphiumTransactionErrors.isTransient(new MorphiumDriverException("commit failed",
+                new IOException("Connection reset")))).isFalse();
+    }
+
+    @Test
+    @DisplayName("UnknownTransactionCommitResult label or an IOException in the cause chain leave the commit unknown")
+    void unknownCommitResult() {
+        assertThat(MorphiumTransactionErrors.isUnknownCommitResult(new MorphiumDriverException(
+                "error: {errorLabels=[UnknownTransactionCommitResult], codeName=MaxTimeMSExpired}"))).isTrue();
+        assertThat(MorphiumTransactionErrors.isUnknownCommitResult(new MorphiumDriverException("commit failed",
+                new IOException("Connection reset")))).isTrue();
+        assertThat(MorphiumTransactionErrors.isUnknownCommitResult(new MorphiumDriverException("commit failed",
+                new RuntimeException("read failed", new SocketTimeoutException("Read timed out"))))).isTrue();
+    }
+
+    @Test
+    @DisplayName("other commit failures are not retried as unknown")
+    void knownCommitResult() {
+        assertThat(MorphiumTransactionErrors.isUnknownCommitResult(new MorphiumDriverException(
+                "errorLabels=[TransientTransactionError]"))).isFalse();
+        assertThat(MorphiumTransactionErrors.isUnknownCommitResult(new MorphiumDriverException(
+                "NoSuchTransaction"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("the cause chain is followed to a bounded depth")
+    void boundedCauseDepth() {
+        Throwable deep = new MorphiumDriverException("TransientTransactionError", new IOException("reset"));
+        for (int i = 0; i < 20; i++) {
+            deep = new RuntimeException("wrapper " + i, deep);
+        }
+        assertThat(MorphiumTransactionErrors.isTransient(deep)).isFalse();
+        assertThat(MorphiumTransactionErrors.isUnknownCommitResult(deep)).isFalse();
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.transaction;
+
+import de.caluga.morphium.quarkus.transaction.MorphiumTransactionalInterceptor.Retry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the retry budget and backoff of {@link MorphiumTransactionalInterceptor}.
+ */
+@DisplayName("MorphiumTransactionalInterceptor – retry budget and backoff")
+class MorphiumTransactionalInterceptorTest {
+
+    @Test
+    @DisplayName("next() allows exactly maxRetries retries")
+    void budget() {
+        Retry retry = new Retry(3, 0, 0);
+        assertThat(retry.next()).isTrue();
+        assertThat(retry.next()).isTrue();
+        assertThat(retry.next()).isTrue();
+        assertThat(retry.next()).isFalse();
+        assertThat(retry.retries).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("no retry without a budget, negative settings count as zero")
+    void noBudget() {
+        assertThat(new Retry(0, 10, 100).next()).isFalse();
+        Retry negative = new Retry(-1, -5, -5);
+        assertThat(negative.next()).isFalse();
+        assertThat(negative.maxRetries).isZero();
+        assertThat(new Retry(null).next()).isFalse();
+    }
+
+    @Test
+    @DisplayName("the delay doubles per retry within [cap/2, cap] and stops at maxBackoff")
+    void delayBounds() {
+        Retry retry = new Retry(10, 20, 100);
+        long[] caps = {20, 40, 80, 100, 100};
+        for (long cap : caps) {
+            retry.retries++;
+            for (int i = 0; i < 200; i++) {
+                assertThat(retry.delay()).isBetween(cap / 2, cap);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("large backoffs and many retries do not overflow")
+    void delayOverflow() {
+        Retry retry = new Retry(Integer.MAX_VALUE, Long.MAX_VALUE / 2, Long.MAX_VALUE);
+        retry.retries = 64;
+        assertThat(retry.delay()).isBetween(Long.MAX_VALUE / 2, Long.MAX_VALUE);
+
+        Retry small = new Retry(Integer.MAX_VALUE, 1, 1000);
+        small.retries = 1000;
+        assertThat(small.delay()).isBetween(500L, 1000L);
+    }
+
+    @Test
+    @DisplayName("an interrupted backoff ends the retries and keeps the interrupt flag")
+    void interrupted() {
+        Retry retry = new Retry(3, 50, 50);
+        Thread.currentThread().interrupt();
+        try {
+            assertThat(retry.next()).isFalse();
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        } finally {
+            Thread.interrupted();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2025 The Quarkiverse Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.caluga.morphium.quarkus.testing;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link InMemMorphiumTestProfile} that turns Morphium's runtime diagnostics into test failures.
+ *
+ * <pre>{@code
+ * @QuarkusTest
+ * @TestProfile(StrictMorphiumTestProfile.class)
+ * class OrderResourceTest { ... }
+ * }</pre>
+ *
+ * <p>In addition to the in-memory driver settings, this profile sets:
+ * <ul>
+ *   <li>{@code quarkus.morphium.n-plus-one.threshold=10} and {@code n-plus-one.fail=true} – a
+ *       request running the same query shape more than 10 times fails (N+1 loop)</li>
+ *   <li>{@code quarkus.morphium.blocking-detector.strict=true} – Morphium calls on a Vert.x
+ *       event-loop thread fail</li>
+ * </ul>
+ *
+ * <p>Subclass and override {@link #nPlusOneThreshold()} to use a different threshold.
+ */
+public class StrictMorphiumTestProfile extends InMemMorphiumTestProfile {
+
+    @Override
+    public Map<String, String> getConfigOverrides() {
+        Map<String, String> overrides = new HashMap<>(super.getConfigOverrides());
+        overrides.put("quarkus.morphium.n-plus-one.threshold", String.valueOf(nPlusOneThreshold()));
+        overrides.put("quarkus.morphium.n-plus-one.fail", "true");
+        overrides.put("quarkus.morphium.blocking-detector.strict", "true");
+        return overrides;
+    }
+
+    /** Maximum executions of one query shape per request. */
+    protected int nPlusOneThreshold() {
+        return 10;
+    }
+}